@@ -0,0 +1,206 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.domain.VersionedUpdateResult;
+import com.sportradar.repository.ConcurrentGameRepository;
+import com.sportradar.repository.GameRepository;
+import com.sportradar.service.AsyncGameService;
+import com.sportradar.service.AsyncGameServiceImpl;
+import com.sportradar.service.GameService;
+import com.sportradar.service.GameServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Score updates through {@link GameServiceImpl} and {@link AsyncGameServiceImpl} when every write blocks for
+ * {@code persistMicros}, as a synchronously flushed journal would. Each invocation applies {@value #BATCH} updates
+ * spread round-robin over {@code matches} fixtures:
+ * <ul>
+ *     <li>{@code sync}: the caller applies them one by one, as an I/O thread calling the service does.</li>
+ *     <li>{@code syncOnPlatformPool}: a pool of {@value #POOL_THREADS} platform threads applies them, without any
+ *     ordering per match.</li>
+ *     <li>{@code async}: the caller submits all of them and waits for the futures; updates of one match stay in
+ *     order.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncGameServiceBenchmark {
+
+    private static final int BATCH = 1_000;
+    private static final int POOL_THREADS = 16;
+
+    @Param({"0", "100"})
+    public int persistMicros;
+
+    @Param({"10", "100"})
+    public int matches;
+
+    private GameService gameService;
+    private AsyncGameService asyncGameService;
+    private ExecutorService platformPool;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int score;
+
+    @Setup(Level.Trial)
+    public void startServices() {
+        gameService = new GameServiceImpl(new BlockingGameRepository(new ConcurrentGameRepository(), persistMicros * 1_000L));
+        asyncGameService = new AsyncGameServiceImpl(gameService);
+        platformPool = Executors.newFixedThreadPool(POOL_THREADS);
+        homeTeams = new String[matches];
+        awayTeams = new String[matches];
+        for (int i = 0; i < matches; i++) {
+            homeTeams[i] = "Home " + i;
+            awayTeams[i] = "Away " + i;
+            gameService.startGame(homeTeams[i], awayTeams[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServices() {
+        asyncGameService.close();
+        platformPool.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Game sync() {
+        Game game = null;
+        for (int i = 0; i < BATCH; i++) {
+            game = gameService.updateScore(homeTeams[i % matches], awayTeams[i % matches], ++score, 0);
+        }
+        return game;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Game syncOnPlatformPool() throws Exception {
+        final Future<?>[] updates = new Future<?>[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            final int match = i % matches;
+            final int nextScore = ++score;
+            updates[i] = platformPool.submit(() -> gameService.updateScore(homeTeams[match], awayTeams[match], nextScore, 0));
+        }
+        for (Future<?> update : updates) {
+            update.get();
+        }
+        return (Game) updates[BATCH - 1].get();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Game async() {
+        @SuppressWarnings("unchecked") final CompletableFuture<Game>[] updates = new CompletableFuture[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            updates[i] = asyncGameService.updateScore(homeTeams[i % matches], awayTeams[i % matches], ++score, 0);
+        }
+        CompletableFuture.allOf(updates).join();
+        return updates[BATCH - 1].join();
+    }
+
+    /**
+     * Parks the writing thread for a fixed time after every write, like a journal forced to disk on each append.
+     */
+    private record BlockingGameRepository(GameRepository delegate, long persistNanos) implements GameRepository {
+
+        private <T> T persisted(T result) {
+            if (persistNanos > 0) {
+                LockSupport.parkNanos(persistNanos);
+            }
+            return result;
+        }
+
+        @Override
+        public Game save(Game game) {
+            return persisted(delegate.save(game));
+        }
+
+        @Override
+        public Optional<Game> saveIfAbsent(Game game) {
+            return persisted(delegate.saveIfAbsent(game));
+        }
+
+        @Override
+        public Optional<Game> saveIfTeamsFree(Game game) {
+            return persisted(delegate.saveIfTeamsFree(game));
+        }
+
+        @Override
+        public Optional<Game> findByTeams(String homeTeam, String awayTeam) {
+            return delegate.findByTeams(homeTeam, awayTeam);
+        }
+
+        @Override
+        public List<Game> findGamesByTeam(String team) {
+            return delegate.findGamesByTeam(team);
+        }
+
+        @Override
+        public Optional<Game> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+            return persisted(delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore));
+        }
+
+        @Override
+        public Optional<VersionedUpdateResult> updateScoreIfNewer(String homeTeam, String awayTeam, int homeScore, int awayScore, long version) {
+            return persisted(delegate.updateScoreIfNewer(homeTeam, awayTeam, homeScore, awayScore, version));
+        }
+
+        @Override
+        public List<Optional<Game>> updateScores(List<ScoreUpdate> updates) {
+            return persisted(delegate.updateScores(updates));
+        }
+
+        @Override
+        public List<Game> findAll() {
+            return delegate.findAll();
+        }
+
+        @Override
+        public List<Game> findAllByTotalScoreAndReverseOrder() {
+            return delegate.findAllByTotalScoreAndReverseOrder();
+        }
+
+        @Override
+        public List<Game> findAllByTotalScoreAndReverseOrder(int offset, int limit) {
+            return delegate.findAllByTotalScoreAndReverseOrder(offset, limit);
+        }
+
+        @Override
+        public boolean delete(Game game) {
+            persisted(null);
+            return delegate.delete(game);
+        }
+
+        @Override
+        public Optional<Game> deleteByTeams(String homeTeam, String awayTeam) {
+            return persisted(delegate.deleteByTeams(homeTeam, awayTeam));
+        }
+    }
+}
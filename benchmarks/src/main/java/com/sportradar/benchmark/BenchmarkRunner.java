@@ -0,0 +1,52 @@
+package com.sportradar.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * Runs {@link GameServiceBenchmark} once per thread count and stores each run as JSON in {@code results/}, named
+ * after the start time and thread count, so runs can be compared over time. Thread counts come from the
+ * {@code threads} system property (default {@code 1,2,4,8}); runs with more than one thread use only thread-safe
+ * repositories. Any other arguments are passed to JMH, e.g. {@code -p boardSize=1000} or {@code -wi 1}.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final Path results = Files.createDirectories(Path.of(System.getProperty("results", "results")));
+        final String startedAt = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        final String[] threadSafeRepositories = Arrays.stream(RepositoryType.values())
+                .filter(RepositoryType::isThreadSafe)
+                .map(Enum::name)
+                .toArray(String[]::new);
+
+        for (String threads : System.getProperty("threads", "1,2,4,8").split(",")) {
+            final int threadCount = Integer.parseInt(threads.trim());
+            final ChainedOptionsBuilder options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .include(GameServiceBenchmark.class.getName())
+                    .threads(threadCount)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(results.resolve(startedAt + "-threads-" + threadCount + ".json").toString());
+            if (threadCount > 1) {
+                options.param("repository", threadSafeRepositories);
+            }
+            new Runner(options.build()).run();
+        }
+    }
+}
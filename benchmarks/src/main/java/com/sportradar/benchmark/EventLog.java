@@ -0,0 +1,51 @@
+package com.sportradar.benchmark;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes recorded feeds as text, one {@link MatchEvent} per line:
+ * {@code offsetMillis TAB type TAB homeTeam TAB awayTeam TAB homeScore TAB awayScore}. Events must be ordered by
+ * offset, and team names must not contain tabs or line breaks.
+ */
+public final class EventLog {
+
+    private static final String SEPARATOR = "\t";
+    private static final int FIELDS = 6;
+
+    private EventLog() {
+    }
+
+    public static void write(Path file, List<MatchEvent> events) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (MatchEvent event : events) {
+                writer.write(String.join(SEPARATOR, Long.toString(event.offsetMillis()), event.type().name(),
+                        event.homeTeam(), event.awayTeam(), Integer.toString(event.homeScore()), Integer.toString(event.awayScore())));
+                writer.newLine();
+            }
+        }
+    }
+
+    public static List<MatchEvent> read(Path file) throws IOException {
+        final List<MatchEvent> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                final String[] fields = line.split(SEPARATOR, -1);
+                if (fields.length != FIELDS) {
+                    throw new IOException("Malformed event on line " + lineNumber + " of " + file + ": " + line);
+                }
+                events.add(new MatchEvent(Long.parseLong(fields[0]), MatchEvent.Type.valueOf(fields[1]), fields[2], fields[3],
+                        Integer.parseInt(fields[4]), Integer.parseInt(fields[5])));
+            }
+        }
+        return events;
+    }
+}
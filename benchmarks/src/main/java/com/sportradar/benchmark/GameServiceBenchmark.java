@@ -0,0 +1,126 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.domain.Game;
+import com.sportradar.repository.GameRepository;
+import com.sportradar.service.GameService;
+import com.sportradar.service.GameServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of {@link GameService} on a board pre-filled with {@code boardSize} games. Every benchmark leaves the
+ * board size unchanged, so {@code startGame} and {@code finishGame} are measured as a pair on a fixture that is not
+ * on the board. Run with more than one thread only against a thread-safe repository (see {@link BenchmarkRunner}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameServiceBenchmark {
+
+    private static final int TEAMS = 1_000;
+    private static final int UPDATES_PER_FIXTURE = 20;
+
+    @Param({"IN_MEMORY", "INDEXED", "CONCURRENT", "COLUMNAR"})
+    public RepositoryType repository;
+
+    @Param({"10", "1000", "100000"})
+    public int boardSize;
+
+    private GameService gameService;
+    private String[] homeTeams;
+    private String[] awayTeams;
+
+    /**
+     * Bulk-loads the board through {@link GameRepository#save} instead of {@code startGame}. The fixtures are
+     * distinct by construction, so the duplicate check of {@code startGame} is not needed, and skipping it keeps the
+     * setup linear: on {@code IN_MEMORY} that check is a scan of the board, which made a 100,000-game setup
+     * quadratic.
+     */
+    @Setup(Level.Trial)
+    public void fillBoard() {
+        final GameRepository gameRepository = repository.create();
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            homeTeams[i] = "Home " + i % TEAMS;
+            awayTeams[i] = "Away " + i / TEAMS;
+            gameRepository.save(Game.createNew(homeTeams[i], awayTeams[i]));
+        }
+        gameService = new GameServiceImpl(gameRepository);
+    }
+
+    @State(Scope.Thread)
+    public static class Fixture {
+        private final String homeTeam = "Outsider " + Thread.currentThread().threadId();
+        private final String awayTeam = "Visitor " + Thread.currentThread().threadId();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Mix {
+        /**
+         * Share of {@link #mixed} operations that update a score; the rest read the full summary.
+         */
+        @Param({"10", "50", "90"})
+        public int writePercent;
+    }
+
+    @Benchmark
+    public Game startAndFinishGame(Fixture fixture) {
+        final Game game = gameService.startGame(fixture.homeTeam, fixture.awayTeam);
+        gameService.finishGame(fixture.homeTeam, fixture.awayTeam);
+        return game;
+    }
+
+    /**
+     * A whole fixture on the calling thread's own teams: start, {@value #UPDATES_PER_FIXTURE} score updates and
+     * finish. Threads never touch each other's games, so {@link BenchmarkRunner}'s runs per thread count show how
+     * independent writers scale on a thread-safe repository.
+     */
+    @Benchmark
+    public Game playFixture(Fixture fixture) {
+        Game game = gameService.startGame(fixture.homeTeam, fixture.awayTeam);
+        for (int score = 1; score <= UPDATES_PER_FIXTURE; score++) {
+            game = gameService.updateScore(fixture.homeTeam, fixture.awayTeam, score, 0);
+        }
+        gameService.finishGame(fixture.homeTeam, fixture.awayTeam);
+        return game;
+    }
+
+    @Benchmark
+    public Game updateScore() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int game = random.nextInt(boardSize);
+        return gameService.updateScore(homeTeams[game], awayTeams[game], random.nextInt(10), random.nextInt(10));
+    }
+
+    @Benchmark
+    public List<Game> getSummaryByTotalScoreAndReverseOrder() {
+        return gameService.getSummaryByTotalScoreAndReverseOrder();
+    }
+
+    @Benchmark
+    public Object mixed(Mix mix) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextInt(100) < mix.writePercent) {
+            return updateScore();
+        }
+        return gameService.getSummaryByTotalScoreAndReverseOrder();
+    }
+}
@@ -0,0 +1,21 @@
+package com.sportradar.benchmark;
+
+/**
+ * One feed event of a tournament day, due {@code offsetMillis} after the day started. Goals and corrections carry
+ * the score after the event; starts and finishes carry the score the game has at that point.
+ */
+public record MatchEvent(
+        long offsetMillis,
+        Type type,
+        String homeTeam,
+        String awayTeam,
+        int homeScore,
+        int awayScore
+) {
+    public enum Type {
+        START,
+        GOAL,
+        CORRECTION,
+        FINISH
+    }
+}
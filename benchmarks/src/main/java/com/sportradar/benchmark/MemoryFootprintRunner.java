@@ -0,0 +1,104 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.domain.Game;
+import com.sportradar.repository.GameRepository;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.List;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Measures the retained heap per game of every {@link RepositoryType}: the live bytes reported by a class histogram
+ * (the same full-GC heap walk as {@code jcmd <pid> GC.class_histogram}) with the filled repository reachable, minus
+ * the live bytes before filling it. Team name strings are created up front and shared by all repositories, so they
+ * are not counted. Each repository is measured right after filling it and again after one
+ * {@code findAll()} and one summary read, which shows what read caches and snapshots retain. Settings are system
+ * properties:
+ * <ul>
+ *     <li>{@code games} (100,000) and {@code teams} (1,000): board size and distinct team names.</li>
+ *     <li>{@code runs} (5): measurements per repository; the median is reported.</li>
+ *     <li>{@code repositories}: comma-separated {@link RepositoryType}s to run instead of all.</li>
+ * </ul>
+ */
+public final class MemoryFootprintRunner {
+
+    private static final String DIAGNOSTIC_COMMAND = "com.sun.management:type=DiagnosticCommand";
+
+    private MemoryFootprintRunner() {
+    }
+
+    public static void main(String[] args) throws JMException {
+        final int games = Integer.getInteger("games", 100_000);
+        final int teams = Integer.getInteger("teams", 1_000);
+        final int runs = Integer.getInteger("runs", 5);
+        if (games > (long) teams * (teams - 1)) {
+            throw new IllegalArgumentException(teams + " teams cannot play " + games + " distinct games");
+        }
+        final List<RepositoryType> repositories = Arrays.stream(System.getProperty("repositories", String.join(",",
+                        Arrays.stream(RepositoryType.values()).map(Enum::name).toList())).split(","))
+                .map(name -> RepositoryType.valueOf(name.trim()))
+                .toList();
+        final String[] teamNames = new String[teams];
+        for (int team = 0; team < teams; team++) {
+            teamNames[team] = "Team " + team;
+        }
+
+        System.out.printf("%d games over %d teams, bytes per game (filled / after reads)%n", games, teams);
+        for (RepositoryType repository : repositories) {
+            final long[] filled = new long[runs];
+            final long[] afterReads = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                final long[] retained = measure(repository, teamNames, games);
+                filled[run] = retained[0];
+                afterReads[run] = retained[1];
+            }
+            System.out.printf("%-10s %8.1f %8.1f%n", repository, (double) median(filled) / games, (double) median(afterReads) / games);
+        }
+    }
+
+    /**
+     * Returns the retained bytes after filling and after reading. Runs in its own frame, so the repository of the
+     * previous run is unreachable when the baseline is taken.
+     */
+    private static long[] measure(RepositoryType type, String[] teamNames, int games) throws JMException {
+        final long before = liveHeapBytes();
+        final GameRepository repository = fill(type.create(), teamNames, games);
+        final long filled = liveHeapBytes() - before;
+        repository.findAll();
+        repository.findAllByTotalScoreAndReverseOrder();
+        final long afterReads = liveHeapBytes() - before;
+        Reference.reachabilityFence(repository);
+        return new long[]{filled, afterReads};
+    }
+
+    private static long median(long[] values) {
+        final long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static GameRepository fill(GameRepository repository, String[] teamNames, int games) {
+        final int teams = teamNames.length;
+        for (int game = 0; game < games; game++) {
+            final int home = game % teams;
+            final int away = (home + 1 + (game / teams) % (teams - 1)) % teams;
+            repository.save(Game.createWithScores(teamNames[home], teamNames[away], game % 5, game % 3));
+        }
+        return repository;
+    }
+
+    /**
+     * Total bytes of the last line of the class histogram, {@code Total <instances> <bytes>}.
+     */
+    private static long liveHeapBytes() throws JMException {
+        final String histogram = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName(DIAGNOSTIC_COMMAND), "gcClassHistogram",
+                new Object[]{new String[0]}, new String[]{String[].class.getName()});
+        final String lines = histogram.strip();
+        final String total = lines.substring(lines.lastIndexOf('\n') + 1).trim();
+        return Long.parseLong(total.split("\\s+")[2]);
+    }
+}
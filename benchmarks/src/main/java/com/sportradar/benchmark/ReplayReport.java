@@ -0,0 +1,53 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.metrics.LatencySnapshot;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of one {@link TournamentReplay} run. {@code lag} is how late events were applied against their schedule,
+ * and is empty for an unpaced run. {@code allocatedBytes} is what the replay threads allocated, the service calls
+ * being all they do while measured.
+ */
+public record ReplayReport(
+        String name,
+        long events,
+        long elapsedNanos,
+        long failures,
+        long allocatedBytes,
+        Map<MatchEvent.Type, LatencySnapshot> latency,
+        LatencySnapshot lag
+) {
+    public double eventsPerSecond() {
+        return events / (elapsedNanos / 1e9);
+    }
+
+    public double allocatedMegabytesPerSecond() {
+        return allocatedBytes / 1e6 / (elapsedNanos / 1e9);
+    }
+
+    public double allocatedBytesPerEvent() {
+        return (double) allocatedBytes / Math.max(events, 1);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%s: %d events in %.2f s = %.0f events/s, %d failures%n", name, events, elapsedNanos / 1e9,
+                eventsPerSecond(), failures);
+        out.printf("  allocation: %.1f MB/s, %.0f bytes/event%n", allocatedMegabytesPerSecond(), allocatedBytesPerEvent());
+        latency.forEach((type, snapshot) -> print(out, type.name().toLowerCase(), snapshot));
+        if (lag.count() > 0) {
+            print(out, "lag", lag);
+        }
+    }
+
+    private static void print(PrintStream out, String label, LatencySnapshot latency) {
+        out.printf("  %-10s %9d, us: mean %.1f, p50 %.1f, p99 %.1f, p99.9 %.1f, max %.1f%n", label, latency.count(),
+                micros(latency.mean()), micros(latency.p50()), micros(latency.p99()), micros(latency.p999()), micros(latency.max()));
+    }
+
+    private static double micros(long nanos) {
+        return nanos / (double) TimeUnit.MICROSECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,33 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.repository.ColumnarGameRepository;
+import com.sportradar.repository.ConcurrentGameRepository;
+import com.sportradar.repository.GameRepository;
+import com.sportradar.repository.InMemoryGameRepository;
+import com.sportradar.repository.IndexedGameRepository;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+public enum RepositoryType {
+    IN_MEMORY(() -> new InMemoryGameRepository(new ArrayList<>()), false),
+    INDEXED(IndexedGameRepository::new, false),
+    CONCURRENT(ConcurrentGameRepository::new, true),
+    COLUMNAR(ColumnarGameRepository::new, false);
+
+    private final Supplier<GameRepository> factory;
+    private final boolean threadSafe;
+
+    RepositoryType(Supplier<GameRepository> factory, boolean threadSafe) {
+        this.factory = factory;
+        this.threadSafe = threadSafe;
+    }
+
+    public GameRepository create() {
+        return factory.get();
+    }
+
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+}
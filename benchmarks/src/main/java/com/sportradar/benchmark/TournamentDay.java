@@ -0,0 +1,73 @@
+package com.sportradar.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the feed of a tournament day: {@code matches} fixtures kicking off at even intervals across
+ * {@code kickoffWindow}, goals arriving as a Poisson process of {@value #GOALS_PER_MATCH} per match on average, a
+ * share of them disallowed a few minutes later, and a finish after full time plus stoppage. The same seed always
+ * gives the same day.
+ */
+public final class TournamentDay {
+
+    static final double GOALS_PER_MATCH = 2.7;
+    static final double CORRECTION_SHARE = 0.08;
+    private static final long PLAYING_TIME = TimeUnit.MINUTES.toMillis(105);
+    private static final long MAX_STOPPAGE = TimeUnit.MINUTES.toMillis(8);
+    private static final long MIN_CORRECTION_DELAY = TimeUnit.MINUTES.toMillis(1);
+    private static final long MAX_CORRECTION_DELAY = TimeUnit.MINUTES.toMillis(4);
+
+    private TournamentDay() {
+    }
+
+    /**
+     * @return the events of all matches ordered by due time
+     */
+    public static List<MatchEvent> generate(int matches, long kickoffWindowMillis, long seed) {
+        final Random random = new Random(seed);
+        final List<MatchEvent> events = new ArrayList<>();
+        for (int match = 0; match < matches; match++) {
+            final long kickoff = matches == 1 ? 0 : kickoffWindowMillis * match / (matches - 1);
+            generateMatch(events, random, "Home " + match, "Away " + match, kickoff);
+        }
+        events.sort(Comparator.comparingLong(MatchEvent::offsetMillis));
+        return events;
+    }
+
+    private static void generateMatch(List<MatchEvent> events, Random random, String homeTeam, String awayTeam, long kickoff) {
+        final long fullTime = PLAYING_TIME + (long) (random.nextDouble() * MAX_STOPPAGE);
+        final List<long[]> incidents = new ArrayList<>();
+        final double meanMillisBetweenGoals = PLAYING_TIME / GOALS_PER_MATCH;
+        for (long at = exponential(random, meanMillisBetweenGoals); at < fullTime; at += exponential(random, meanMillisBetweenGoals)) {
+            final long side = random.nextBoolean() ? 0 : 1;
+            incidents.add(new long[]{at, side, 1});
+            final long correctionAt = at + MIN_CORRECTION_DELAY + (long) (random.nextDouble() * (MAX_CORRECTION_DELAY - MIN_CORRECTION_DELAY));
+            if (random.nextDouble() < CORRECTION_SHARE && correctionAt < fullTime) {
+                incidents.add(new long[]{correctionAt, side, -1});
+            }
+        }
+        incidents.sort(Comparator.comparingLong(incident -> incident[0]));
+
+        int homeScore = 0;
+        int awayScore = 0;
+        events.add(new MatchEvent(kickoff, MatchEvent.Type.START, homeTeam, awayTeam, 0, 0));
+        for (long[] incident : incidents) {
+            if (incident[1] == 0) {
+                homeScore += (int) incident[2];
+            } else {
+                awayScore += (int) incident[2];
+            }
+            events.add(new MatchEvent(kickoff + incident[0], incident[2] > 0 ? MatchEvent.Type.GOAL : MatchEvent.Type.CORRECTION,
+                    homeTeam, awayTeam, homeScore, awayScore));
+        }
+        events.add(new MatchEvent(kickoff + fullTime, MatchEvent.Type.FINISH, homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    private static long exponential(Random random, double mean) {
+        return (long) (-mean * Math.log(1 - random.nextDouble()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.service.GameServiceImpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a tournament day against {@link GameServiceImpl} over every {@link RepositoryType} and prints a
+ * {@link ReplayReport} for each. Settings are system properties:
+ * <ul>
+ *     <li>{@code replay}: event log to replay (see {@link EventLog}); otherwise a day is generated from
+ *     {@code matches} (default 10,000), {@code kickoffHours} (12) and {@code seed} (1).</li>
+ *     <li>{@code record}: file to write the replayed events to.</li>
+ *     <li>{@code threads} (1): replay threads; with more than one only thread-safe repositories are run.</li>
+ *     <li>{@code speedup} (0): N plays the day at N times real time; 0 applies events as fast as possible.</li>
+ *     <li>{@code repositories}: comma-separated {@link RepositoryType}s to run instead of all.</li>
+ *     <li>{@code warmups} (1): unpaced runs on a fresh service before each measured run.</li>
+ * </ul>
+ */
+public final class TournamentDayRunner {
+
+    private TournamentDayRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        final String replay = System.getProperty("replay");
+        final List<MatchEvent> events = replay != null
+                ? EventLog.read(Path.of(replay))
+                : TournamentDay.generate(Integer.getInteger("matches", 10_000),
+                TimeUnit.HOURS.toMillis(Integer.getInteger("kickoffHours", 12)), Long.getLong("seed", 1));
+        final String record = System.getProperty("record");
+        if (record != null) {
+            EventLog.write(Path.of(record), events);
+        }
+
+        final int threads = Integer.getInteger("threads", 1);
+        final double speedup = Double.parseDouble(System.getProperty("speedup", "0"));
+        final int warmups = Integer.getInteger("warmups", 1);
+        final List<RepositoryType> repositories = Arrays.stream(System.getProperty("repositories", String.join(",",
+                        Arrays.stream(RepositoryType.values()).map(Enum::name).toList())).split(","))
+                .map(name -> RepositoryType.valueOf(name.trim()))
+                .filter(repository -> threads == 1 || repository.isThreadSafe())
+                .toList();
+
+        System.out.printf("%d events, %d threads, speedup %s%n", events.size(), threads, speedup > 0 ? speedup + "x" : "none");
+        for (RepositoryType repository : repositories) {
+            for (int warmup = 0; warmup < warmups; warmup++) {
+                TournamentReplay.run(repository.name(), new GameServiceImpl(repository.create()), events, threads, 0);
+            }
+            TournamentReplay.run(repository.name(), new GameServiceImpl(repository.create()), events, threads, speedup)
+                    .print(System.out);
+        }
+    }
+}
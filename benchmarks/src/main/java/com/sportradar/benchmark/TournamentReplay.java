@@ -0,0 +1,108 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.metrics.LatencyHistogram;
+import com.sportradar.metrics.LatencySnapshot;
+import com.sportradar.service.GameService;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Applies a feed of {@link MatchEvent}s to a {@link GameService} from {@code threads} platform threads. Every match
+ * is assigned to one thread, which applies its events in order, so a match never sees its events reordered while
+ * different matches run in parallel.
+ * <p>
+ * With a positive {@code speedup} every event waits until it is due, at {@code offsetMillis / speedup} after the
+ * replay started, so 60 plays an hour of the day in a minute. With 0 events are applied as fast as possible.
+ */
+public final class TournamentReplay {
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final Map<MatchEvent.Type, LatencyHistogram> latency = new EnumMap<>(MatchEvent.Type.class);
+    private final LatencyHistogram lag = new LatencyHistogram();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+
+    private TournamentReplay() {
+        for (MatchEvent.Type type : MatchEvent.Type.values()) {
+            latency.put(type, new LatencyHistogram());
+        }
+    }
+
+    public static ReplayReport run(String name, GameService gameService, List<MatchEvent> events, int threads, double speedup)
+            throws InterruptedException {
+        return new TournamentReplay().replay(name, gameService, events, threads, speedup);
+    }
+
+    private ReplayReport replay(String name, GameService gameService, List<MatchEvent> events, int threads, double speedup)
+            throws InterruptedException {
+        final List<List<MatchEvent>> partitions = new ArrayList<>(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            partitions.add(new ArrayList<>(events.size() / threads + 1));
+        }
+        for (MatchEvent event : events) {
+            partitions.get(Math.floorMod(31 * event.homeTeam().hashCode() + event.awayTeam().hashCode(), threads)).add(event);
+        }
+
+        final CountDownLatch ready = new CountDownLatch(threads);
+        final CountDownLatch go = new CountDownLatch(1);
+        final long[] startedAt = new long[1];
+        final List<Thread> workers = new ArrayList<>(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            final List<MatchEvent> partition = partitions.get(thread);
+            workers.add(Thread.ofPlatform().name("replay-" + thread).start(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                final long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+                apply(gameService, partition, startedAt[0], speedup);
+                allocatedBytes.addAndGet(THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore);
+            }));
+        }
+        ready.await();
+        startedAt[0] = System.nanoTime();
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        final long elapsed = System.nanoTime() - startedAt[0];
+
+        final Map<MatchEvent.Type, LatencySnapshot> snapshots = new EnumMap<>(MatchEvent.Type.class);
+        latency.forEach((type, histogram) -> snapshots.put(type, histogram.snapshot()));
+        return new ReplayReport(name, events.size(), elapsed, failures.get(), allocatedBytes.get(), snapshots, lag.snapshot());
+    }
+
+    private void apply(GameService gameService, List<MatchEvent> events, long startedAt, double speedup) {
+        for (MatchEvent event : events) {
+            if (speedup > 0) {
+                final long due = startedAt + (long) (event.offsetMillis() * 1_000_000 / speedup);
+                for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                lag.record(System.nanoTime() - due);
+            }
+            final long start = System.nanoTime();
+            try {
+                switch (event.type()) {
+                    case START -> gameService.startGame(event.homeTeam(), event.awayTeam());
+                    case FINISH -> gameService.finishGame(event.homeTeam(), event.awayTeam());
+                    default -> gameService.updateScore(event.homeTeam(), event.awayTeam(), event.homeScore(), event.awayScore());
+                }
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+            }
+            latency.get(event.type()).record(System.nanoTime() - start);
+        }
+    }
+}
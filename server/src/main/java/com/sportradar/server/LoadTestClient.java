@@ -0,0 +1,155 @@
+package com.sportradar.server;
+
+import com.sportradar.metrics.LatencyHistogram;
+import com.sportradar.metrics.LatencySnapshot;
+import com.sportradar.repository.ConcurrentGameRepository;
+import com.sportradar.service.GameServiceImpl;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives a {@link ScoreboardHttpServer} from {@code clients} virtual threads, each sending one request at a time,
+ * and reports requests per second and latency percentiles of summary reads and score updates. A read sends the ETag
+ * of the last summary that client received in {@code If-None-Match}, as a polling client would.
+ * <p>
+ * Settings are system properties: {@code url} (default: an embedded server over a {@link ConcurrentGameRepository}
+ * on a free port), {@code clients} (64), {@code seconds} (10), {@code matches} (100) and {@code readPercent} (90).
+ */
+public final class LoadTestClient {
+
+    private final HttpClient httpClient;
+    private final String url;
+    private final int matches;
+    private final int readPercent;
+    private final LatencyHistogram readLatency = new LatencyHistogram();
+    private final LatencyHistogram writeLatency = new LatencyHistogram();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private LoadTestClient(HttpClient httpClient, String url, int matches, int readPercent) {
+        this.httpClient = httpClient;
+        this.url = url;
+        this.matches = matches;
+        this.readPercent = readPercent;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final int clients = Integer.getInteger("clients", 64);
+        final int seconds = Integer.getInteger("seconds", 10);
+        final String configuredUrl = System.getProperty("url");
+        final ScoreboardHttpServer embeddedServer = configuredUrl == null
+                ? ScoreboardHttpServer.start(new GameServiceImpl(new ConcurrentGameRepository()), new InetSocketAddress("localhost", 0))
+                : null;
+        final String url = configuredUrl != null ? configuredUrl : "http://localhost:" + embeddedServer.address().getPort();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build()) {
+            final LoadTestClient loadTest = new LoadTestClient(httpClient, url, Integer.getInteger("matches", 100),
+                    Integer.getInteger("readPercent", 90));
+            loadTest.startMatches();
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            final List<Thread> workers = new ArrayList<>(clients);
+            for (int client = 0; client < clients; client++) {
+                workers.add(Thread.ofVirtual().start(() -> loadTest.run(deadline)));
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            loadTest.report(clients, seconds);
+        } finally {
+            if (embeddedServer != null) {
+                embeddedServer.close();
+            }
+        }
+    }
+
+    private void startMatches() throws IOException, InterruptedException {
+        for (int match = 0; match < matches; match++) {
+            send(post("/games/start?" + teams(match)));
+        }
+    }
+
+    private void run(long deadline) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        String etag = null;
+        while (System.nanoTime() < deadline) {
+            final long start = System.nanoTime();
+            try {
+                if (random.nextInt(100) < readPercent) {
+                    final HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url + "/summary"));
+                    if (etag != null) {
+                        request.header("If-None-Match", etag);
+                    }
+                    final HttpResponse<byte[]> response = send(request.build());
+                    readLatency.record(System.nanoTime() - start);
+                    if (response.statusCode() == 304) {
+                        notModified.incrementAndGet();
+                    }
+                    etag = response.headers().firstValue("ETag").orElse(null);
+                } else {
+                    send(post("/games/score?" + teams(random.nextInt(matches))
+                            + "&homeScore=" + random.nextInt(10) + "&awayScore=" + random.nextInt(10)));
+                    writeLatency.record(System.nanoTime() - start);
+                }
+            } catch (IOException e) {
+                failures.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        final HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            failures.incrementAndGet();
+        }
+        return response;
+    }
+
+    private HttpRequest post(String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create(url + pathAndQuery))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private void report(int clients, int seconds) {
+        final LatencySnapshot reads = readLatency.snapshot();
+        final LatencySnapshot writes = writeLatency.snapshot();
+        System.out.printf("%s: %d clients, %d s, %d matches, %d%% reads%n", url, clients, seconds, matches, readPercent);
+        System.out.printf("requests: %d (%.0f/s), failures: %d%n", reads.count() + writes.count(),
+                (reads.count() + writes.count()) / (double) seconds, failures.get());
+        print("summary", reads);
+        System.out.printf("  304 Not Modified: %d (%.1f%%)%n", notModified.get(), 100.0 * notModified.get() / Math.max(reads.count(), 1));
+        print("update", writes);
+    }
+
+    private static void print(String name, LatencySnapshot latency) {
+        System.out.printf("%-8s %8d requests, latency us: mean %d, p50 %d, p99 %d, p99.9 %d, max %d%n", name, latency.count(),
+                micros(latency.mean()), micros(latency.p50()), micros(latency.p99()), micros(latency.p999()), micros(latency.max()));
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static String teams(int match) {
+        return "homeTeam=" + URLEncoder.encode("Home " + match, StandardCharsets.UTF_8)
+                + "&awayTeam=" + URLEncoder.encode("Away " + match, StandardCharsets.UTF_8);
+    }
+}
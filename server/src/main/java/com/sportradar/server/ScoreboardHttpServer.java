@@ -0,0 +1,184 @@
+package com.sportradar.server;
+
+import com.sportradar.codec.RenderedSummary;
+import com.sportradar.codec.RenderedSummaryCache;
+import com.sportradar.domain.GameWriteStatus;
+import com.sportradar.repository.ConcurrentGameRepository;
+import com.sportradar.service.GameService;
+import com.sportradar.service.GameServiceImpl;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Embedded HTTP endpoint of one scoreboard on the JDK's {@link HttpServer}, which handles every exchange on its own
+ * virtual thread. Teams and scores are query parameters:
+ * <pre>
+ * POST /games/start?homeTeam=..&amp;awayTeam=..                              204, 400, 409
+ * POST /games/score?homeTeam=..&amp;awayTeam=..&amp;homeScore=..&amp;awayScore=..  204, 400, 404
+ * POST /games/finish?homeTeam=..&amp;awayTeam=..                             204, 400, 404
+ * GET  /summary                                                        200, 304
+ * </pre>
+ * Writes go through the non-throwing {@code try} API, so a rejected write creates no exception. The summary is
+ * served from a {@link RenderedSummaryCache}, as JSON or, when the request accepts {@value #BINARY}, as binary game
+ * frames. Its ETag is the board version, so a request whose {@code If-None-Match} still matches gets 304 without the
+ * summary being read or rendered.
+ */
+public final class ScoreboardHttpServer implements AutoCloseable {
+
+    static final String JSON = "application/json";
+    static final String BINARY = "application/octet-stream";
+    private static final int BACKLOG = 1024;
+    private static final long NO_BODY = -1;
+    private static final String NO_DELAY = "sun.net.httpserver.nodelay";
+
+    private final GameService gameService;
+    private final RenderedSummaryCache summaryCache;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    private ScoreboardHttpServer(GameService gameService, InetSocketAddress address) throws IOException {
+        this.gameService = gameService;
+        this.summaryCache = new RenderedSummaryCache(gameService);
+        this.server = HttpServer.create(address, BACKLOG);
+        server.createContext("/games/start", write(query -> gameService.tryStart(query.get("homeTeam"), query.get("awayTeam"))));
+        server.createContext("/games/score", write(query -> gameService.tryUpdate(query.get("homeTeam"), query.get("awayTeam"),
+                Integer.parseInt(query.get("homeScore")), Integer.parseInt(query.get("awayScore")))));
+        server.createContext("/games/finish", write(query -> gameService.tryFinish(query.get("homeTeam"), query.get("awayTeam"))));
+        server.createContext("/summary", handler("GET", this::summary));
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Serves {@code gameService}, which must be thread-safe, on {@code address}; port 0 picks a free port.
+     * <p>
+     * Unless the {@value #NO_DELAY} system property is already set, this sets it to {@code true} before the first
+     * server of the JVM starts: the JDK server writes headers and body separately, and with Nagle's algorithm every
+     * keep-alive response then waits about 40 ms for the client's delayed ACK.
+     */
+    public static ScoreboardHttpServer start(GameService gameService, InetSocketAddress address) throws IOException {
+        if (System.getProperty(NO_DELAY) == null) {
+            System.setProperty(NO_DELAY, "true");
+        }
+        return new ScoreboardHttpServer(gameService, address);
+    }
+
+    /**
+     * Starts a server over a {@link ConcurrentGameRepository} on the port given by the {@code port} system property
+     * (default 8080).
+     */
+    public static void main(String[] args) throws IOException {
+        final ScoreboardHttpServer server = start(new GameServiceImpl(new ConcurrentGameRepository()),
+                new InetSocketAddress(Integer.getInteger("port", 8080)));
+        System.out.println("Scoreboard listening on " + server.address());
+    }
+
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops accepting connections, then waits for the exchanges in progress.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private HttpHandler write(Function<Map<String, String>, GameWriteStatus> operation) {
+        return handler("POST", exchange -> {
+            final GameWriteStatus status;
+            try {
+                status = operation.apply(parseQuery(exchange.getRequestURI().getRawQuery()));
+            } catch (NumberFormatException e) {
+                respond(exchange, 400);
+                return;
+            }
+            respond(exchange, switch (status) {
+                case OK -> 204;
+                case INVALID -> 400;
+                case NOT_FOUND -> 404;
+                default -> 409;
+            });
+        });
+    }
+
+    private void summary(HttpExchange exchange) throws IOException {
+        final boolean binary = BINARY.equals(exchange.getRequestHeaders().getFirst("Accept"));
+        final String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        exchange.getResponseHeaders().set("Vary", "Accept");
+        final String currentEtag = etag(gameService.getBoardVersion(), binary);
+        if (ifNoneMatch != null && ifNoneMatch.contains(currentEtag)) {
+            exchange.getResponseHeaders().set("ETag", currentEtag);
+            respond(exchange, 304);
+            return;
+        }
+
+        final RenderedSummary summary = summaryCache.current();
+        final ByteBuffer body = (binary ? summary.binary() : summary.json()).duplicate();
+        exchange.getResponseHeaders().set("Content-Type", binary ? BINARY : JSON);
+        exchange.getResponseHeaders().set("ETag", etag(summary.version(), binary));
+        exchange.sendResponseHeaders(200, body.remaining());
+        try (OutputStream out = exchange.getResponseBody()) {
+            Channels.newChannel(out).write(body);
+        }
+    }
+
+    private static HttpHandler handler(String method, HttpHandler handler) {
+        return exchange -> {
+            try {
+                if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+                    respond(exchange, 404);
+                } else if (!method.equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Allow", method);
+                    respond(exchange, 405);
+                } else {
+                    handler.handle(exchange);
+                }
+            } catch (RuntimeException e) {
+                respond(exchange, 500);
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, NO_BODY);
+        exchange.close();
+    }
+
+    private static String etag(long version, boolean binary) {
+        return (binary ? "\"b" : "\"j") + version + '"';
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        final Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            final int separator = parameter.indexOf('=');
+            if (separator > 0) {
+                query.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+}
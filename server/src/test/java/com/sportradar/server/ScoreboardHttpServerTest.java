@@ -0,0 +1,154 @@
+package com.sportradar.server;
+
+import com.sportradar.codec.GameCodec;
+import com.sportradar.domain.Game;
+import com.sportradar.repository.ConcurrentGameRepository;
+import com.sportradar.service.GameService;
+import com.sportradar.service.GameServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScoreboardHttpServer Tests")
+class ScoreboardHttpServerTest {
+
+    private static final String MATCH = "homeTeam=Poland&awayTeam=Argentina";
+    private GameService gameService;
+    private ScoreboardHttpServer server;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        gameService = new GameServiceImpl(new ConcurrentGameRepository());
+        server = ScoreboardHttpServer.start(gameService, new InetSocketAddress("localhost", 0));
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Should start, update and finish games and map rejections to status codes")
+    void shouldApplyWritesAndMapRejections() throws Exception {
+        // When / Then
+        assertThat(post("/games/start?" + MATCH).statusCode()).isEqualTo(204);
+        assertThat(post("/games/start?" + MATCH).statusCode()).isEqualTo(409);
+        assertThat(post("/games/start?homeTeam=Poland").statusCode()).isEqualTo(400);
+        assertThat(post("/games/score?" + MATCH + "&homeScore=2&awayScore=1").statusCode()).isEqualTo(204);
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder()).containsExactly(Game.createWithScores("Poland", "Argentina", 2, 1));
+        assertThat(post("/games/score?" + MATCH + "&homeScore=-1&awayScore=1").statusCode()).isEqualTo(400);
+        assertThat(post("/games/score?" + MATCH + "&homeScore=two&awayScore=1").statusCode()).isEqualTo(400);
+        assertThat(post("/games/score?homeTeam=Spain&awayTeam=Brazil&homeScore=1&awayScore=1").statusCode()).isEqualTo(404);
+        assertThat(post("/games/finish?" + MATCH).statusCode()).isEqualTo(204);
+        assertThat(post("/games/finish?" + MATCH).statusCode()).isEqualTo(404);
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should decode URL-encoded team names")
+    void shouldDecodeTeamNames() throws Exception {
+        // When
+        final int status = post("/games/start?homeTeam=C%C3%B4te+d%27Ivoire&awayTeam=South%20Korea&ignored").statusCode();
+
+        // Then
+        assertThat(status).isEqualTo(204);
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder()).containsExactly(Game.createNew("Côte d'Ivoire", "South Korea"));
+    }
+
+    @Test
+    @DisplayName("Should serve the summary as JSON with an ETag and answer a matching If-None-Match with 304")
+    void shouldServeSummaryWithEtag() throws Exception {
+        // Given
+        gameService.startGame("Poland", "Argentina");
+
+        // When
+        final HttpResponse<String> first = get(HttpRequest.newBuilder(uri("/summary")));
+        final String etag = first.headers().firstValue("ETag").orElseThrow();
+        final HttpResponse<String> unchanged = get(HttpRequest.newBuilder(uri("/summary")).header("If-None-Match", etag));
+        gameService.updateScore("Poland", "Argentina", 1, 0);
+        final HttpResponse<String> changed = get(HttpRequest.newBuilder(uri("/summary")).header("If-None-Match", etag));
+
+        // Then
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(first.headers().firstValue("Content-Type")).contains(ScoreboardHttpServer.JSON);
+        assertThat(first.body()).isEqualTo("[{\"homeTeam\":\"Poland\",\"awayTeam\":\"Argentina\",\"homeScore\":0,\"awayScore\":0}]");
+        assertThat(unchanged.statusCode()).isEqualTo(304);
+        assertThat(unchanged.body()).isEmpty();
+        assertThat(unchanged.headers().firstValue("ETag")).contains(etag);
+        assertThat(changed.statusCode()).isEqualTo(200);
+        assertThat(changed.headers().firstValue("ETag")).isPresent().get().isNotEqualTo(etag);
+        assertThat(changed.body()).contains("\"homeScore\":1");
+    }
+
+    @Test
+    @DisplayName("Should serve the summary as binary game frames with its own ETag when asked for octet-stream")
+    void shouldServeBinarySummary() throws Exception {
+        // Given
+        gameService.startGame("Poland", "Argentina");
+        final String jsonEtag = get(HttpRequest.newBuilder(uri("/summary"))).headers().firstValue("ETag").orElseThrow();
+
+        // When
+        final HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(uri("/summary"))
+                .header("Accept", ScoreboardHttpServer.BINARY)
+                .header("If-None-Match", jsonEtag)
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("ETag")).isPresent().get().isNotEqualTo(jsonEtag);
+        assertThat(new GameCodec().decodeGame(ByteBuffer.wrap(response.body()))).isEqualTo(Game.createNew("Poland", "Argentina"));
+    }
+
+    @Test
+    @DisplayName("Should reject wrong methods, unknown paths and answer service failures with 500")
+    void shouldRejectWrongRequests() throws Exception {
+        // Given
+        final ScoreboardHttpServer brokenServer = ScoreboardHttpServer.start(new GameServiceImpl(null), new InetSocketAddress("localhost", 0));
+
+        try (brokenServer) {
+            // When
+            final HttpResponse<String> wrongMethod = get(HttpRequest.newBuilder(uri("/games/start?" + MATCH)));
+            final HttpResponse<String> wrongSummaryMethod = httpClient.send(HttpRequest.newBuilder(uri("/summary"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+            final HttpResponse<String> unknownPath = post("/games/startover?" + MATCH);
+            final HttpResponse<String> failure = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:"
+                    + brokenServer.address().getPort() + "/games/start?" + MATCH)).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            // Then
+            assertThat(wrongMethod.statusCode()).isEqualTo(405);
+            assertThat(wrongMethod.headers().firstValue("Allow")).contains("POST");
+            assertThat(wrongSummaryMethod.statusCode()).isEqualTo(405);
+            assertThat(unknownPath.statusCode()).isEqualTo(404);
+            assertThat(failure.statusCode()).isEqualTo(500);
+        }
+    }
+
+    private HttpResponse<String> post(String pathAndQuery) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(uri(pathAndQuery)).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<String> get(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.GET().build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://localhost:" + server.address().getPort() + pathAndQuery);
+    }
+}
@@ -0,0 +1,184 @@
+package com.sportradar.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Up to {@code capacity} archived games as parallel primitive columns: team ids, scores, and start and finish times
+ * in epoch milliseconds. Games are only appended, so a reader that saw {@link #size()} under the archive's lock can
+ * read everything below it without the lock.
+ * <p>
+ * A full block is compressed column by column into varints, finish times as deltas to the previous game and start
+ * times as the distance to their finish, and the result is deflated.
+ */
+final class ArchiveBlock {
+
+    private static final int MAX_RECORD_BYTES = 6 * 10;
+
+    private final int[] homeIds;
+    private final int[] awayIds;
+    private final int[] homeScores;
+    private final int[] awayScores;
+    private final long[] startedAt;
+    private final long[] finishedAt;
+    private int size;
+
+    ArchiveBlock(int capacity) {
+        this.homeIds = new int[capacity];
+        this.awayIds = new int[capacity];
+        this.homeScores = new int[capacity];
+        this.awayScores = new int[capacity];
+        this.startedAt = new long[capacity];
+        this.finishedAt = new long[capacity];
+    }
+
+    void append(int homeId, int awayId, int homeScore, int awayScore, long started, long finished) {
+        homeIds[size] = homeId;
+        awayIds[size] = awayId;
+        homeScores[size] = homeScore;
+        awayScores[size] = awayScore;
+        startedAt[size] = started;
+        finishedAt[size] = finished;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size == homeIds.length;
+    }
+
+    int homeId(int index) {
+        return homeIds[index];
+    }
+
+    int awayId(int index) {
+        return awayIds[index];
+    }
+
+    int homeScore(int index) {
+        return homeScores[index];
+    }
+
+    int awayScore(int index) {
+        return awayScores[index];
+    }
+
+    long startedAt(int index) {
+        return startedAt[index];
+    }
+
+    long finishedAt(int index) {
+        return finishedAt[index];
+    }
+
+    CompressedBlock compress() {
+        final ByteBuffer raw = ByteBuffer.allocate(size * MAX_RECORD_BYTES);
+        for (int i = 0; i < size; i++) {
+            writeVarint(raw, homeIds[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            writeVarint(raw, awayIds[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            writeVarint(raw, homeScores[i]);
+            writeVarint(raw, awayScores[i]);
+        }
+        long previousFinish = 0;
+        for (int i = 0; i < size; i++) {
+            writeVarint(raw, zigzag(finishedAt[i] - previousFinish));
+            writeVarint(raw, zigzag(finishedAt[i] - startedAt[i]));
+            previousFinish = finishedAt[i];
+        }
+
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(raw.flip());
+        deflater.finish();
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.limit() / 4);
+        final byte[] chunk = new byte[4096];
+        while (!deflater.finished()) {
+            compressed.write(chunk, 0, deflater.deflate(chunk));
+        }
+        deflater.end();
+        return new CompressedBlock(compressed.toByteArray(), raw.limit(), size, finishedAt[0], finishedAt[size - 1]);
+    }
+
+    static ArchiveBlock decompress(CompressedBlock block) {
+        final ByteBuffer raw = ByteBuffer.wrap(inflate(block.data(), block.rawLength()));
+        final ArchiveBlock decoded = new ArchiveBlock(block.size());
+        decoded.size = block.size();
+        for (int i = 0; i < decoded.size; i++) {
+            decoded.homeIds[i] = (int) readVarint(raw);
+        }
+        for (int i = 0; i < decoded.size; i++) {
+            decoded.awayIds[i] = (int) readVarint(raw);
+        }
+        for (int i = 0; i < decoded.size; i++) {
+            decoded.homeScores[i] = (int) readVarint(raw);
+            decoded.awayScores[i] = (int) readVarint(raw);
+        }
+        long previousFinish = 0;
+        for (int i = 0; i < decoded.size; i++) {
+            decoded.finishedAt[i] = previousFinish + unzigzag(readVarint(raw));
+            decoded.startedAt[i] = decoded.finishedAt[i] - unzigzag(readVarint(raw));
+            previousFinish = decoded.finishedAt[i];
+        }
+        return decoded;
+    }
+
+    static byte[] inflate(byte[] data, int rawLength) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            final byte[] raw = new byte[rawLength];
+            if (inflater.inflate(raw) != rawLength) {
+                throw new IllegalStateException("Archive block is truncated");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Archive block is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeVarint(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * A sealed block: its deflated bytes, the length they inflate to, its game count and the finish times of its
+     * first and last game.
+     */
+    record CompressedBlock(byte[] data, int rawLength, int size, long firstFinishedAt, long lastFinishedAt) {
+    }
+}
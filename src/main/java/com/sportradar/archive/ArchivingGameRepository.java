@@ -0,0 +1,106 @@
+package com.sportradar.archive;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.domain.VersionedUpdateResult;
+import com.sportradar.repository.GameRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Moves finished games of the wrapped repository into a {@link GameArchive}: a successful start records the game's
+ * start time, and a successful finish archives the game with its final score. Score updates and reads go straight
+ * to the wrapped repository, so the archive stays off the live board's hot paths.
+ */
+public class ArchivingGameRepository implements GameRepository {
+
+    private final GameRepository repository;
+    private final GameArchive archive;
+
+    public ArchivingGameRepository(GameRepository repository, GameArchive archive) {
+        this.repository = repository;
+        this.archive = archive;
+    }
+
+    @Override
+    public Game save(Game game) {
+        final Game saved = repository.save(game);
+        archive.started(saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<Game> saveIfAbsent(Game game) {
+        final Optional<Game> existing = repository.saveIfAbsent(game);
+        if (existing.isEmpty()) {
+            archive.started(game);
+        }
+        return existing;
+    }
+
+    @Override
+    public Optional<Game> saveIfTeamsFree(Game game) {
+        final Optional<Game> playing = repository.saveIfTeamsFree(game);
+        if (playing.isEmpty()) {
+            archive.started(game);
+        }
+        return playing;
+    }
+
+    @Override
+    public Optional<Game> findByTeams(String homeTeam, String awayTeam) {
+        return repository.findByTeams(homeTeam, awayTeam);
+    }
+
+    @Override
+    public List<Game> findGamesByTeam(String team) {
+        return repository.findGamesByTeam(team);
+    }
+
+    @Override
+    public Optional<Game> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return repository.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    @Override
+    public Optional<VersionedUpdateResult> updateScoreIfNewer(String homeTeam, String awayTeam, int homeScore, int awayScore, long version) {
+        return repository.updateScoreIfNewer(homeTeam, awayTeam, homeScore, awayScore, version);
+    }
+
+    @Override
+    public List<Optional<Game>> updateScores(List<ScoreUpdate> updates) {
+        return repository.updateScores(updates);
+    }
+
+    @Override
+    public boolean delete(Game game) {
+        final boolean deleted = repository.delete(game);
+        if (deleted) {
+            archive.finished(game);
+        }
+        return deleted;
+    }
+
+    @Override
+    public Optional<Game> deleteByTeams(String homeTeam, String awayTeam) {
+        final Optional<Game> deleted = repository.deleteByTeams(homeTeam, awayTeam);
+        deleted.ifPresent(archive::finished);
+        return deleted;
+    }
+
+    @Override
+    public List<Game> findAll() {
+        return repository.findAll();
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder() {
+        return repository.findAllByTotalScoreAndReverseOrder();
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder(int offset, int limit) {
+        return repository.findAllByTotalScoreAndReverseOrder(offset, limit);
+    }
+}
@@ -0,0 +1,244 @@
+package com.sportradar.archive;
+
+import com.sportradar.archive.ArchiveBlock.CompressedBlock;
+import com.sportradar.domain.ArchivedGame;
+import com.sportradar.domain.Game;
+import com.sportradar.repository.TeamRegistry;
+import com.sportradar.utils.LongObjectHashMap;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append-only archive of finished games. Games are stored in finish order as primitive columns (team ids, scores,
+ * start and finish time) in blocks of {@code blockSize} games; every full block is compressed and only inflated
+ * again by the queries that need it.
+ * <p>
+ * {@link #findByTeam} reads a per-team list of record numbers and inflates only the blocks those records are in.
+ * Finish times never decrease from one game to the next, so {@link #findByFinishTime} skips every block whose finish
+ * times lie outside the range.
+ * <p>
+ * Start times are kept in one of {@value #START_STRIPES} maps picked by the game's key, each with its own lock, so
+ * starts never wait for finishes or queries and rarely for each other. Appending a finished game and capturing what
+ * is archived so far for a query share the archive's lock; decoding happens outside it.
+ */
+public final class GameArchive {
+
+    static final int DEFAULT_BLOCK_SIZE = 4096;
+    private static final int START_STRIPES = 64;
+
+    private final Clock clock;
+    private final int blockSize;
+    private final TeamRegistry teamRegistry = new TeamRegistry();
+    private final StartTimes[] startTimes = new StartTimes[START_STRIPES];
+    private final LongObjectHashMap<RecordNumbers> recordsByTeam = new LongObjectHashMap<>();
+    private final List<CompressedBlock> sealedBlocks = new ArrayList<>();
+    private ArchiveBlock activeBlock;
+    private long lastFinishedAt = Long.MIN_VALUE;
+    private int size;
+
+    public GameArchive() {
+        this(Clock.systemUTC());
+    }
+
+    public GameArchive(Clock clock) {
+        this(clock, DEFAULT_BLOCK_SIZE);
+    }
+
+    GameArchive(Clock clock, int blockSize) {
+        this.clock = clock;
+        this.blockSize = blockSize;
+        this.activeBlock = new ArchiveBlock(blockSize);
+        for (int stripe = 0; stripe < START_STRIPES; stripe++) {
+            startTimes[stripe] = new StartTimes();
+        }
+    }
+
+    /**
+     * Records the start time of a game that will be archived once it is finished. A game whose start is already
+     * recorded keeps it, so saving a live game again does not move its start.
+     */
+    public void started(Game game) {
+        final long key = teamRegistry.registerKey(game.homeTeam(), game.awayTeam());
+        final StartTimes stripe = startTimes[stripeOf(key)];
+        synchronized (stripe) {
+            if (stripe.startedAtByKey.get(key) == null) {
+                stripe.startedAtByKey.put(key, clock.millis());
+            }
+        }
+    }
+
+    /**
+     * Archives a finished game with its final score. A game whose start was not recorded is archived as started
+     * when it finished.
+     */
+    public void finished(Game game) {
+        final long key = teamRegistry.registerKey(game.homeTeam(), game.awayTeam());
+        final StartTimes stripe = startTimes[stripeOf(key)];
+        final Long startedAt;
+        synchronized (stripe) {
+            startedAt = stripe.startedAtByKey.remove(key);
+        }
+        append(key, game, startedAt);
+    }
+
+    private synchronized void append(long key, Game game, Long startedAt) {
+        final long finishedAt = Math.max(clock.millis(), lastFinishedAt);
+        final int homeId = TeamRegistry.homeId(key);
+        final int awayId = TeamRegistry.awayId(key);
+
+        activeBlock.append(homeId, awayId, game.homeScore(), game.awayScore(),
+                startedAt == null ? finishedAt : startedAt, finishedAt);
+        recordOf(homeId).add(size);
+        recordOf(awayId).add(size);
+        lastFinishedAt = finishedAt;
+        size++;
+        if (activeBlock.isFull()) {
+            sealedBlocks.add(activeBlock.compress());
+            activeBlock = new ArchiveBlock(blockSize);
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Finished games in which {@code team} played home or away, in finish order.
+     */
+    public List<ArchivedGame> findByTeam(String team) {
+        final int[] records;
+        final View view;
+        synchronized (this) {
+            final RecordNumbers teamRecords = recordsByTeam.get(teamRegistry.idOf(team));
+            records = teamRecords == null ? new int[0] : Arrays.copyOf(teamRecords.numbers, teamRecords.size);
+            view = view();
+        }
+
+        final List<ArchivedGame> games = new ArrayList<>(records.length);
+        int decodedIndex = -1;
+        ArchiveBlock decoded = null;
+        for (int record : records) {
+            final int blockIndex = record / blockSize;
+            if (blockIndex != decodedIndex) {
+                decoded = view.block(blockIndex);
+                decodedIndex = blockIndex;
+            }
+            games.add(toArchivedGame(decoded, record % blockSize));
+        }
+        return games;
+    }
+
+    /**
+     * Finished games with a finish time in [{@code from}, {@code to}), in finish order.
+     */
+    public List<ArchivedGame> findByFinishTime(Instant from, Instant to) {
+        final View view;
+        synchronized (this) {
+            view = view();
+        }
+
+        final long fromMillis = from.toEpochMilli();
+        final long toMillis = to.toEpochMilli();
+        final List<ArchivedGame> games = new ArrayList<>();
+        for (int blockIndex = firstBlockFinishingAtOrAfter(view.sealedBlocks(), fromMillis); blockIndex <= view.sealedBlocks().size(); blockIndex++) {
+            if (blockIndex < view.sealedBlocks().size() && view.sealedBlocks().get(blockIndex).firstFinishedAt() >= toMillis) {
+                break;
+            }
+            final ArchiveBlock block = view.block(blockIndex);
+            final int blockGames = view.sizeOf(blockIndex);
+            for (int index = 0; index < blockGames; index++) {
+                final long finishedAt = block.finishedAt(index);
+                if (finishedAt >= fromMillis && finishedAt < toMillis) {
+                    games.add(toArchivedGame(block, index));
+                }
+            }
+        }
+        return games;
+    }
+
+    /**
+     * Bytes held by compressed blocks, for sizing the archive.
+     */
+    public synchronized long compressedBytes() {
+        return sealedBlocks.stream()
+                .mapToLong(block -> block.data().length)
+                .sum();
+    }
+
+    private RecordNumbers recordOf(int teamId) {
+        RecordNumbers records = recordsByTeam.get(teamId);
+        if (records == null) {
+            records = new RecordNumbers();
+            recordsByTeam.put(teamId, records);
+        }
+        return records;
+    }
+
+    private static int stripeOf(long key) {
+        final int hash = Long.hashCode(key);
+        return (hash ^ hash >>> 16) & (START_STRIPES - 1);
+    }
+
+    private View view() {
+        return new View(List.copyOf(sealedBlocks), activeBlock, activeBlock.size());
+    }
+
+    private ArchivedGame toArchivedGame(ArchiveBlock block, int index) {
+        final Game game = Game.createWithScores(
+                teamRegistry.nameOf(block.homeId(index)),
+                teamRegistry.nameOf(block.awayId(index)),
+                block.homeScore(index),
+                block.awayScore(index)
+        );
+        return new ArchivedGame(game, Instant.ofEpochMilli(block.startedAt(index)), Instant.ofEpochMilli(block.finishedAt(index)));
+    }
+
+    private static int firstBlockFinishingAtOrAfter(List<CompressedBlock> blocks, long millis) {
+        int low = 0;
+        int high = blocks.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (blocks.get(middle).lastFinishedAt() < millis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * What a query sees: the sealed blocks and the active block up to the size it had, which later appends never
+     * change.
+     */
+    private record View(List<CompressedBlock> sealedBlocks, ArchiveBlock activeBlock, int activeSize) {
+
+        ArchiveBlock block(int blockIndex) {
+            return blockIndex < sealedBlocks.size() ? ArchiveBlock.decompress(sealedBlocks.get(blockIndex)) : activeBlock;
+        }
+
+        int sizeOf(int blockIndex) {
+            return blockIndex < sealedBlocks.size() ? sealedBlocks.get(blockIndex).size() : activeSize;
+        }
+    }
+
+    private static final class StartTimes {
+        private final LongObjectHashMap<Long> startedAtByKey = new LongObjectHashMap<>();
+    }
+
+    private static final class RecordNumbers {
+        private int[] numbers = new int[4];
+        private int size;
+
+        private void add(int number) {
+            if (size == numbers.length) {
+                numbers = Arrays.copyOf(numbers, size * 2);
+            }
+            numbers[size++] = number;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.sportradar.codec;
+
+import com.sportradar.domain.Game;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary codec for start, update and finish commands and {@link Game} snapshots. Every message is one frame:
+ * <pre>
+ * [varint frame length][type][home name][away name][varint home score][varint away score]
+ * </pre>
+ * A name is a varint byte length followed by its UTF-8 bytes; scores are only present in update and game frames.
+ * Varints are unsigned LEB128, so a score below 128 takes one byte and a typical update frame about 20.
+ * <p>
+ * Decoding reads the buffer with absolute gets, so heap and direct buffers are read in place without an
+ * intermediate {@code byte[]}, and resolves names through a {@link TeamNameInterner}, so a known name allocates
+ * nothing. Not thread-safe: use one codec per connection or reader.
+ */
+public final class GameCodec {
+
+    static final byte START = 1;
+    static final byte UPDATE = 2;
+    static final byte FINISH = 3;
+    static final byte GAME = 4;
+    private static final int MAX_VARINT_BYTES = 5;
+    private static final long INCOMPLETE = -1;
+
+    private final TeamNameInterner interner;
+    private int cursor;
+
+    public GameCodec() {
+        this(new TeamNameInterner());
+    }
+
+    public GameCodec(TeamNameInterner interner) {
+        this.interner = interner;
+    }
+
+    public void encodeStart(ByteBuffer out, String homeTeam, String awayTeam) {
+        encode(out, START, homeTeam, awayTeam, 0, 0);
+    }
+
+    public void encodeUpdate(ByteBuffer out, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        encode(out, UPDATE, homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    public void encodeFinish(ByteBuffer out, String homeTeam, String awayTeam) {
+        encode(out, FINISH, homeTeam, awayTeam, 0, 0);
+    }
+
+    public void encodeGame(ByteBuffer out, Game game) {
+        encode(out, GAME, game.homeTeam(), game.awayTeam(), game.homeScore(), game.awayScore());
+    }
+
+    /**
+     * Returns the number of bytes {@link #encodeGame} writes for {@code game}, so a buffer can be sized exactly.
+     */
+    public int encodedGameSize(Game game) {
+        final int length = frameLength(GAME, interner.bytesOf(game.homeTeam()), interner.bytesOf(game.awayTeam()),
+                game.homeScore(), game.awayScore());
+        return varintSize(length) + length;
+    }
+
+    /**
+     * Decodes every complete frame from the buffer's position and advances the position past them. An incomplete
+     * frame at the end is left in the buffer, to be decoded once the rest of it has been read.
+     *
+     * @return the number of frames decoded
+     * @throws IllegalArgumentException if a frame is malformed
+     */
+    public int decode(ByteBuffer in, GameMessageHandler handler) {
+        int frames = 0;
+        for (int end = frameEnd(in); end >= 0; end = frameEnd(in)) {
+            final byte type = in.get(cursor++);
+            final String homeTeam = readName(in, end);
+            final String awayTeam = readName(in, end);
+            switch (type) {
+                case START -> handler.onStart(homeTeam, awayTeam);
+                case UPDATE -> handler.onUpdate(homeTeam, awayTeam, readScore(in, end), readScore(in, end));
+                case FINISH -> handler.onFinish(homeTeam, awayTeam);
+                case GAME -> handler.onGame(homeTeam, awayTeam, readScore(in, end), readScore(in, end));
+                default -> throw malformed("Unknown frame type " + type);
+            }
+            in.position(end);
+            frames++;
+        }
+        return frames;
+    }
+
+    /**
+     * Decodes one game frame from the buffer's position and advances the position past it.
+     *
+     * @throws BufferUnderflowException if the buffer does not hold the whole frame
+     * @throws IllegalArgumentException if the frame is malformed or not a game frame
+     */
+    public Game decodeGame(ByteBuffer in) {
+        final int end = frameEnd(in);
+        if (end < 0) {
+            throw new BufferUnderflowException();
+        }
+        if (in.get(cursor++) != GAME) {
+            throw malformed("Not a game frame");
+        }
+        final Game game = Game.createWithScores(readName(in, end), readName(in, end), readScore(in, end), readScore(in, end));
+        in.position(end);
+        return game;
+    }
+
+    private void encode(ByteBuffer out, byte type, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        final byte[] home = interner.bytesOf(homeTeam);
+        final byte[] away = interner.bytesOf(awayTeam);
+        writeVarint(out, frameLength(type, home, away, homeScore, awayScore));
+        out.put(type);
+        writeName(out, home);
+        writeName(out, away);
+        if (isScored(type)) {
+            writeVarint(out, homeScore);
+            writeVarint(out, awayScore);
+        }
+    }
+
+    private static int frameLength(byte type, byte[] home, byte[] away, int homeScore, int awayScore) {
+        return 1 + nameSize(home) + nameSize(away) + (isScored(type) ? varintSize(homeScore) + varintSize(awayScore) : 0);
+    }
+
+    private static boolean isScored(byte type) {
+        return type == UPDATE || type == GAME;
+    }
+
+    /**
+     * Reads the length of the frame at the buffer's position, leaving {@code cursor} at its type byte. Returns the
+     * absolute end of the frame, or -1 if the buffer does not hold all of it.
+     */
+    private int frameEnd(ByteBuffer in) {
+        cursor = in.position();
+        final long length = readVarint(in, in.limit());
+        if (length == INCOMPLETE || length > in.limit() - cursor) {
+            return -1;
+        }
+        if (length == 0) {
+            throw malformed("Empty frame");
+        }
+        return cursor + (int) length;
+    }
+
+    private String readName(ByteBuffer in, int end) {
+        final long length = readVarint(in, end);
+        if (length == INCOMPLETE || length > end - cursor) {
+            throw malformed("Team name overruns the frame");
+        }
+        final String name = interner.intern(in, cursor, (int) length);
+        cursor += (int) length;
+        return name;
+    }
+
+    private int readScore(ByteBuffer in, int end) {
+        final long score = readVarint(in, end);
+        if (score == INCOMPLETE) {
+            throw malformed("Score overruns the frame");
+        }
+        return (int) score;
+    }
+
+    /**
+     * Reads an unsigned varint at {@code cursor} and advances it. Returns -1 if the varint does not end before
+     * {@code limit}.
+     */
+    private long readVarint(ByteBuffer in, int limit) {
+        long value = 0;
+        for (int shift = 0, index = cursor; index < limit; shift += 7, index++) {
+            final byte b = in.get(index);
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                cursor = index + 1;
+                return value;
+            }
+            if (index - cursor == MAX_VARINT_BYTES - 1) {
+                throw malformed("Varint longer than " + MAX_VARINT_BYTES + " bytes");
+            }
+        }
+        return INCOMPLETE;
+    }
+
+    private static void writeName(ByteBuffer out, byte[] name) {
+        writeVarint(out, name.length);
+        out.put(name);
+    }
+
+    private static void writeVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static int nameSize(byte[] name) {
+        return varintSize(name.length) + name.length;
+    }
+
+    private static int varintSize(int value) {
+        return (Integer.SIZE - Integer.numberOfLeadingZeros(value | 1) + 6) / 7;
+    }
+
+    private static IllegalArgumentException malformed(String message) {
+        return new IllegalArgumentException("Malformed game frame: " + message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.sportradar.codec;
+
+/**
+ * Receives the messages decoded by a {@link GameCodec}. Team names are interned, and scores are passed as
+ * primitives, so a decoded message allocates nothing unless the handler does.
+ */
+public interface GameMessageHandler {
+    void onStart(String homeTeam, String awayTeam);
+
+    void onUpdate(String homeTeam, String awayTeam, int homeScore, int awayScore);
+
+    void onFinish(String homeTeam, String awayTeam);
+
+    void onGame(String homeTeam, String awayTeam, int homeScore, int awayScore);
+}
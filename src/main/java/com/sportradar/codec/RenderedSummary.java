@@ -0,0 +1,11 @@
+package com.sportradar.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The summary of one board version, ready to send: as a JSON array of games and as consecutive {@link GameCodec}
+ * game frames. Both buffers are read-only and shared by every reader of the version, so read them with absolute
+ * gets or through a {@link ByteBuffer#duplicate()} rather than moving their position.
+ */
+public record RenderedSummary(long version, ByteBuffer json, ByteBuffer binary) {
+}
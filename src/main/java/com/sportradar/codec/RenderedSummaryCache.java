@@ -0,0 +1,94 @@
+package com.sportradar.codec;
+
+import com.sportradar.domain.Game;
+import com.sportradar.service.GameService;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Serves a board's summary as pre-serialized bytes to many readers. The summary is rendered to JSON and to the binary
+ * game frames at most once per {@link GameService#getBoardVersion() board version}, by the first reader that sees the
+ * new version; every other reader of that version gets the same {@link RenderedSummary} without locking or
+ * allocating. Readers call {@link #current()} on their own threads, so this requires a thread-safe repository.
+ */
+public final class RenderedSummaryCache {
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+    private final GameService gameService;
+    private final GameCodec codec = new GameCodec();
+    private volatile RenderedSummary rendered = new RenderedSummary(-1, EMPTY, EMPTY);
+
+    public RenderedSummaryCache(GameService gameService) {
+        this.gameService = gameService;
+    }
+
+    /**
+     * Returns the summary rendered for the current board version, rendering it first if no reader has yet.
+     */
+    public RenderedSummary current() {
+        final RenderedSummary summary = rendered;
+        if (summary.version() == gameService.getBoardVersion()) {
+            return summary;
+        }
+        return render();
+    }
+
+    private synchronized RenderedSummary render() {
+        final long version = gameService.getBoardVersion();
+        if (rendered.version() == version) {
+            return rendered;
+        }
+        final List<Game> games = gameService.getSummaryByTotalScoreAndReverseOrder();
+        final RenderedSummary summary = new RenderedSummary(version, json(games), binary(games));
+        rendered = summary;
+        return summary;
+    }
+
+    private ByteBuffer binary(List<Game> games) {
+        int size = 0;
+        for (Game game : games) {
+            size += codec.encodedGameSize(game);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (Game game : games) {
+            codec.encodeGame(buffer, game);
+        }
+        return buffer.flip().asReadOnlyBuffer();
+    }
+
+    private static ByteBuffer json(List<Game> games) {
+        final StringBuilder json = new StringBuilder(64 * games.size() + 2).append('[');
+        for (int i = 0; i < games.size(); i++) {
+            final Game game = games.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"homeTeam\":");
+            appendString(json, game.homeTeam());
+            json.append(",\"awayTeam\":");
+            appendString(json, game.awayTeam());
+            json.append(",\"homeScore\":").append(game.homeScore())
+                    .append(",\"awayScore\":").append(game.awayScore())
+                    .append('}');
+        }
+        return ByteBuffer.wrap(json.append(']').toString().getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,100 @@
+package com.sportradar.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interns team names by their UTF-8 bytes. {@link #intern} hashes and compares the bytes in place in the buffer,
+ * so a name seen before is returned without copying its bytes or creating a {@code String}; only the first
+ * occurrence of a name allocates. Names are never released. Not thread-safe.
+ */
+public final class TeamNameInterner {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, byte[]> bytesByName = new HashMap<>();
+    private String[] names = new String[INITIAL_CAPACITY];
+    private byte[][] nameBytes = new byte[INITIAL_CAPACITY][];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+    private int size;
+
+    /**
+     * Returns the name encoded by the {@code length} bytes at {@code offset}, without moving the buffer's position.
+     */
+    public String intern(ByteBuffer buffer, int offset, int length) {
+        final int hash = hash(buffer, offset, length);
+        int index = hash & mask;
+        for (; names[index] != null; index = (index + 1) & mask) {
+            if (hashes[index] == hash && matches(nameBytes[index], buffer, offset, length)) {
+                return names[index];
+            }
+        }
+
+        final byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        final String name = new String(bytes, StandardCharsets.UTF_8);
+        names[index] = name;
+        nameBytes[index] = bytes;
+        hashes[index] = hash;
+        bytesByName.putIfAbsent(name, bytes);
+        if (++size * 2 > names.length) {
+            grow();
+        }
+        return name;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the UTF-8 bytes of {@code name}, encoding each name only once.
+     */
+    byte[] bytesOf(String name) {
+        return bytesByName.computeIfAbsent(name, key -> key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void grow() {
+        final String[] oldNames = names;
+        final byte[][] oldNameBytes = nameBytes;
+        final int[] oldHashes = hashes;
+        names = new String[oldNames.length * 2];
+        nameBytes = new byte[names.length][];
+        hashes = new int[names.length];
+        mask = names.length - 1;
+        for (int oldIndex = 0; oldIndex < oldNames.length; oldIndex++) {
+            if (oldNames[oldIndex] != null) {
+                int index = oldHashes[oldIndex] & mask;
+                while (names[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                names[index] = oldNames[oldIndex];
+                nameBytes[index] = oldNameBytes[oldIndex];
+                hashes[index] = oldHashes[oldIndex];
+            }
+        }
+    }
+
+    private static int hash(ByteBuffer buffer, int offset, int length) {
+        int hash = length;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer.get(offset + i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(byte[] bytes, ByteBuffer buffer, int offset, int length) {
+        if (bytes.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != buffer.get(offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sportradar.domain;
+
+import java.time.Instant;
+
+/**
+ * A finished game with its final score and the times it was started and finished.
+ */
+public record ArchivedGame(
+        Game game,
+        Instant startedAt,
+        Instant finishedAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.sportradar.domain;
+
+/**
+ * Outcome of a non-throwing write of the service. {@code OK} means the write was applied; every other status names
+ * the exception the throwing form of the write would have thrown.
+ */
+public enum GameWriteStatus {
+    OK,
+    INVALID,
+    ALREADY_EXISTS,
+    TEAM_ALREADY_PLAYING,
+    NOT_FOUND;
+
+    public boolean isOk() {
+        return this == OK;
+    }
+}
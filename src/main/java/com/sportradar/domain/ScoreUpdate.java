@@ -0,0 +1,9 @@
+package com.sportradar.domain;
+
+public record ScoreUpdate(
+        String homeTeam,
+        String awayTeam,
+        int homeScore,
+        int awayScore
+) {
+}
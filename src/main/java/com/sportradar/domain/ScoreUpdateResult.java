@@ -0,0 +1,19 @@
+package com.sportradar.domain;
+
+public record ScoreUpdateResult(
+        ScoreUpdate update,
+        Game game,
+        RuntimeException failure
+) {
+    public static ScoreUpdateResult updated(ScoreUpdate update, Game game) {
+        return new ScoreUpdateResult(update, game, null);
+    }
+
+    public static ScoreUpdateResult failed(ScoreUpdate update, RuntimeException failure) {
+        return new ScoreUpdateResult(update, null, failure);
+    }
+
+    public boolean isUpdated() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.sportradar.domain;
+
+import java.util.List;
+
+/**
+ * Deltas that turn the previously delivered summary into the current one. Games not mentioned by any delta keep
+ * their relative order and fill the positions no {@link SummaryDelta.Inserted} or {@link SummaryDelta.Moved} takes.
+ */
+public record SummaryChange(
+        List<SummaryDelta> deltas
+) {
+    public List<Game> applyTo(List<Game> previous) {
+        int size = previous.size();
+        final boolean[] leaving = new boolean[previous.size()];
+        for (SummaryDelta delta : deltas) {
+            switch (delta) {
+                case SummaryDelta.Inserted inserted -> size++;
+                case SummaryDelta.Moved moved -> leaving[moved.from()] = true;
+                case SummaryDelta.Removed removed -> {
+                    leaving[removed.from()] = true;
+                    size--;
+                }
+            }
+        }
+
+        final Game[] current = new Game[size];
+        for (SummaryDelta delta : deltas) {
+            switch (delta) {
+                case SummaryDelta.Inserted inserted -> current[inserted.to()] = inserted.game();
+                case SummaryDelta.Moved moved -> current[moved.to()] = moved.game();
+                case SummaryDelta.Removed removed -> {
+                }
+            }
+        }
+        int position = 0;
+        for (int i = 0; i < previous.size(); i++) {
+            if (!leaving[i]) {
+                while (current[position] != null) {
+                    position++;
+                }
+                current[position] = previous.get(i);
+            }
+        }
+        return List.of(current);
+    }
+}
@@ -0,0 +1,23 @@
+package com.sportradar.domain;
+
+/**
+ * One change between two summaries. {@code from} is a position in the previous summary, {@code to} a position in
+ * the new one.
+ */
+public sealed interface SummaryDelta {
+
+    Game game();
+
+    record Inserted(Game game, int to) implements SummaryDelta {
+    }
+
+    /**
+     * A game that changed position or score. {@code from == to} is possible when only the score changed or other
+     * games moved around it.
+     */
+    record Moved(Game game, int from, int to) implements SummaryDelta {
+    }
+
+    record Removed(Game game, int from) implements SummaryDelta {
+    }
+}
@@ -0,0 +1,10 @@
+package com.sportradar.domain;
+
+/**
+ * A game together with the tournament whose scoreboard it is on.
+ */
+public record TournamentGame(
+        String tournamentId,
+        Game game
+) {
+}
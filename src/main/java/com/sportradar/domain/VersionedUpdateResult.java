@@ -0,0 +1,18 @@
+package com.sportradar.domain;
+
+/**
+ * Outcome of a versioned score update on a stored game: the game as stored afterwards, and whether the update was
+ * applied or left it unchanged because its version was not newer.
+ */
+public record VersionedUpdateResult(
+        Game game,
+        boolean applied
+) {
+    public static VersionedUpdateResult applied(Game game) {
+        return new VersionedUpdateResult(game, true);
+    }
+
+    public static VersionedUpdateResult stale(Game game) {
+        return new VersionedUpdateResult(game, false);
+    }
+}
@@ -2,11 +2,30 @@ package com.sportradar.exception;
 
 import java.io.Serial;
 
+/**
+ * A start named a game that is already in progress. A redelivering feed repeats starts routinely, so this exception
+ * skips the stack trace and formats the two-team message only if someone reads it.
+ */
 public class GameAlreadyExistsException extends RuntimeException {
     @Serial
     private static final long serialVersionUID = 1L;
+    private final String homeTeam;
+    private final String awayTeam;
 
     public GameAlreadyExistsException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.homeTeam = null;
+        this.awayTeam = null;
     }
-}
\ No newline at end of file
+
+    public GameAlreadyExistsException(String homeTeam, String awayTeam) {
+        super(null, null, false, false);
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+    }
+
+    @Override
+    public String getMessage() {
+        return homeTeam == null ? super.getMessage() : "Game between " + homeTeam + " and " + awayTeam + " is already in progress.";
+    }
+}
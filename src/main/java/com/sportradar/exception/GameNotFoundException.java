@@ -2,11 +2,30 @@ package com.sportradar.exception;
 
 import java.io.Serial;
 
+/**
+ * An update or finish named a game that is not on the board, typically a late or repeated finish from the feed. It
+ * carries no stack trace; the two-team form keeps just the names until the message is requested.
+ */
 public class GameNotFoundException extends RuntimeException {
     @Serial
     private static final long serialVersionUID = 1L;
+    private final String homeTeam;
+    private final String awayTeam;
 
     public GameNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.homeTeam = null;
+        this.awayTeam = null;
     }
-}
\ No newline at end of file
+
+    public GameNotFoundException(String homeTeam, String awayTeam) {
+        super(null, null, false, false);
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+    }
+
+    @Override
+    public String getMessage() {
+        return homeTeam == null ? super.getMessage() : "Game between " + homeTeam + " and " + awayTeam + " not found.";
+    }
+}
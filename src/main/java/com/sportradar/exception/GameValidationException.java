@@ -4,16 +4,33 @@ import lombok.Getter;
 
 import java.io.Serial;
 
+/**
+ * {@link com.sportradar.utils.GameValidator} rejected an argument; {@link #getFieldName()} names which one. Bad input
+ * is expected traffic, so no stack trace is recorded, and the rejected number is appended to the message lazily.
+ */
 @Getter
 public class GameValidationException extends RuntimeException {
 
     @Serial
     private static final long serialVersionUID = 1L;
     private final String fieldName;
+    private final Integer rejectedValue;
 
     public GameValidationException(String message, String fieldName) {
-        super(message);
+        super(message, null, false, false);
         this.fieldName = fieldName;
+        this.rejectedValue = null;
+    }
+
+    public GameValidationException(String message, String fieldName, int rejectedValue) {
+        super(message, null, false, false);
+        this.fieldName = fieldName;
+        this.rejectedValue = rejectedValue;
+    }
+
+    @Override
+    public String getMessage() {
+        return rejectedValue == null ? super.getMessage() : super.getMessage() + ": " + rejectedValue;
     }
 
     @Override
@@ -23,4 +40,4 @@ public class GameValidationException extends RuntimeException {
                 ", fieldName='" + fieldName + '\'' +
                 '}';
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.sportradar.exception;
+
+import java.io.Serial;
+
+/**
+ * A start was refused because one of its teams is already playing in another game on the board. The message names
+ * that game; it is assembled on demand, and no stack trace is filled in.
+ */
+public class TeamAlreadyPlayingException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private final String team;
+    private final String homeTeam;
+    private final String awayTeam;
+
+    public TeamAlreadyPlayingException(String message) {
+        super(message, null, false, false);
+        this.team = null;
+        this.homeTeam = null;
+        this.awayTeam = null;
+    }
+
+    /**
+     * @param homeTeam home team of the game {@code team} is playing in
+     * @param awayTeam away team of the game {@code team} is playing in
+     */
+    public TeamAlreadyPlayingException(String team, String homeTeam, String awayTeam) {
+        super(null, null, false, false);
+        this.team = team;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+    }
+
+    @Override
+    public String getMessage() {
+        return team == null ? super.getMessage() : team + " is already playing in the game between " + homeTeam + " and " + awayTeam + ".";
+    }
+}
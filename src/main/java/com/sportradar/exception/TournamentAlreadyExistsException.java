@@ -0,0 +1,12 @@
+package com.sportradar.exception;
+
+import java.io.Serial;
+
+public class TournamentAlreadyExistsException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public TournamentAlreadyExistsException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.sportradar.exception;
+
+import java.io.Serial;
+
+public class TournamentNotFoundException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public TournamentNotFoundException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
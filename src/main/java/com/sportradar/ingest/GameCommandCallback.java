@@ -0,0 +1,13 @@
+package com.sportradar.ingest;
+
+import com.sportradar.domain.Game;
+
+/**
+ * Completion of a command applied by a {@link GameIngestionPipeline}, called on its writer thread. {@code game} is
+ * the started or updated game, and {@code null} for a finish or when {@code failure} is set. {@code failure} is
+ * whatever the service threw, including an {@link Error}, which the writer survives.
+ */
+@FunctionalInterface
+public interface GameCommandCallback {
+    void onComplete(Game game, Throwable failure);
+}
@@ -0,0 +1,226 @@
+package com.sportradar.ingest;
+
+import com.sportradar.domain.Game;
+import com.sportradar.service.GameService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ingestion front end for a {@link GameService}. Producers on any thread claim a slot of a pre-allocated ring
+ * buffer with one atomic increment, fill it in and publish it; a single writer thread applies the commands to the
+ * service in claim order and reports each outcome through a {@link GameCommandCallback}.
+ * <p>
+ * Commands are stored field by field in parallel arrays, so publishing with a reused callback allocates nothing.
+ * The writer applies every command published so far as one batch before it frees their slots, and parks only
+ * when the ring is empty. A producer that finds the ring full waits until the writer frees a slot. As the service
+ * is only called from the writer thread, it does not need to be thread-safe.
+ */
+@Slf4j
+public final class GameIngestionPipeline implements AutoCloseable {
+
+    private static final long FULL_RING_PARK_NANOS = 1_000;
+    /**
+     * Added to {@link #claimed} by {@link #close()}, so every claim after it gets a sequence of at least this value
+     * and is rejected before it touches the ring.
+     */
+    private static final long CLOSED = 1L << 62;
+
+    private final GameService gameService;
+    private final int mask;
+    private final Command[] commands;
+    private final String[] homeTeams;
+    private final String[] awayTeams;
+    private final int[] homeScores;
+    private final int[] awayScores;
+    private final GameCommandCallback[] callbacks;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean writerParked;
+    private Thread writer;
+
+    private GameIngestionPipeline(GameService gameService, int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a positive power of two: " + capacity);
+        }
+        this.gameService = gameService;
+        this.mask = capacity - 1;
+        this.commands = new Command[capacity];
+        this.homeTeams = new String[capacity];
+        this.awayTeams = new String[capacity];
+        this.homeScores = new int[capacity];
+        this.awayScores = new int[capacity];
+        this.callbacks = new GameCommandCallback[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Creates a pipeline with a ring buffer of {@code capacity} slots (a power of two) and starts its writer thread.
+     */
+    public static GameIngestionPipeline start(GameService gameService, int capacity) {
+        final GameIngestionPipeline pipeline = new GameIngestionPipeline(gameService, capacity);
+        pipeline.writer = Thread.ofPlatform().name("game-ingestion-writer").start(pipeline::runWriter);
+        return pipeline;
+    }
+
+    public void publishStart(String homeTeam, String awayTeam, GameCommandCallback callback) {
+        publish(Command.START, homeTeam, awayTeam, 0, 0, callback);
+    }
+
+    public void publishUpdate(String homeTeam, String awayTeam, int homeScore, int awayScore, GameCommandCallback callback) {
+        publish(Command.UPDATE, homeTeam, awayTeam, homeScore, awayScore, callback);
+    }
+
+    public void publishFinish(String homeTeam, String awayTeam, GameCommandCallback callback) {
+        publish(Command.FINISH, homeTeam, awayTeam, 0, 0, callback);
+    }
+
+    public CompletableFuture<Game> startGame(String homeTeam, String awayTeam) {
+        final CompletableFuture<Game> future = new CompletableFuture<>();
+        publishStart(homeTeam, awayTeam, completing(future));
+        return future;
+    }
+
+    public CompletableFuture<Game> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        final CompletableFuture<Game> future = new CompletableFuture<>();
+        publishUpdate(homeTeam, awayTeam, homeScore, awayScore, completing(future));
+        return future;
+    }
+
+    public CompletableFuture<Void> finishGame(String homeTeam, String awayTeam) {
+        final CompletableFuture<Game> future = new CompletableFuture<>();
+        publishFinish(homeTeam, awayTeam, completing(future));
+        return future.thenAccept(game -> {
+        });
+    }
+
+    /**
+     * Stops accepting commands, waits until the writer has applied every command claimed before, and stops it. The
+     * stop command and the closed mark are claimed in one atomic step, so a concurrent publish is either applied
+     * before the stop or rejected with {@link IllegalStateException}; none is left unapplied.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            publishAt(claimed.getAndAdd(CLOSED + 1), Command.STOP, null, null, 0, 0, null);
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void publish(Command command, String homeTeam, String awayTeam, int homeScore, int awayScore, GameCommandCallback callback) {
+        final long sequence = claimed.getAndIncrement();
+        if (sequence >= CLOSED) {
+            throw new IllegalStateException("Game ingestion pipeline is closed");
+        }
+        publishAt(sequence, command, homeTeam, awayTeam, homeScore, awayScore, callback);
+    }
+
+    private void publishAt(long sequence, Command command, String homeTeam, String awayTeam, int homeScore, int awayScore, GameCommandCallback callback) {
+        while (sequence - commands.length >= consumed.get()) {
+            LockSupport.parkNanos(FULL_RING_PARK_NANOS);
+        }
+        final int slot = (int) sequence & mask;
+        commands[slot] = command;
+        homeTeams[slot] = homeTeam;
+        awayTeams[slot] = awayTeam;
+        homeScores[slot] = homeScore;
+        awayScores[slot] = awayScore;
+        callbacks[slot] = callback;
+        published.set(slot, sequence);
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void runWriter() {
+        long sequence = 0;
+        while (true) {
+            awaitPublished(sequence);
+            do {
+                if (!apply((int) sequence & mask)) {
+                    consumed.set(sequence + 1);
+                    return;
+                }
+                sequence++;
+            } while (isPublished(sequence));
+            consumed.lazySet(sequence);
+        }
+    }
+
+    private void awaitPublished(long sequence) {
+        writerParked = true;
+        while (!isPublished(sequence)) {
+            LockSupport.park(this);
+        }
+        writerParked = false;
+    }
+
+    private boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == sequence;
+    }
+
+    /**
+     * @return {@code false} once the writer reaches the stop command
+     */
+    private boolean apply(int slot) {
+        final Command command = commands[slot];
+        final String homeTeam = homeTeams[slot];
+        final String awayTeam = awayTeams[slot];
+        final GameCommandCallback callback = callbacks[slot];
+        homeTeams[slot] = null;
+        awayTeams[slot] = null;
+        callbacks[slot] = null;
+
+        Game game = null;
+        Throwable failure = null;
+        try {
+            switch (command) {
+                case START -> game = gameService.startGame(homeTeam, awayTeam);
+                case UPDATE -> game = gameService.updateScore(homeTeam, awayTeam, homeScores[slot], awayScores[slot]);
+                case FINISH -> gameService.finishGame(homeTeam, awayTeam);
+                default -> {
+                    return false;
+                }
+            }
+        } catch (Throwable e) {
+            failure = e;
+        }
+        complete(callback, game, failure);
+        return true;
+    }
+
+    private static void complete(GameCommandCallback callback, Game game, Throwable failure) {
+        try {
+            callback.onComplete(game, failure);
+        } catch (Throwable e) {
+            log.warn("Game command callback failed", e);
+        }
+    }
+
+    private static GameCommandCallback completing(CompletableFuture<Game> future) {
+        return (game, failure) -> {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(game);
+            }
+        };
+    }
+
+    private enum Command {
+        START, UPDATE, FINISH, STOP
+    }
+}
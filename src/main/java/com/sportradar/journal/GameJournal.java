@@ -0,0 +1,335 @@
+package com.sportradar.journal;
+
+import com.sportradar.domain.Game;
+import com.sportradar.repository.GameRepository;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of start, score-update and finish events, written through memory-mapped segment files.
+ * <p>
+ * Each segment starts with a magic number followed by records of the form
+ * {@code [int payloadLength][int crc32c(payload)][payload]}, where the payload is
+ * {@code [byte type][u16 length][home UTF-8][u16 length][away UTF-8]} plus {@code [int homeScore][int awayScore]}
+ * for start and update events. A zero length marks the end of a segment; a record with a bad length or checksum
+ * (a torn write) marks the end of the journal and is discarded when the journal is reopened.
+ * <p>
+ * {@link #sync()} forces only the bytes appended since the previous sync. Reopening zeroes only the bytes written
+ * past the last valid record. Appends are sequential, so that region ends where a run of zeros longer than any
+ * record begins.
+ */
+public final class GameJournal implements Closeable {
+
+    static final int MIN_SEGMENT_SIZE = 4 * 1024;
+    static final int SEGMENT_HEADER_SIZE = Integer.BYTES;
+
+    private static final int MAGIC = 0x57434A31;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int MAX_NAME_LENGTH = 0xFFFF;
+    private static final int MAX_RECORD_SIZE = RECORD_HEADER_SIZE + 1 + 2 * (Short.BYTES + MAX_NAME_LENGTH) + 2 * Integer.BYTES;
+    private static final byte[] ZEROS = new byte[4096];
+    private static final byte START = 1;
+    private static final byte UPDATE = 2;
+    private static final byte FINISH = 3;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final JournalConfig config;
+    private final CRC32C checksum = new CRC32C();
+    private long segmentIndex;
+    private MappedByteBuffer segment;
+    private int syncedPosition;
+    private int unsyncedEvents;
+
+    private GameJournal(JournalConfig config) {
+        this.config = config;
+    }
+
+    public static GameJournal open(JournalConfig config) {
+        final GameJournal journal = new GameJournal(config);
+        io(() -> {
+            Files.createDirectories(config.directory());
+            final List<Long> segments = journal.segmentIndexes();
+            if (segments.isEmpty()) {
+                journal.createSegment(0);
+            } else {
+                journal.recoverSegment(segments.get(segments.size() - 1));
+            }
+            return null;
+        });
+        return journal;
+    }
+
+    public synchronized void appendStart(Game game) {
+        append(START, game.homeTeam(), game.awayTeam(), game.homeScore(), game.awayScore());
+    }
+
+    public synchronized void appendUpdate(Game game) {
+        append(UPDATE, game.homeTeam(), game.awayTeam(), game.homeScore(), game.awayScore());
+    }
+
+    public synchronized void appendFinish(Game game) {
+        append(FINISH, game.homeTeam(), game.awayTeam(), 0, 0);
+    }
+
+    /**
+     * Applies every event in the journal to {@code repository}, oldest first. Intended for startup, before the
+     * repository is wrapped in a {@link JournalingGameRepository}.
+     *
+     * @return number of replayed events
+     */
+    public long replay(GameRepository repository) {
+        return replay(repository, JournalPosition.START);
+    }
+
+    synchronized long replay(GameRepository repository, JournalPosition from) {
+        return io(() -> {
+            long events = 0;
+            for (long index : segmentIndexes()) {
+                if (index < from.segment()) {
+                    continue;
+                }
+                final ByteBuffer buffer = index == segmentIndex ? segment.duplicate() : map(index, FileChannel.MapMode.READ_ONLY);
+                events += scan(buffer, index == from.segment() ? from.offset() : SEGMENT_HEADER_SIZE, repository);
+            }
+            return events;
+        });
+    }
+
+    /**
+     * Position right after the last appended event.
+     */
+    synchronized JournalPosition position() {
+        return new JournalPosition(segmentIndex, segment.position());
+    }
+
+    /**
+     * Deletes all segments older than the one holding {@code position}, which must come from {@link #position()}.
+     *
+     * @return number of deleted segments
+     */
+    synchronized int truncateBefore(JournalPosition position) {
+        return io(() -> {
+            int deleted = 0;
+            for (long index : segmentIndexes()) {
+                if (index < position.segment()) {
+                    Files.delete(segmentPath(index));
+                    deleted++;
+                }
+            }
+            return deleted;
+        });
+    }
+
+    public synchronized void sync() {
+        final int position = segment.position();
+        if (position > syncedPosition) {
+            segment.force(syncedPosition, position - syncedPosition);
+            syncedPosition = position;
+        }
+        unsyncedEvents = 0;
+    }
+
+    JournalConfig config() {
+        return config;
+    }
+
+    @Override
+    public synchronized void close() {
+        sync();
+    }
+
+    private void append(byte type, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        final byte[] home = encodeName(homeTeam);
+        final byte[] away = encodeName(awayTeam);
+        final int payloadLength = 1 + 2 * Short.BYTES + home.length + away.length + (type == FINISH ? 0 : 2 * Integer.BYTES);
+        final int recordLength = RECORD_HEADER_SIZE + payloadLength;
+        if (recordLength > segment.remaining()) {
+            if (recordLength > config.segmentSize() - SEGMENT_HEADER_SIZE) {
+                throw new IllegalArgumentException("Event of " + recordLength + " bytes does not fit in a journal segment");
+            }
+            rollSegment();
+        }
+
+        final int recordStart = segment.position();
+        final int payloadStart = recordStart + RECORD_HEADER_SIZE;
+        segment.position(payloadStart);
+        segment.put(type)
+                .putShort((short) home.length).put(home)
+                .putShort((short) away.length).put(away);
+        if (type != FINISH) {
+            segment.putInt(homeScore).putInt(awayScore);
+        }
+        segment.putInt(recordStart + Integer.BYTES, checksum(segment, payloadStart, payloadLength));
+        segment.putInt(recordStart, payloadLength);
+
+        if (++unsyncedEvents >= config.syncBatchSize()) {
+            sync();
+        }
+    }
+
+    private long scan(ByteBuffer buffer, int from, GameRepository repository) {
+        long events = 0;
+        int position = from;
+        int payloadLength;
+        while ((payloadLength = validPayloadLength(buffer, position)) > 0) {
+            apply(buffer, position + RECORD_HEADER_SIZE, repository);
+            position += RECORD_HEADER_SIZE + payloadLength;
+            events++;
+        }
+        return events;
+    }
+
+    private int validPayloadLength(ByteBuffer buffer, int position) {
+        if (position + RECORD_HEADER_SIZE > buffer.limit()) {
+            return 0;
+        }
+        final int payloadLength = buffer.getInt(position);
+        if (payloadLength <= 0 || payloadLength > buffer.limit() - position - RECORD_HEADER_SIZE) {
+            return 0;
+        }
+        final int expectedChecksum = buffer.getInt(position + Integer.BYTES);
+        return checksum(buffer, position + RECORD_HEADER_SIZE, payloadLength) == expectedChecksum ? payloadLength : 0;
+    }
+
+    private static void apply(ByteBuffer buffer, int payloadStart, GameRepository repository) {
+        final byte type = buffer.get(payloadStart);
+        int position = payloadStart + 1;
+        final String homeTeam = decodeName(buffer, position);
+        position += Short.BYTES + (buffer.getShort(position) & MAX_NAME_LENGTH);
+        final String awayTeam = decodeName(buffer, position);
+        position += Short.BYTES + (buffer.getShort(position) & MAX_NAME_LENGTH);
+
+        switch (type) {
+            case START -> repository.save(Game.createWithScores(homeTeam, awayTeam,
+                    buffer.getInt(position), buffer.getInt(position + Integer.BYTES)));
+            case UPDATE -> repository.updateScore(homeTeam, awayTeam,
+                    buffer.getInt(position), buffer.getInt(position + Integer.BYTES));
+            case FINISH -> repository.deleteByTeams(homeTeam, awayTeam);
+            default -> throw new IllegalStateException("Unknown journal event type: " + type);
+        }
+    }
+
+    private int checksum(ByteBuffer buffer, int offset, int length) {
+        checksum.reset();
+        checksum.update(buffer.slice(offset, length));
+        return (int) checksum.getValue();
+    }
+
+    private void recoverSegment(long index) throws IOException {
+        segmentIndex = index;
+        segment = map(index, FileChannel.MapMode.READ_WRITE);
+        int position = SEGMENT_HEADER_SIZE;
+        int payloadLength;
+        while ((payloadLength = validPayloadLength(segment, position)) > 0) {
+            position += RECORD_HEADER_SIZE + payloadLength;
+        }
+        final int writtenEnd = writtenEnd(position);
+        if (writtenEnd > position) {
+            for (int offset = position; offset < writtenEnd; offset += ZEROS.length) {
+                segment.put(offset, ZEROS, 0, Math.min(ZEROS.length, writtenEnd - offset));
+            }
+            segment.force(position, writtenEnd - position);
+        }
+        segment.position(position);
+        syncedPosition = position;
+    }
+
+    /**
+     * End of the bytes written at or after {@code from}: the scan stops once it has seen more zeros in a row than
+     * any record can hold.
+     */
+    private int writtenEnd(int from) {
+        int end = from;
+        for (int position = from; position < segment.limit() && position - end < MAX_RECORD_SIZE; position++) {
+            if (segment.get(position) != 0) {
+                end = position + 1;
+            }
+        }
+        return end;
+    }
+
+    private void rollSegment() {
+        sync();
+        io(() -> {
+            createSegment(segmentIndex + 1);
+            return null;
+        });
+    }
+
+    private void createSegment(long index) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(index),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, config.segmentSize());
+        }
+        segmentIndex = index;
+        syncedPosition = 0;
+        segment.putInt(MAGIC);
+    }
+
+    private MappedByteBuffer map(long index, FileChannel.MapMode mode) throws IOException {
+        final Path path = segmentPath(index);
+        try (FileChannel channel = mode == FileChannel.MapMode.READ_ONLY
+                ? FileChannel.open(path, StandardOpenOption.READ)
+                : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(mode, 0, channel.size());
+            if (buffer.limit() < SEGMENT_HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IllegalStateException("Not a journal segment: " + path);
+            }
+            return buffer;
+        }
+    }
+
+    private List<Long> segmentIndexes() throws IOException {
+        try (Stream<Path> files = Files.list(config.directory())) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name, SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length(), 10))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return config.directory().resolve(SEGMENT_PREFIX + "%016d".formatted(index) + SEGMENT_SUFFIX);
+    }
+
+    private static byte[] encodeName(String teamName) {
+        final byte[] bytes = teamName.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Team name longer than " + MAX_NAME_LENGTH + " bytes cannot be journaled");
+        }
+        return bytes;
+    }
+
+    private static String decodeName(ByteBuffer buffer, int position) {
+        final byte[] bytes = new byte[buffer.getShort(position) & MAX_NAME_LENGTH];
+        buffer.get(position + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static <T> T io(IoAction<T> action) {
+        try {
+            return action.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    interface IoAction<T> {
+        T run() throws IOException;
+    }
+}
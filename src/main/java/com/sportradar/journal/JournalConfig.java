@@ -0,0 +1,31 @@
+package com.sportradar.journal;
+
+import java.nio.file.Path;
+
+/**
+ * @param directory     directory holding the journal segment files
+ * @param segmentSize   size in bytes of each memory-mapped segment file
+ * @param syncBatchSize number of appended events after which the current segment is forced to disk; appended events
+ *                      survive a process crash regardless, the batch only bounds what an OS crash can lose
+ */
+public record JournalConfig(
+        Path directory,
+        int segmentSize,
+        int syncBatchSize
+) {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 1024;
+
+    public JournalConfig {
+        if (segmentSize < GameJournal.MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size must be at least " + GameJournal.MIN_SEGMENT_SIZE + ": " + segmentSize);
+        }
+        if (syncBatchSize < 1) {
+            throw new IllegalArgumentException("Sync batch size must be positive: " + syncBatchSize);
+        }
+    }
+
+    public static JournalConfig of(Path directory) {
+        return new JournalConfig(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_BATCH_SIZE);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sportradar.journal;
+
+/**
+ * @param segment index of a journal segment
+ * @param offset  byte offset of an event within that segment
+ */
+record JournalPosition(
+        long segment,
+        int offset
+) {
+    static final JournalPosition START = new JournalPosition(0, GameJournal.SEGMENT_HEADER_SIZE);
+}
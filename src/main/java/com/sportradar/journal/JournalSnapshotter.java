@@ -0,0 +1,171 @@
+package com.sportradar.journal;
+
+import com.sportradar.domain.Game;
+import com.sportradar.repository.GameRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes snapshots of the live games next to a {@link GameJournal} and truncates the segments a snapshot covers.
+ * <p>
+ * A snapshot file holds {@code [int magic][long segment][int offset][int count]}, then per game (in start order)
+ * both team names as length-prefixed UTF-8 and both scores, and finally a CRC32C of everything before it. The
+ * (segment, offset) pair is the journal position the snapshot is consistent with, so restoring replays only the
+ * events appended after it.
+ * <p>
+ * Taking a snapshot never blocks writers: {@link JournalingGameRepository#checkpoint()} reads the journal position
+ * and then copies the games without a lock, and encoding and writing the file happen on the calling thread.
+ */
+@Slf4j
+public class JournalSnapshotter {
+
+    private static final int MAGIC = 0x57435331;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String TEMPORARY_FILE = "snapshot.tmp";
+
+    private final GameJournal journal;
+    private final Path directory;
+
+    public JournalSnapshotter(GameJournal journal) {
+        this.journal = journal;
+        this.directory = journal.config().directory();
+    }
+
+    /**
+     * Loads the latest snapshot, if any, into an empty {@code repository} and replays the journal events appended
+     * after it.
+     */
+    public RecoveryStats restore(GameRepository repository) {
+        final long startNanos = System.nanoTime();
+        final List<Path> snapshots = GameJournal.io(this::snapshotFiles);
+        final LoadedSnapshot loaded = snapshots.isEmpty()
+                ? LoadedSnapshot.NONE
+                : GameJournal.io(() -> load(snapshots.get(snapshots.size() - 1), repository));
+        final long replayedEvents = journal.replay(repository, loaded.position());
+        final RecoveryStats stats = new RecoveryStats(loaded.games(), replayedEvents, Duration.ofNanos(System.nanoTime() - startNanos));
+        log.info("Restored {} games from snapshot and replayed {} journal events in {} ms",
+                stats.snapshotGames(), stats.replayedEvents(), stats.duration().toMillis());
+        return stats;
+    }
+
+    /**
+     * Writes a snapshot of {@code repository}, then deletes older snapshots and the journal segments it covers.
+     *
+     * @return number of games in the snapshot
+     */
+    public synchronized int snapshot(JournalingGameRepository repository) {
+        final JournalingGameRepository.Checkpoint checkpoint = repository.checkpoint();
+        final JournalPosition position = checkpoint.position();
+        final Path snapshot = directory.resolve(SNAPSHOT_PREFIX + "%016d-%010d".formatted(position.segment(), position.offset()) + SNAPSHOT_SUFFIX);
+        GameJournal.io(() -> {
+            write(directory.resolve(TEMPORARY_FILE), encode(checkpoint));
+            Files.move(directory.resolve(TEMPORARY_FILE), snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            for (Path older : snapshotFiles()) {
+                if (!older.equals(snapshot)) {
+                    Files.delete(older);
+                }
+            }
+            return null;
+        });
+        journal.truncateBefore(position);
+        return checkpoint.games().size();
+    }
+
+    /**
+     * Takes a snapshot every {@code interval} on {@code executor}. A failed snapshot is logged and retried on the
+     * next run.
+     */
+    public ScheduledFuture<?> schedule(JournalingGameRepository repository, ScheduledExecutorService executor, Duration interval) {
+        return executor.scheduleWithFixedDelay(() -> {
+            try {
+                snapshot(repository);
+            } catch (RuntimeException e) {
+                log.error("Snapshot of the journal in {} failed", directory, e);
+            }
+        }, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private static byte[] encode(JournalingGameRepository.Checkpoint checkpoint) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(MAGIC);
+        output.writeLong(checkpoint.position().segment());
+        output.writeInt(checkpoint.position().offset());
+        output.writeInt(checkpoint.games().size());
+        for (Game game : checkpoint.games()) {
+            output.writeUTF(game.homeTeam());
+            output.writeUTF(game.awayTeam());
+            output.writeInt(game.homeScore());
+            output.writeInt(game.awayScore());
+        }
+        final CRC32C checksum = new CRC32C();
+        checksum.update(bytes.toByteArray());
+        output.writeInt((int) checksum.getValue());
+        return bytes.toByteArray();
+    }
+
+    private static void write(Path path, byte[] content) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    private static LoadedSnapshot load(Path path, GameRepository repository) throws IOException {
+        final byte[] content = Files.readAllBytes(path);
+        final ByteBuffer buffer = ByteBuffer.wrap(content);
+        if (content.length < 2 * Integer.BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not a journal snapshot: " + path);
+        }
+        final int checksumOffset = content.length - Integer.BYTES;
+        final CRC32C checksum = new CRC32C();
+        checksum.update(content, 0, checksumOffset);
+        if (buffer.getInt(checksumOffset) != (int) checksum.getValue()) {
+            throw new IllegalStateException("Corrupted journal snapshot: " + path);
+        }
+
+        final DataInputStream input = new DataInputStream(new ByteArrayInputStream(content, Integer.BYTES, checksumOffset));
+        final JournalPosition position = new JournalPosition(input.readLong(), input.readInt());
+        final int games = input.readInt();
+        for (int i = 0; i < games; i++) {
+            repository.save(Game.createWithScores(input.readUTF(), input.readUTF(), input.readInt(), input.readInt()));
+        }
+        return new LoadedSnapshot(position, games);
+    }
+
+    private List<Path> snapshotFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(SNAPSHOT_PREFIX)
+                            && path.getFileName().toString().endsWith(SNAPSHOT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private record LoadedSnapshot(JournalPosition position, int games) {
+        private static final LoadedSnapshot NONE = new LoadedSnapshot(JournalPosition.START, 0);
+    }
+}
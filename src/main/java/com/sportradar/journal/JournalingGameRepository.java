@@ -0,0 +1,194 @@
+package com.sportradar.journal;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.domain.VersionedUpdateResult;
+import com.sportradar.repository.GameRepository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Journals every successful write of the wrapped repository to a {@link GameJournal}. Writes that change nothing
+ * (a duplicate start, an update or finish of an unknown game) are not journaled. Reads go straight to the wrapped
+ * repository.
+ * <p>
+ * There is no lock shared by all writes. Each write holds the lock of its game's stripe (picked by the
+ * case-insensitive team names) while it is applied and journaled, so the journal holds the events of one game in the
+ * order they were applied, and writes to games on different stripes run in parallel. Events of different games may
+ * be journaled in a different order than they were applied, which does not change the board a replay rebuilds.
+ */
+public class JournalingGameRepository implements GameRepository {
+
+    private static final int GAME_LOCK_STRIPES = 64;
+
+    private final GameRepository repository;
+    private final GameJournal journal;
+    private final ReentrantLock[] gameLocks = new ReentrantLock[GAME_LOCK_STRIPES];
+
+    public JournalingGameRepository(GameRepository repository, GameJournal journal) {
+        this.repository = repository;
+        this.journal = journal;
+        for (int stripe = 0; stripe < GAME_LOCK_STRIPES; stripe++) {
+            gameLocks[stripe] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Game save(Game game) {
+        return withGameLock(game.homeTeam(), game.awayTeam(), () -> {
+            final Game saved = repository.save(game);
+            journal.appendStart(saved);
+            return saved;
+        });
+    }
+
+    @Override
+    public Optional<Game> saveIfAbsent(Game game) {
+        return withGameLock(game.homeTeam(), game.awayTeam(), () -> {
+            final Optional<Game> existing = repository.saveIfAbsent(game);
+            if (existing.isEmpty()) {
+                journal.appendStart(game);
+            }
+            return existing;
+        });
+    }
+
+    @Override
+    public Optional<Game> saveIfTeamsFree(Game game) {
+        return withGameLock(game.homeTeam(), game.awayTeam(), () -> {
+            final Optional<Game> playing = repository.saveIfTeamsFree(game);
+            if (playing.isEmpty()) {
+                journal.appendStart(game);
+            }
+            return playing;
+        });
+    }
+
+    @Override
+    public Optional<Game> findByTeams(String homeTeam, String awayTeam) {
+        return repository.findByTeams(homeTeam, awayTeam);
+    }
+
+    @Override
+    public List<Game> findGamesByTeam(String team) {
+        return repository.findGamesByTeam(team);
+    }
+
+    @Override
+    public Optional<Game> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return withGameLock(homeTeam, awayTeam, () -> {
+            final Optional<Game> updated = repository.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            updated.ifPresent(journal::appendUpdate);
+            return updated;
+        });
+    }
+
+    /**
+     * Journals the update as a plain score update when it was applied. Versions themselves are not journaled.
+     */
+    @Override
+    public Optional<VersionedUpdateResult> updateScoreIfNewer(String homeTeam, String awayTeam, int homeScore, int awayScore, long version) {
+        return withGameLock(homeTeam, awayTeam, () -> {
+            final Optional<VersionedUpdateResult> stored = repository.updateScoreIfNewer(homeTeam, awayTeam, homeScore, awayScore, version);
+            stored.filter(VersionedUpdateResult::applied)
+                    .ifPresent(result -> journal.appendUpdate(result.game()));
+            return stored;
+        });
+    }
+
+    /**
+     * Holds the stripes of every game in the batch, taken in stripe order so concurrent batches cannot deadlock.
+     */
+    @Override
+    public List<Optional<Game>> updateScores(List<ScoreUpdate> updates) {
+        final int[] stripes = updates.stream()
+                .mapToInt(update -> stripeOf(update.homeTeam(), update.awayTeam()))
+                .sorted()
+                .distinct()
+                .toArray();
+        for (int stripe : stripes) {
+            gameLocks[stripe].lock();
+        }
+        try {
+            final List<Optional<Game>> results = repository.updateScores(updates);
+            results.forEach(updated -> updated.ifPresent(journal::appendUpdate));
+            return results;
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                gameLocks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean delete(Game game) {
+        return withGameLock(game.homeTeam(), game.awayTeam(), () -> {
+            final boolean deleted = repository.delete(game);
+            if (deleted) {
+                journal.appendFinish(game);
+            }
+            return deleted;
+        });
+    }
+
+    @Override
+    public Optional<Game> deleteByTeams(String homeTeam, String awayTeam) {
+        return withGameLock(homeTeam, awayTeam, () -> {
+            final Optional<Game> deleted = repository.deleteByTeams(homeTeam, awayTeam);
+            deleted.ifPresent(journal::appendFinish);
+            return deleted;
+        });
+    }
+
+    /**
+     * Captures the games in start order together with a journal position, without blocking writers. The position is
+     * read first, so every event before it is already applied to the games copied afterwards. The copy may also hold
+     * writes journaled after the position; replaying them again is harmless, because a start stores the game, an
+     * update sets absolute scores only on a stored game and a finish removes it.
+     * <p>
+     * The wrapped repository's {@link GameRepository#findAll()} must be safe to call while writes are running, as
+     * with {@code IndexedGameRepository} and {@code ConcurrentGameRepository}. For other repositories take the
+     * checkpoint on the writer thread.
+     */
+    Checkpoint checkpoint() {
+        final JournalPosition position = journal.position();
+        return new Checkpoint(List.copyOf(repository.findAll()), position);
+    }
+
+    @Override
+    public List<Game> findAll() {
+        return repository.findAll();
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder() {
+        return repository.findAllByTotalScoreAndReverseOrder();
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder(int offset, int limit) {
+        return repository.findAllByTotalScoreAndReverseOrder(offset, limit);
+    }
+
+    private <T> T withGameLock(String homeTeam, String awayTeam, Supplier<T> write) {
+        final ReentrantLock lock = gameLocks[stripeOf(homeTeam, awayTeam)];
+        lock.lock();
+        try {
+            return write.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int stripeOf(String homeTeam, String awayTeam) {
+        final int hash = 31 * homeTeam.toLowerCase(Locale.ROOT).hashCode() + awayTeam.toLowerCase(Locale.ROOT).hashCode();
+        return (hash ^ hash >>> 16) & (GAME_LOCK_STRIPES - 1);
+    }
+
+    record Checkpoint(List<Game> games, JournalPosition position) {
+    }
+}
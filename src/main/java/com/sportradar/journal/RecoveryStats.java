@@ -0,0 +1,15 @@
+package com.sportradar.journal;
+
+import java.time.Duration;
+
+/**
+ * @param snapshotGames  number of games loaded from the latest snapshot
+ * @param replayedEvents number of journal events replayed after the snapshot
+ * @param duration       time taken to load the snapshot and replay the journal tail
+ */
+public record RecoveryStats(
+        int snapshotGames,
+        long replayedEvents,
+        Duration duration
+) {
+}
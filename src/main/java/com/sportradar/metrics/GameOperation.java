@@ -0,0 +1,26 @@
+package com.sportradar.metrics;
+
+public enum GameOperation {
+    START_GAME("startGame"),
+    FINISH_GAME("finishGame"),
+    UPDATE_SCORE("updateScore"),
+    UPDATE_SCORE_IF_NEWER("updateScoreIfNewer"),
+    TRY_START("tryStart"),
+    TRY_UPDATE("tryUpdate"),
+    TRY_FINISH("tryFinish"),
+    UPDATE_SCORES("updateScores"),
+    GET_SUMMARY("getSummaryByTotalScoreAndReverseOrder"),
+    GET_SUMMARY_TOP("getSummaryTop"),
+    GET_SUMMARY_PAGE("getSummaryPage"),
+    GET_GAMES_BY_TEAM("getGamesByTeam");
+
+    private final String methodName;
+
+    GameOperation(String methodName) {
+        this.methodName = methodName;
+    }
+
+    public String methodName() {
+        return methodName;
+    }
+}
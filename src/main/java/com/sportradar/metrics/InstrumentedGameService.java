@@ -0,0 +1,176 @@
+package com.sportradar.metrics;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.GameWriteStatus;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.domain.ScoreUpdateResult;
+import com.sportradar.domain.SummaryChange;
+import com.sportradar.service.GameService;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+/**
+ * Records call counts, failures by exception type and latency histograms of every {@link GameService} operation.
+ * Recording takes only atomic increments on pre-allocated counters, so it never locks. Failed items of
+ * {@code updateScores()} are counted as failures of that operation, and rejected {@code try} writes as the failure
+ * their status stands for. {@code getBoardVersion()} and {@code getSummaryChanges()} are not measured.
+ */
+public class InstrumentedGameService implements GameService {
+
+    private final GameService gameService;
+    private final Map<GameOperation, OperationMetrics> metrics = new EnumMap<>(GameOperation.class);
+
+    public InstrumentedGameService(GameService gameService) {
+        this.gameService = gameService;
+        for (GameOperation operation : GameOperation.values()) {
+            metrics.put(operation, new OperationMetrics());
+        }
+    }
+
+    @Override
+    public Game startGame(String homeTeam, String awayTeam) {
+        return record(GameOperation.START_GAME, () -> gameService.startGame(homeTeam, awayTeam));
+    }
+
+    @Override
+    public void finishGame(String homeTeam, String awayTeam) {
+        record(GameOperation.FINISH_GAME, () -> {
+            gameService.finishGame(homeTeam, awayTeam);
+            return null;
+        });
+    }
+
+    @Override
+    public Game updateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+        return record(GameOperation.UPDATE_SCORE, () -> gameService.updateScore(homeTeam, awayTeam, homeTeamScore, awayTeamScore));
+    }
+
+    @Override
+    public Game updateScoreIfNewer(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, long version) {
+        return record(GameOperation.UPDATE_SCORE_IF_NEWER,
+                () -> gameService.updateScoreIfNewer(homeTeam, awayTeam, homeTeamScore, awayTeamScore, version));
+    }
+
+    @Override
+    public GameWriteStatus tryStart(String homeTeam, String awayTeam) {
+        return recordStatus(GameOperation.TRY_START, () -> gameService.tryStart(homeTeam, awayTeam));
+    }
+
+    @Override
+    public GameWriteStatus tryUpdate(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+        return recordStatus(GameOperation.TRY_UPDATE, () -> gameService.tryUpdate(homeTeam, awayTeam, homeTeamScore, awayTeamScore));
+    }
+
+    @Override
+    public GameWriteStatus tryFinish(String homeTeam, String awayTeam) {
+        return recordStatus(GameOperation.TRY_FINISH, () -> gameService.tryFinish(homeTeam, awayTeam));
+    }
+
+    @Override
+    public List<ScoreUpdateResult> updateScores(Collection<ScoreUpdate> updates) {
+        final OperationMetrics updateScores = metrics.get(GameOperation.UPDATE_SCORES);
+        return record(updateScores, () -> {
+            final List<ScoreUpdateResult> results = gameService.updateScores(updates);
+            for (ScoreUpdateResult result : results) {
+                if (!result.isUpdated()) {
+                    updateScores.recordError(result.failure());
+                }
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public List<Game> getSummaryByTotalScoreAndReverseOrder() {
+        return record(GameOperation.GET_SUMMARY, gameService::getSummaryByTotalScoreAndReverseOrder);
+    }
+
+    @Override
+    public List<Game> getSummaryTop(int limit) {
+        return record(GameOperation.GET_SUMMARY_TOP, () -> gameService.getSummaryTop(limit));
+    }
+
+    @Override
+    public List<Game> getSummaryPage(int offset, int limit) {
+        return record(GameOperation.GET_SUMMARY_PAGE, () -> gameService.getSummaryPage(offset, limit));
+    }
+
+    @Override
+    public List<Game> getGamesByTeam(String team) {
+        return record(GameOperation.GET_GAMES_BY_TEAM, () -> gameService.getGamesByTeam(team));
+    }
+
+    @Override
+    public long getBoardVersion() {
+        return gameService.getBoardVersion();
+    }
+
+    @Override
+    public Flow.Publisher<SummaryChange> getSummaryChanges() {
+        return gameService.getSummaryChanges();
+    }
+
+    @Override
+    public Flow.Publisher<SummaryChange> getSummaryChanges(Executor executor) {
+        return gameService.getSummaryChanges(executor);
+    }
+
+    public Map<GameOperation, OperationSnapshot> snapshot() {
+        final Map<GameOperation, OperationSnapshot> snapshot = new EnumMap<>(GameOperation.class);
+        metrics.forEach((operation, operationMetrics) -> snapshot.put(operation, operationMetrics.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * Registers one {@link OperationMetricsMXBean} per operation under
+     * {@code com.sportradar:type=GameService,name=<name>,operation=<method name>}.
+     *
+     * @return names of the registered beans
+     */
+    public List<ObjectName> registerMBeans(MBeanServer server, String name) throws JMException {
+        final List<ObjectName> names = new ArrayList<>();
+        for (Map.Entry<GameOperation, OperationMetrics> entry : metrics.entrySet()) {
+            final ObjectName objectName = new ObjectName("com.sportradar:type=GameService,name=" + ObjectName.quote(name)
+                    + ",operation=" + entry.getKey().methodName());
+            server.registerMBean(entry.getValue(), objectName);
+            names.add(objectName);
+        }
+        return names;
+    }
+
+    private <T> T record(GameOperation operation, Supplier<T> call) {
+        return record(metrics.get(operation), call);
+    }
+
+    /**
+     * Runs {@code call}, counting an exception it throws by type, and records its latency whether or not it threw.
+     */
+    private static <T> T record(OperationMetrics operationMetrics, Supplier<T> call) {
+        final long start = System.nanoTime();
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            operationMetrics.recordError(e);
+            throw e;
+        } finally {
+            operationMetrics.recordLatency(System.nanoTime() - start);
+        }
+    }
+
+    private GameWriteStatus recordStatus(GameOperation operation, Supplier<GameWriteStatus> call) {
+        final OperationMetrics operationMetrics = metrics.get(operation);
+        final GameWriteStatus status = record(operationMetrics, call);
+        operationMetrics.recordStatus(status);
+        return status;
+    }
+}
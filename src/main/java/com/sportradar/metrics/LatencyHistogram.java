@@ -0,0 +1,98 @@
+package com.sportradar.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, allocation-free histogram of non-negative values (nanoseconds) covering the whole {@code long} range.
+ * <p>
+ * Buckets are log-linear: values below 128 get one bucket each, and every power-of-two range above is split into 64
+ * equal buckets, so a reported value is at most 1/64 (about 1.6%) above the recorded one. Recording is one atomic
+ * increment of the value's bucket plus updates of the total and the maximum.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalValue = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    public void record(long value) {
+        final long recorded = Math.max(value, 0);
+        counts.incrementAndGet(bucketOf(recorded));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(recorded);
+        maxValue.accumulateAndGet(recorded, Math::max);
+    }
+
+    public long count() {
+        return totalCount.get();
+    }
+
+    /**
+     * Mean of the recorded values from the running total, without scanning the buckets.
+     */
+    public long mean() {
+        final long count = totalCount.get();
+        return count == 0 ? 0 : totalValue.get() / count;
+    }
+
+    public long max() {
+        return maxValue.get();
+    }
+
+    /**
+     * Copies the current counts. Values recorded concurrently may be partially included.
+     */
+    public LatencySnapshot snapshot() {
+        final long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            snapshot[bucket] = counts.get(bucket);
+            count += snapshot[bucket];
+        }
+        final long max = maxValue.get();
+        return new LatencySnapshot(count,
+                count == 0 ? 0 : totalValue.get() / count,
+                percentile(snapshot, count, 0.5, max),
+                percentile(snapshot, count, 0.99, max),
+                percentile(snapshot, count, 0.999, max),
+                max);
+    }
+
+    static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    /**
+     * Highest value that falls into {@code bucket}.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        final long subBucket = bucket - ((long) shift << SUB_BUCKET_BITS);
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static long percentile(long[] counts, long totalCount, double percentile, long max) {
+        final long rank = (long) Math.ceil(percentile * totalCount);
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank && seen > 0) {
+                return Math.min(highestValueOf(bucket), max);
+            }
+        }
+        return 0;
+    }
+}
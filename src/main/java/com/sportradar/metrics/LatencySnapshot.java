@@ -0,0 +1,14 @@
+package com.sportradar.metrics;
+
+/**
+ * Latency distribution in nanoseconds. Percentiles are within about 1.6% of the recorded values.
+ */
+public record LatencySnapshot(
+        long count,
+        long mean,
+        long p50,
+        long p99,
+        long p999,
+        long max
+) {
+}
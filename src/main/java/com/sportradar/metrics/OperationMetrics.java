@@ -0,0 +1,145 @@
+package com.sportradar.metrics;
+
+import com.sportradar.domain.GameWriteStatus;
+import com.sportradar.exception.GameAlreadyExistsException;
+import com.sportradar.exception.GameNotFoundException;
+import com.sportradar.exception.GameValidationException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Counters and latency histogram of one {@link GameOperation}. Calls, mean and max come from running counters. The
+ * percentile attributes share one histogram snapshot for up to a second, so a JMX client reading all of them scans
+ * the buckets once instead of once per attribute.
+ */
+final class OperationMetrics implements OperationMetricsMXBean {
+
+    private static final long PERCENTILES_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicLong notFound = new AtomicLong();
+    private final AtomicLong alreadyExists = new AtomicLong();
+    private final AtomicLong teamAlreadyPlaying = new AtomicLong();
+    private final AtomicLong validation = new AtomicLong();
+    private final AtomicLong otherErrors = new AtomicLong();
+    private final LongSupplier nanoTime;
+    private volatile TimedSnapshot percentiles;
+
+    OperationMetrics() {
+        this(System::nanoTime);
+    }
+
+    OperationMetrics(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    void recordLatency(long nanos) {
+        latency.record(nanos);
+    }
+
+    void recordError(RuntimeException error) {
+        if (error instanceof GameNotFoundException) {
+            notFound.incrementAndGet();
+        } else if (error instanceof GameAlreadyExistsException) {
+            alreadyExists.incrementAndGet();
+        } else if (error instanceof TeamAlreadyPlayingException) {
+            teamAlreadyPlaying.incrementAndGet();
+        } else if (error instanceof GameValidationException) {
+            validation.incrementAndGet();
+        } else {
+            otherErrors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Counts a rejected non-throwing write like the exception its throwing form would have thrown.
+     */
+    void recordStatus(GameWriteStatus status) {
+        switch (status) {
+            case NOT_FOUND -> notFound.incrementAndGet();
+            case ALREADY_EXISTS -> alreadyExists.incrementAndGet();
+            case TEAM_ALREADY_PLAYING -> teamAlreadyPlaying.incrementAndGet();
+            case INVALID -> validation.incrementAndGet();
+            default -> {
+            }
+        }
+    }
+
+    OperationSnapshot snapshot() {
+        final LatencySnapshot latencySnapshot = latency.snapshot();
+        return new OperationSnapshot(latencySnapshot.count(), notFound.get(), alreadyExists.get(),
+                teamAlreadyPlaying.get(), validation.get(), otherErrors.get(), latencySnapshot);
+    }
+
+    @Override
+    public long getCalls() {
+        return latency.count();
+    }
+
+    @Override
+    public long getNotFoundErrors() {
+        return notFound.get();
+    }
+
+    @Override
+    public long getAlreadyExistsErrors() {
+        return alreadyExists.get();
+    }
+
+    @Override
+    public long getTeamAlreadyPlayingErrors() {
+        return teamAlreadyPlaying.get();
+    }
+
+    @Override
+    public long getValidationErrors() {
+        return validation.get();
+    }
+
+    @Override
+    public long getOtherErrors() {
+        return otherErrors.get();
+    }
+
+    @Override
+    public long getMeanNanos() {
+        return latency.mean();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return percentiles().p50();
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return percentiles().p99();
+    }
+
+    @Override
+    public long getP999Nanos() {
+        return percentiles().p999();
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latency.max();
+    }
+
+    private LatencySnapshot percentiles() {
+        final long now = nanoTime.getAsLong();
+        final TimedSnapshot cached = percentiles;
+        if (cached != null && now - cached.takenAt() < PERCENTILES_MAX_AGE_NANOS) {
+            return cached.snapshot();
+        }
+        final LatencySnapshot snapshot = latency.snapshot();
+        percentiles = new TimedSnapshot(snapshot, now);
+        return snapshot;
+    }
+
+    private record TimedSnapshot(LatencySnapshot snapshot, long takenAt) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.sportradar.metrics;
+
+/**
+ * JMX view of one {@link GameOperation}. Latencies are in nanoseconds.
+ */
+public interface OperationMetricsMXBean {
+    long getCalls();
+
+    long getNotFoundErrors();
+
+    long getAlreadyExistsErrors();
+
+    long getTeamAlreadyPlayingErrors();
+
+    long getValidationErrors();
+
+    long getOtherErrors();
+
+    long getMeanNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getP999Nanos();
+
+    long getMaxNanos();
+}
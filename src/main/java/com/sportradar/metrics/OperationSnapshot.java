@@ -0,0 +1,21 @@
+package com.sportradar.metrics;
+
+/**
+ * @param calls              number of completed calls, including failed ones
+ * @param notFound           failures with {@code GameNotFoundException}
+ * @param alreadyExists      failures with {@code GameAlreadyExistsException}
+ * @param teamAlreadyPlaying failures with {@code TeamAlreadyPlayingException}
+ * @param validation         failures with {@code GameValidationException}
+ * @param otherErrors        failures with any other exception
+ * @param latency            latency distribution of all calls
+ */
+public record OperationSnapshot(
+        long calls,
+        long notFound,
+        long alreadyExists,
+        long teamAlreadyPlaying,
+        long validation,
+        long otherErrors,
+        LatencySnapshot latency
+) {
+}
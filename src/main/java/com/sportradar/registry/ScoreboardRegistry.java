@@ -0,0 +1,210 @@
+package com.sportradar.registry;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.TournamentGame;
+import com.sportradar.exception.TournamentAlreadyExistsException;
+import com.sportradar.exception.TournamentNotFoundException;
+import com.sportradar.service.GameService;
+import com.sportradar.utils.GameValidator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Owns one independent {@link GameService} per tournament and partitions them across a fixed set of single-threaded
+ * shard executors by tournament ID. Every call to a board runs on its shard's thread, so a board's games stay in
+ * one thread's cache and its service does not need to be thread-safe; boards on different shards run in parallel.
+ * <p>
+ * All operations return a {@link CompletableFuture} completed on the shard thread, with the service's exception
+ * when it rejects the call, or already failed with a {@link RejectedExecutionException} after {@link #close()}.
+ * The global summary asks every board for its ordered summary and k-way merges them.
+ */
+@Slf4j
+public final class ScoreboardRegistry implements AutoCloseable {
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final Function<String, GameService> boardFactory;
+    private final ExecutorService[] shards;
+    private final ConcurrentMap<String, Board> boards = new ConcurrentHashMap<>();
+
+    private ScoreboardRegistry(int shardCount, Function<String, GameService> boardFactory) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        this.boardFactory = boardFactory;
+        this.shards = new ExecutorService[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards[shard] = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("scoreboard-shard-" + shard).factory());
+        }
+    }
+
+    /**
+     * Creates a registry with {@code shardCount} shard threads. {@code boardFactory} creates the service of each new
+     * tournament from its ID.
+     */
+    public static ScoreboardRegistry start(int shardCount, Function<String, GameService> boardFactory) {
+        return new ScoreboardRegistry(shardCount, boardFactory);
+    }
+
+    /**
+     * Creates the board of a tournament. The board factory runs only for a tournament that has no board yet, inside
+     * the map's atomic {@code computeIfAbsent}, so it must not call back into the registry.
+     */
+    public void createBoard(String tournamentId) {
+        GameValidator.validateTournamentId(tournamentId);
+
+        final boolean[] created = new boolean[1];
+        boards.computeIfAbsent(tournamentId, id -> {
+            created[0] = true;
+            return new Board(boardFactory.apply(id), shards[shardOf(id)]);
+        });
+        if (!created[0]) {
+            throw new TournamentAlreadyExistsException("Tournament " + tournamentId + " already has a scoreboard.");
+        }
+    }
+
+    /**
+     * Removes the board of a tournament. Calls already routed to it still complete.
+     */
+    public void removeBoard(String tournamentId) {
+        if (boards.remove(tournamentId) == null) {
+            throw tournamentNotFound(tournamentId);
+        }
+    }
+
+    public List<String> getTournamentIds() {
+        return boards.keySet().stream()
+                .sorted()
+                .toList();
+    }
+
+    public CompletableFuture<Game> startGame(String tournamentId, String homeTeam, String awayTeam) {
+        return call(tournamentId, service -> service.startGame(homeTeam, awayTeam));
+    }
+
+    public CompletableFuture<Game> updateScore(String tournamentId, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return call(tournamentId, service -> service.updateScore(homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    public CompletableFuture<Void> finishGame(String tournamentId, String homeTeam, String awayTeam) {
+        return call(tournamentId, service -> {
+            service.finishGame(homeTeam, awayTeam);
+            return null;
+        });
+    }
+
+    public CompletableFuture<List<Game>> getSummary(String tournamentId) {
+        return call(tournamentId, GameService::getSummaryByTotalScoreAndReverseOrder);
+    }
+
+    /**
+     * Merges the summaries of all boards. Equal totals from different boards are ordered by tournament ID.
+     */
+    public CompletableFuture<List<TournamentGame>> getGlobalSummary() {
+        return mergeSummaries(GameService::getSummaryByTotalScoreAndReverseOrder, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Merges the first {@code limit} games of every board's summary, so no board returns more than the result needs.
+     */
+    public CompletableFuture<List<TournamentGame>> getGlobalSummaryTop(int limit) {
+        GameValidator.validatePage(0, limit);
+
+        return mergeSummaries(service -> service.getSummaryTop(limit), limit);
+    }
+
+    /**
+     * Applies every call routed so far, then stops the shard threads. A shard that has not finished within 10 seconds
+     * is interrupted, and the calls still queued on it fail with a {@link RejectedExecutionException}.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        close(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    void close(long timeout, TimeUnit unit) throws InterruptedException {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (!shards[shard].awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                final List<Runnable> dropped = shards[shard].shutdownNow();
+                dropped.forEach(call -> ((BoardCall<?>) call).reject());
+                log.warn("Scoreboard shard {} did not finish within {} {}; interrupted it and rejected {} queued calls",
+                        shard, timeout, unit, dropped.size());
+            }
+        }
+    }
+
+    private CompletableFuture<List<TournamentGame>> mergeSummaries(Function<GameService, List<Game>> summary, int limit) {
+        final Map<String, Board> sortedBoards = new TreeMap<>(boards);
+        final List<String> tournamentIds = new ArrayList<>(sortedBoards.keySet());
+        final List<CompletableFuture<List<Game>>> summaries = sortedBoards.values().stream()
+                .map(board -> board.call(summary))
+                .toList();
+        return CompletableFuture.allOf(summaries.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> SummaryMerger.merge(tournamentIds, summaries.stream()
+                        .map(CompletableFuture::join)
+                        .toList(), limit));
+    }
+
+    private <T> CompletableFuture<T> call(String tournamentId, Function<GameService, T> operation) {
+        final Board board = boards.get(tournamentId);
+        if (board == null) {
+            return CompletableFuture.failedFuture(tournamentNotFound(tournamentId));
+        }
+        return board.call(operation);
+    }
+
+    private int shardOf(String tournamentId) {
+        return Math.floorMod(tournamentId.hashCode(), shards.length);
+    }
+
+    private static TournamentNotFoundException tournamentNotFound(String tournamentId) {
+        return new TournamentNotFoundException("Tournament " + tournamentId + " has no scoreboard.");
+    }
+
+    private record Board(GameService service, ExecutorService shard) {
+        <T> CompletableFuture<T> call(Function<GameService, T> operation) {
+            final BoardCall<T> call = new BoardCall<>(new CompletableFuture<>(), () -> operation.apply(service));
+            try {
+                shard.execute(call);
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            return call.result();
+        }
+    }
+
+    /**
+     * A call queued on a shard. It is its own task, so {@link #close} can fail the calls a stuck shard never ran.
+     */
+    private record BoardCall<T>(CompletableFuture<T> result, Supplier<T> operation) implements Runnable {
+        @Override
+        public void run() {
+            try {
+                result.complete(operation.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void reject() {
+            result.completeExceptionally(new RejectedExecutionException("Scoreboard registry closed before the call ran."));
+        }
+    }
+}
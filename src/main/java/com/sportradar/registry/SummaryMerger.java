@@ -0,0 +1,54 @@
+package com.sportradar.registry;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.TournamentGame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Merges per-board summaries, each already ordered by total score desc and most recently started first, into one
+ * summary with a heap holding the head of every board: O(n log k) for n returned games from k boards, instead of
+ * re-sorting every game. Start order is only known within a board, so equal totals from different boards keep the
+ * order of the boards.
+ */
+final class SummaryMerger {
+
+    private SummaryMerger() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    static List<TournamentGame> merge(List<String> tournamentIds, List<List<Game>> summaries, int limit) {
+        final PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, summaries.size()));
+        int total = 0;
+        for (int board = 0; board < summaries.size(); board++) {
+            final List<Game> summary = summaries.get(board);
+            total += summary.size();
+            if (!summary.isEmpty()) {
+                heads.add(new Cursor(board, 0, summary.get(0).getTotalScore()));
+            }
+        }
+
+        final List<TournamentGame> merged = new ArrayList<>(Math.min(total, limit));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            final Cursor head = heads.poll();
+            final List<Game> summary = summaries.get(head.board());
+            merged.add(new TournamentGame(tournamentIds.get(head.board()), summary.get(head.position())));
+            final int next = head.position() + 1;
+            if (next < summary.size()) {
+                heads.add(new Cursor(head.board(), next, summary.get(next).getTotalScore()));
+            }
+        }
+        return merged;
+    }
+
+    private record Cursor(int board, int position, int totalScore) implements Comparable<Cursor> {
+        @Override
+        public int compareTo(Cursor other) {
+            return totalScore != other.totalScore
+                    ? Integer.compare(other.totalScore, totalScore)
+                    : Integer.compare(board, other.board);
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.sportradar.repository;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.VersionedUpdateResult;
+import com.sportradar.utils.LongIntHashMap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores each game as one slot across parallel primitive arrays (packed team key, scores, start sequence), so the
+ * board itself holds no objects per game and a score update allocates nothing. {@link Game} records are only
+ * created for results. Freed slots are reused through a free list. Not thread-safe.
+ * <p>
+ * Each team's games form a singly linked list through the slots: {@code nextHomeTeamSlot} links a slot to the next
+ * game of its home team and {@code nextAwayTeamSlot} to the next game of its away team, starting from the team's
+ * entry in {@code firstSlotByTeam}.
+ * <p>
+ * The slot order of {@link #findAll()} and of the full summary is cached as an {@code int[]} until a write changes
+ * it, so repeated reads of an unchanged board only build the {@link Game} records. A score update drops only the
+ * summary order.
+ * <p>
+ * Team names come back in the spelling the {@link TeamRegistry} first registered them with.
+ */
+public class ColumnarGameRepository implements GameRepository {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long FREE = -1L;
+
+    private final TeamRegistry teamRegistry;
+    private final LongIntHashMap slotsByKey;
+    private final LongIntHashMap firstSlotByTeam;
+    private long[] keys;
+    private int[] homeScores;
+    private int[] awayScores;
+    private long[] sequences;
+    private long[] versions;
+    private int[] nextHomeTeamSlot;
+    private int[] nextAwayTeamSlot;
+    private int[] freeSlots;
+    private int freeCount;
+    private int usedSlots;
+    private int size;
+    private long nextSequence;
+    private int[] startOrder;
+    private int[] summaryOrder;
+    private final SlotOrder byStartOrder = (first, second) -> sequences[first] < sequences[second];
+    private final SlotOrder bySummaryOrder = (first, second) -> {
+        final int firstTotal = homeScores[first] + awayScores[first];
+        final int secondTotal = homeScores[second] + awayScores[second];
+        return firstTotal != secondTotal ? firstTotal > secondTotal : sequences[first] > sequences[second];
+    };
+
+    public ColumnarGameRepository() {
+        this(new TeamRegistry(), DEFAULT_CAPACITY);
+    }
+
+    public ColumnarGameRepository(TeamRegistry teamRegistry, int expectedSize) {
+        final int capacity = Math.max(1, expectedSize);
+        this.teamRegistry = teamRegistry;
+        this.slotsByKey = new LongIntHashMap(capacity);
+        this.firstSlotByTeam = new LongIntHashMap(capacity);
+        this.keys = new long[capacity];
+        this.homeScores = new int[capacity];
+        this.awayScores = new int[capacity];
+        this.sequences = new long[capacity];
+        this.versions = new long[capacity];
+        this.nextHomeTeamSlot = new int[capacity];
+        this.nextAwayTeamSlot = new int[capacity];
+        this.freeSlots = new int[capacity];
+        Arrays.fill(sequences, FREE);
+    }
+
+    @Override
+    public Game save(Game game) {
+        final long key = teamRegistry.registerKey(game.homeTeam(), game.awayTeam());
+        int slot = slotsByKey.get(key);
+        if (slot == LongIntHashMap.MISSING) {
+            slot = insert(key);
+        }
+        versions[slot] = 0;
+        homeScores[slot] = game.homeScore();
+        awayScores[slot] = game.awayScore();
+        sequences[slot] = nextSequence++;
+        orderChanged();
+        return game;
+    }
+
+    @Override
+    public Optional<Game> saveIfAbsent(Game game) {
+        final long key = teamRegistry.registerKey(game.homeTeam(), game.awayTeam());
+        final int existingSlot = slotsByKey.get(key);
+        if (existingSlot != LongIntHashMap.MISSING) {
+            return Optional.of(toGame(existingSlot));
+        }
+        final int slot = insert(key);
+        homeScores[slot] = game.homeScore();
+        awayScores[slot] = game.awayScore();
+        sequences[slot] = nextSequence++;
+        orderChanged();
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Game> saveIfTeamsFree(Game game) {
+        final long key = teamRegistry.registerKey(game.homeTeam(), game.awayTeam());
+        int playingSlot = firstSlotByTeam.get(TeamRegistry.homeId(key));
+        if (playingSlot == LongIntHashMap.MISSING) {
+            playingSlot = firstSlotByTeam.get(TeamRegistry.awayId(key));
+        }
+        if (playingSlot != LongIntHashMap.MISSING) {
+            return Optional.of(toGame(playingSlot));
+        }
+        final int slot = insert(key);
+        homeScores[slot] = game.homeScore();
+        awayScores[slot] = game.awayScore();
+        sequences[slot] = nextSequence++;
+        orderChanged();
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Game> findByTeams(String homeTeam, String awayTeam) {
+        final int slot = slotsByKey.get(teamRegistry.keyOf(homeTeam, awayTeam));
+        return slot == LongIntHashMap.MISSING ? Optional.empty() : Optional.of(toGame(slot));
+    }
+
+    @Override
+    public List<Game> findGamesByTeam(String team) {
+        final int teamId = teamRegistry.idOf(team);
+        int count = 0;
+        for (int slot = firstSlotByTeam.get(teamId); slot != LongIntHashMap.MISSING; slot = nextSlotOfTeam(slot, teamId)) {
+            count++;
+        }
+        final int[] slots = new int[count];
+        count = 0;
+        for (int slot = firstSlotByTeam.get(teamId); slot != LongIntHashMap.MISSING; slot = nextSlotOfTeam(slot, teamId)) {
+            int position = count++;
+            while (position > 0 && sequences[slots[position - 1]] > sequences[slot]) {
+                slots[position] = slots[position - 1];
+                position--;
+            }
+            slots[position] = slot;
+        }
+        return toGames(slots, 0, count);
+    }
+
+    @Override
+    public Optional<Game> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        final int slot = slotsByKey.get(teamRegistry.keyOf(homeTeam, awayTeam));
+        if (slot == LongIntHashMap.MISSING) {
+            return Optional.empty();
+        }
+        homeScores[slot] = homeScore;
+        awayScores[slot] = awayScore;
+        summaryOrder = null;
+        return Optional.of(toGame(slot));
+    }
+
+    @Override
+    public Optional<VersionedUpdateResult> updateScoreIfNewer(String homeTeam, String awayTeam, int homeScore, int awayScore, long version) {
+        final int slot = slotsByKey.get(teamRegistry.keyOf(homeTeam, awayTeam));
+        if (slot == LongIntHashMap.MISSING) {
+            return Optional.empty();
+        }
+        if (version <= versions[slot]) {
+            return Optional.of(VersionedUpdateResult.stale(toGame(slot)));
+        }
+        homeScores[slot] = homeScore;
+        awayScores[slot] = awayScore;
+        versions[slot] = version;
+        summaryOrder = null;
+        return Optional.of(VersionedUpdateResult.applied(toGame(slot)));
+    }
+
+    @Override
+    public boolean delete(Game game) {
+        final long key = teamRegistry.keyOf(game.homeTeam(), game.awayTeam());
+        final int slot = slotsByKey.get(key);
+        if (slot == LongIntHashMap.MISSING
+                || homeScores[slot] != game.homeScore() || awayScores[slot] != game.awayScore()) {
+            return false;
+        }
+        slotsByKey.remove(key);
+        release(slot);
+        orderChanged();
+        return true;
+    }
+
+    @Override
+    public Optional<Game> deleteByTeams(String homeTeam, String awayTeam) {
+        final int slot = slotsByKey.remove(teamRegistry.keyOf(homeTeam, awayTeam));
+        if (slot == LongIntHashMap.MISSING) {
+            return Optional.empty();
+        }
+        final Game game = toGame(slot);
+        release(slot);
+        orderChanged();
+        return Optional.of(game);
+    }
+
+    @Override
+    public List<Game> findAll() {
+        if (startOrder == null) {
+            startOrder = rank(size, byStartOrder);
+        }
+        return toGames(startOrder, 0, size);
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder() {
+        return findAllByTotalScoreAndReverseOrder(0, size);
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder(int offset, int limit) {
+        final int end = (int) Math.min((long) offset + limit, size);
+        if (offset >= end) {
+            return List.of();
+        }
+        if (summaryOrder == null && end == size) {
+            summaryOrder = rank(size, bySummaryOrder);
+        }
+        return toGames(summaryOrder != null ? summaryOrder : rank(end, bySummaryOrder), offset, end);
+    }
+
+    private int insert(long key) {
+        final int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (usedSlots == keys.length) {
+                grow();
+            }
+            slot = usedSlots++;
+        }
+        keys[slot] = key;
+        versions[slot] = 0;
+        slotsByKey.put(key, slot);
+        linkToTeam(slot, TeamRegistry.homeId(key));
+        linkToTeam(slot, TeamRegistry.awayId(key));
+        size++;
+        return slot;
+    }
+
+    private void release(int slot) {
+        unlinkFromTeam(slot, TeamRegistry.homeId(keys[slot]));
+        unlinkFromTeam(slot, TeamRegistry.awayId(keys[slot]));
+        sequences[slot] = FREE;
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    private void grow() {
+        final int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        homeScores = Arrays.copyOf(homeScores, capacity);
+        awayScores = Arrays.copyOf(awayScores, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        nextHomeTeamSlot = Arrays.copyOf(nextHomeTeamSlot, capacity);
+        nextAwayTeamSlot = Arrays.copyOf(nextAwayTeamSlot, capacity);
+        Arrays.fill(sequences, capacity / 2, capacity, FREE);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    private void linkToTeam(int slot, int teamId) {
+        setNextSlotOfTeam(slot, teamId, firstSlotByTeam.get(teamId));
+        firstSlotByTeam.put(teamId, slot);
+    }
+
+    private void unlinkFromTeam(int slot, int teamId) {
+        final int next = nextSlotOfTeam(slot, teamId);
+        final int first = firstSlotByTeam.get(teamId);
+        if (first != slot) {
+            int previous = first;
+            while (nextSlotOfTeam(previous, teamId) != slot) {
+                previous = nextSlotOfTeam(previous, teamId);
+            }
+            setNextSlotOfTeam(previous, teamId, next);
+        } else if (next == LongIntHashMap.MISSING) {
+            firstSlotByTeam.remove(teamId);
+        } else {
+            firstSlotByTeam.put(teamId, next);
+        }
+    }
+
+    private int nextSlotOfTeam(int slot, int teamId) {
+        return TeamRegistry.homeId(keys[slot]) == teamId ? nextHomeTeamSlot[slot] : nextAwayTeamSlot[slot];
+    }
+
+    private void setNextSlotOfTeam(int slot, int teamId, int next) {
+        if (TeamRegistry.homeId(keys[slot]) == teamId) {
+            nextHomeTeamSlot[slot] = next;
+        } else {
+            nextAwayTeamSlot[slot] = next;
+        }
+    }
+
+    private Game toGame(int slot) {
+        return Game.createWithScores(
+                teamRegistry.nameOf(TeamRegistry.homeId(keys[slot])),
+                teamRegistry.nameOf(TeamRegistry.awayId(keys[slot])),
+                homeScores[slot],
+                awayScores[slot]
+        );
+    }
+
+    private void orderChanged() {
+        startOrder = null;
+        summaryOrder = null;
+    }
+
+    /**
+     * Returns the {@code count} slots ranked first by {@code order}, in rank order, selected with a bounded heap
+     * whose root is the lowest ranked slot kept so far: O(n log count).
+     */
+    private int[] rank(int count, SlotOrder order) {
+        final int[] heap = new int[count];
+        int heapSize = 0;
+        for (int slot = 0; slot < usedSlots; slot++) {
+            if (sequences[slot] == FREE) {
+                continue;
+            }
+            if (heapSize < count) {
+                heap[heapSize] = slot;
+                siftUp(heap, heapSize++, order);
+            } else if (order.ranksBefore(slot, heap[0])) {
+                heap[0] = slot;
+                siftDown(heap, heapSize, order);
+            }
+        }
+
+        final int[] ranked = new int[heapSize];
+        for (int position = heapSize - 1; position >= 0; position--) {
+            ranked[position] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, order);
+        }
+        return ranked;
+    }
+
+    private List<Game> toGames(int[] slots, int from, int to) {
+        final Game[] games = new Game[to - from];
+        for (int i = from; i < to; i++) {
+            games[i - from] = toGame(slots[i]);
+        }
+        return Collections.unmodifiableList(Arrays.asList(games));
+    }
+
+    private static void siftUp(int[] heap, int index, SlotOrder order) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (!order.ranksBefore(heap[parent], heap[index])) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int heapSize, SlotOrder order) {
+        int index = 0;
+        while (true) {
+            final int left = 2 * index + 1;
+            if (left >= heapSize) {
+                return;
+            }
+            final int right = left + 1;
+            final int lowest = right < heapSize && order.ranksBefore(heap[left], heap[right]) ? right : left;
+            if (!order.ranksBefore(heap[index], heap[lowest])) {
+                return;
+            }
+            swap(heap, index, lowest);
+            index = lowest;
+        }
+    }
+
+    private static void swap(int[] heap, int first, int second) {
+        final int slot = heap[first];
+        heap[first] = heap[second];
+        heap[second] = slot;
+    }
+
+    @FunctionalInterface
+    private interface SlotOrder {
+        boolean ranksBefore(int firstSlot, int secondSlot);
+    }
+}
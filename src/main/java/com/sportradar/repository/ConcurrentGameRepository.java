@@ -0,0 +1,222 @@
+package com.sportradar.repository;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.VersionedUpdateResult;
+import com.sportradar.utils.PersistentSortedList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe repository. Every write is a single atomic map operation on the game's (home, away) key, so
+ * writes to different games never take the same lock. The summary is an immutable {@link PersistentSortedList}
+ * that each write replaces with compare-and-set from inside its map operation, so a summary read is a consistent
+ * snapshot that never misses a live game. Writes to different games only contend on that one reference.
+ * <p>
+ * The JDK has no concurrent map with primitive keys, so every operation boxes the packed team key into a
+ * {@link Long} (and the team index its team ids into {@link Integer}s). Lookups of existing games therefore may
+ * allocate, and each stored game keeps its boxed key alive.
+ * <p>
+ * The per-team index is maintained inside the same atomic map operation as the game itself. {@link #saveIfTeamsFree}
+ * additionally locks the stripes of both teams, so it is atomic against other {@code saveIfTeamsFree} calls; games
+ * saved through {@link #save} or {@link #saveIfAbsent} at the same time are not checked against it.
+ */
+public class ConcurrentGameRepository implements GameRepository {
+
+    private static final int TEAM_LOCK_STRIPES = 64;
+
+    private final TeamRegistry teamRegistry;
+    private final ConcurrentMap<Long, GameEntry> games = new ConcurrentHashMap<>();
+    private final AtomicReference<PersistentSortedList<GameEntry>> summary =
+            new AtomicReference<>(PersistentSortedList.empty(GameEntry.SUMMARY_ORDER));
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final ConcurrentMap<Integer, Set<Long>> keysByTeam = new ConcurrentHashMap<>();
+    private final Object[] teamLocks = new Object[TEAM_LOCK_STRIPES];
+
+    public ConcurrentGameRepository() {
+        this(new TeamRegistry());
+    }
+
+    public ConcurrentGameRepository(TeamRegistry teamRegistry) {
+        this.teamRegistry = teamRegistry;
+        for (int stripe = 0; stripe < TEAM_LOCK_STRIPES; stripe++) {
+            teamLocks[stripe] = new Object();
+        }
+    }
+
+    @Override
+    public Game save(Game game) {
+        games.compute(teamRegistry.registerKey(game.homeTeam(), game.awayTeam()),
+                (key, previous) -> index(key, game, nextSequence.getAndIncrement(), previous));
+        return game;
+    }
+
+    @Override
+    public Optional<Game> saveIfAbsent(Game game) {
+        final long sequence = nextSequence.getAndIncrement();
+        final GameEntry entry = games.computeIfAbsent(teamRegistry.registerKey(game.homeTeam(), game.awayTeam()), key -> index(key, game, sequence, null));
+        return entry.sequence() == sequence ? Optional.empty() : Optional.of(entry.game());
+    }
+
+    @Override
+    public Optional<Game> saveIfTeamsFree(Game game) {
+        final long teamsKey = teamRegistry.registerKey(game.homeTeam(), game.awayTeam());
+        final int homeId = TeamRegistry.homeId(teamsKey);
+        final int awayId = TeamRegistry.awayId(teamsKey);
+        final Object firstLock = teamLocks[Math.min(stripeOf(homeId), stripeOf(awayId))];
+        final Object secondLock = teamLocks[Math.max(stripeOf(homeId), stripeOf(awayId))];
+        synchronized (firstLock) {
+            synchronized (secondLock) {
+                final Optional<Game> playing = anyGameOf(homeId).or(() -> anyGameOf(awayId));
+                return playing.isPresent() ? playing : saveIfAbsent(game);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Game> findByTeams(String homeTeam, String awayTeam) {
+        return Optional.ofNullable(games.get(teamRegistry.keyOf(homeTeam, awayTeam)))
+                .map(GameEntry::game);
+    }
+
+    @Override
+    public List<Game> findGamesByTeam(String team) {
+        return keysByTeam.getOrDefault(teamRegistry.idOf(team), Set.of()).stream()
+                .map(games::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingLong(GameEntry::sequence))
+                .map(GameEntry::game)
+                .toList();
+    }
+
+    @Override
+    public Optional<Game> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return Optional.ofNullable(games.computeIfPresent(teamRegistry.keyOf(homeTeam, awayTeam), (key, previous) -> {
+            final GameEntry entry = previous.withScores(homeScore, awayScore);
+            replaceInSummary(previous, entry);
+            return entry;
+        })).map(GameEntry::game);
+    }
+
+    @Override
+    public Optional<VersionedUpdateResult> updateScoreIfNewer(String homeTeam, String awayTeam, int homeScore, int awayScore, long version) {
+        final boolean[] applied = new boolean[1];
+        return Optional.ofNullable(games.computeIfPresent(teamRegistry.keyOf(homeTeam, awayTeam), (key, previous) -> {
+            if (version <= previous.version()) {
+                return previous;
+            }
+            final GameEntry entry = previous.withScores(homeScore, awayScore, version);
+            replaceInSummary(previous, entry);
+            applied[0] = true;
+            return entry;
+        })).map(entry -> new VersionedUpdateResult(entry.game(), applied[0]));
+    }
+
+    @Override
+    public boolean delete(Game game) {
+        final boolean[] deleted = new boolean[1];
+        games.computeIfPresent(teamRegistry.keyOf(game.homeTeam(), game.awayTeam()), (key, entry) -> {
+            if (!entry.game().equals(game)) {
+                return entry;
+            }
+            summary.updateAndGet(list -> list.without(entry));
+            unindexTeams(key);
+            deleted[0] = true;
+            return null;
+        });
+        return deleted[0];
+    }
+
+    @Override
+    public Optional<Game> deleteByTeams(String homeTeam, String awayTeam) {
+        final GameEntry[] removed = new GameEntry[1];
+        games.computeIfPresent(teamRegistry.keyOf(homeTeam, awayTeam), (key, entry) -> {
+            summary.updateAndGet(list -> list.without(entry));
+            unindexTeams(key);
+            removed[0] = entry;
+            return null;
+        });
+        return Optional.ofNullable(removed[0]).map(GameEntry::game);
+    }
+
+    @Override
+    public List<Game> findAll() {
+        final List<GameEntry> entries = new ArrayList<>(games.values());
+        entries.sort(Comparator.comparingLong(GameEntry::sequence));
+        return entries.stream()
+                .map(GameEntry::game)
+                .toList();
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder() {
+        return summary.get().stream()
+                .map(GameEntry::game)
+                .toList();
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder(int offset, int limit) {
+        final PersistentSortedList<GameEntry> entries = summary.get();
+        final int end = (int) Math.min((long) offset + limit, entries.size());
+        return offset >= end ? List.of() : entries.subList(offset, end).stream()
+                .map(GameEntry::game)
+                .toList();
+    }
+
+    private GameEntry index(long key, Game game, long sequence, GameEntry previous) {
+        final GameEntry entry = new GameEntry(game, sequence);
+        replaceInSummary(previous, entry);
+        indexTeam(TeamRegistry.homeId(key), key);
+        indexTeam(TeamRegistry.awayId(key), key);
+        return entry;
+    }
+
+    /**
+     * Swaps the previous entry, if any, for the new one in a single compare-and-set, so no summary read sees the
+     * game missing.
+     */
+    private void replaceInSummary(GameEntry previous, GameEntry entry) {
+        summary.updateAndGet(list -> (previous == null ? list : list.without(previous)).with(entry));
+    }
+
+    private void indexTeam(int teamId, long key) {
+        keysByTeam.compute(teamId, (id, keys) -> {
+            final Set<Long> teamKeys = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+            teamKeys.add(key);
+            return teamKeys;
+        });
+    }
+
+    private void unindexTeams(long key) {
+        unindexTeam(TeamRegistry.homeId(key), key);
+        unindexTeam(TeamRegistry.awayId(key), key);
+    }
+
+    private void unindexTeam(int teamId, long key) {
+        keysByTeam.computeIfPresent(teamId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private Optional<Game> anyGameOf(int teamId) {
+        return keysByTeam.getOrDefault(teamId, Set.of()).stream()
+                .map(games::get)
+                .filter(Objects::nonNull)
+                .map(GameEntry::game)
+                .findFirst();
+    }
+
+    private static int stripeOf(int teamId) {
+        return teamId & (TEAM_LOCK_STRIPES - 1);
+    }
+}
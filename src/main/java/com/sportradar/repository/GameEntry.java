@@ -0,0 +1,25 @@
+package com.sportradar.repository;
+
+import com.sportradar.domain.Game;
+
+import java.util.Comparator;
+
+record GameEntry(Game game, long sequence, long version) {
+
+    static final Comparator<GameEntry> SUMMARY_ORDER = (first, second) -> {
+        final int byTotalScore = Integer.compare(second.game().getTotalScore(), first.game().getTotalScore());
+        return byTotalScore != 0 ? byTotalScore : Long.compare(second.sequence(), first.sequence());
+    };
+
+    GameEntry(Game game, long sequence) {
+        this(game, sequence, 0);
+    }
+
+    GameEntry withScores(int homeScore, int awayScore) {
+        return withScores(homeScore, awayScore, version);
+    }
+
+    GameEntry withScores(int homeScore, int awayScore, long version) {
+        return new GameEntry(Game.createWithScores(game.homeTeam(), game.awayTeam(), homeScore, awayScore), sequence, version);
+    }
+}
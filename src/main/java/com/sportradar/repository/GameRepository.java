@@ -1,16 +1,63 @@
 package com.sportradar.repository;
 
 import com.sportradar.domain.Game;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.domain.VersionedUpdateResult;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 public interface GameRepository {
     Game save(Game game);
 
+    Optional<Game> saveIfAbsent(Game game);
+
+    /**
+     * Saves the game unless its home or away team already plays in a stored game.
+     *
+     * @return a stored game of the home or away team, or empty if the game was saved
+     */
+    Optional<Game> saveIfTeamsFree(Game game);
+
     Optional<Game> findByTeams(String homeTeam, String awayTeam);
 
-    void delete(Game game);
+    /**
+     * Games in which the team plays at home or away, in start order.
+     */
+    List<Game> findGamesByTeam(String team);
+
+    Optional<Game> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore);
+
+    /**
+     * Updates the score only if {@code version} is newer than the stored game's version, which is 0 when the game is
+     * saved and is not changed by {@link #updateScore}. Thread-safe repositories check and update in one atomic step,
+     * so redelivered and out-of-order updates can be applied concurrently without regressing the score.
+     *
+     * @return the stored game and whether the update was applied or was stale; empty if there is no such game
+     */
+    Optional<VersionedUpdateResult> updateScoreIfNewer(String homeTeam, String awayTeam, int homeScore, int awayScore, long version);
+
+    default List<Optional<Game>> updateScores(List<ScoreUpdate> updates) {
+        final List<Optional<Game>> updatedGames = new ArrayList<>(updates.size());
+        for (ScoreUpdate update : updates) {
+            updatedGames.add(updateScore(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore()));
+        }
+        return updatedGames;
+    }
+
+    /**
+     * Deletes the game if a game equal to it, scores included, is stored.
+     *
+     * @return whether the game was stored and is now deleted
+     */
+    boolean delete(Game game);
+
+    Optional<Game> deleteByTeams(String homeTeam, String awayTeam);
 
     List<Game> findAll();
+
+    List<Game> findAllByTotalScoreAndReverseOrder();
+
+    List<Game> findAllByTotalScoreAndReverseOrder(int offset, int limit);
 }
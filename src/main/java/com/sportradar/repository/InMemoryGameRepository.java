@@ -1,24 +1,55 @@
 package com.sportradar.repository;
 
 import com.sportradar.domain.Game;
+import com.sportradar.domain.VersionedUpdateResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 
 @RequiredArgsConstructor
 @Slf4j
 public class InMemoryGameRepository implements GameRepository {
 
     private final List<Game> games;
+    private final Map<List<String>, Long> versions = new HashMap<>();
 
     @Override
     public Game save(Game game) {
+        versions.remove(List.of(game.homeTeam(), game.awayTeam()));
         games.add(game);
         return game;
     }
 
+    @Override
+    public Optional<Game> saveIfAbsent(Game game) {
+        final Optional<Game> existingGame = findByTeams(game.homeTeam(), game.awayTeam());
+        if (existingGame.isEmpty()) {
+            save(game);
+        }
+        return existingGame;
+    }
+
+    @Override
+    public Optional<Game> saveIfTeamsFree(Game game) {
+        final Optional<Game> playingGame = games.stream()
+                .filter(stored -> plays(stored, game.homeTeam()) || plays(stored, game.awayTeam()))
+                .findFirst();
+        if (playingGame.isEmpty()) {
+            save(game);
+        }
+        return playingGame;
+    }
+
     @Override
     public Optional<Game> findByTeams(String homeTeam, String awayTeam) {
         return games.stream()
@@ -27,12 +58,91 @@ public class InMemoryGameRepository implements GameRepository {
     }
 
     @Override
-    public void delete(Game game) {
-        games.remove(game);
+    public List<Game> findGamesByTeam(String team) {
+        return games.stream()
+                .filter(game -> plays(game, team))
+                .toList();
+    }
+
+    @Override
+    public Optional<Game> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        final ListIterator<Game> iterator = games.listIterator();
+        while (iterator.hasNext()) {
+            final Game game = iterator.next();
+            if (game.homeTeam().equals(homeTeam) && game.awayTeam().equals(awayTeam)) {
+                final Game updatedGame = Game.createWithScores(homeTeam, awayTeam, homeScore, awayScore);
+                iterator.set(updatedGame);
+                return Optional.of(updatedGame);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<VersionedUpdateResult> updateScoreIfNewer(String homeTeam, String awayTeam, int homeScore, int awayScore, long version) {
+        final Optional<Game> storedGame = findByTeams(homeTeam, awayTeam);
+        final List<String> teams = List.of(homeTeam, awayTeam);
+        if (storedGame.isEmpty() || version <= versions.getOrDefault(teams, 0L)) {
+            return storedGame.map(VersionedUpdateResult::stale);
+        }
+        versions.put(teams, version);
+        return updateScore(homeTeam, awayTeam, homeScore, awayScore).map(VersionedUpdateResult::applied);
+    }
+
+    @Override
+    public boolean delete(Game game) {
+        if (!games.remove(game)) {
+            return false;
+        }
+        versions.remove(List.of(game.homeTeam(), game.awayTeam()));
+        return true;
+    }
+
+    @Override
+    public Optional<Game> deleteByTeams(String homeTeam, String awayTeam) {
+        final Optional<Game> game = findByTeams(homeTeam, awayTeam);
+        game.ifPresent(this::delete);
+        return game;
     }
 
     @Override
     public List<Game> findAll() {
-        return games;
+        return Collections.unmodifiableList(games);
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder() {
+        final List<Game> summary = new ArrayList<>(games);
+        Collections.reverse(summary);
+        summary.sort(Comparator.comparingInt(Game::getTotalScore).reversed());
+        return summary;
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder(int offset, int limit) {
+        final int end = (int) Math.min((long) offset + limit, games.size());
+        if (offset >= end) {
+            return List.of();
+        }
+
+        final Comparator<Integer> summaryOrder = Comparator.<Integer>comparingInt(index -> games.get(index).getTotalScore())
+                .thenComparingInt(index -> index);
+        final PriorityQueue<Integer> top = new PriorityQueue<>(end + 1, summaryOrder);
+        for (int index = 0; index < games.size(); index++) {
+            top.add(index);
+            if (top.size() > end) {
+                top.poll();
+            }
+        }
+
+        final Game[] page = new Game[end - offset];
+        for (int position = end - 1; position >= offset; position--) {
+            page[position - offset] = games.get(top.poll());
+        }
+        return Arrays.asList(page);
+    }
+
+    private static boolean plays(Game game, String team) {
+        return game.homeTeam().equals(team) || game.awayTeam().equals(team);
     }
 }
\ No newline at end of file
@@ -0,0 +1,283 @@
+package com.sportradar.repository;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.domain.VersionedUpdateResult;
+import com.sportradar.utils.LongObjectHashMap;
+import com.sportradar.utils.PersistentSortedList;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes and {@link #findByTeams}, {@link #findGamesByTeam} must all come from one writer thread, as they use
+ * mutable hash indexes. {@link #findAll()} and {@link #findAllByTotalScoreAndReverseOrder()} may be called from any
+ * thread: they return the immutable snapshot the writer last published through a {@code volatile} reference, without
+ * locking or copying. The games in start order and in summary order are persistent sorted lists, so every write
+ * publishes the next snapshot in O(log n) and shares the rest of the board with the previous one.
+ */
+public class IndexedGameRepository implements GameRepository {
+
+    private static final Comparator<GameEntry> START_ORDER = Comparator.comparingLong(GameEntry::sequence);
+
+    private final TeamRegistry teamRegistry;
+    private final LongObjectHashMap<Node> games = new LongObjectHashMap<>();
+    private final LongObjectHashMap<List<Node>> gamesByTeam = new LongObjectHashMap<>();
+    private PersistentSortedList<GameEntry> startOrder = PersistentSortedList.empty(START_ORDER);
+    private PersistentSortedList<GameEntry> summary = PersistentSortedList.empty(GameEntry.SUMMARY_ORDER);
+    private long nextSequence;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public IndexedGameRepository() {
+        this(new TeamRegistry());
+    }
+
+    public IndexedGameRepository(TeamRegistry teamRegistry) {
+        this.teamRegistry = teamRegistry;
+    }
+
+    @Override
+    public Game save(Game game) {
+        final long key = teamRegistry.registerKey(game.homeTeam(), game.awayTeam());
+        final Node previous = games.remove(key);
+        if (previous != null) {
+            unlink(previous);
+        }
+        insert(key, game);
+        publishSnapshot();
+        return game;
+    }
+
+    @Override
+    public Optional<Game> saveIfAbsent(Game game) {
+        final long key = teamRegistry.registerKey(game.homeTeam(), game.awayTeam());
+        final Node existing = games.get(key);
+        if (existing != null) {
+            return Optional.of(existing.entry.game());
+        }
+        insert(key, game);
+        publishSnapshot();
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Game> saveIfTeamsFree(Game game) {
+        final long key = teamRegistry.registerKey(game.homeTeam(), game.awayTeam());
+        final Optional<Game> playingGame = anyGameOf(TeamRegistry.homeId(key)).or(() -> anyGameOf(TeamRegistry.awayId(key)));
+        if (playingGame.isEmpty()) {
+            insert(key, game);
+            publishSnapshot();
+        }
+        return playingGame;
+    }
+
+    @Override
+    public Optional<Game> findByTeams(String homeTeam, String awayTeam) {
+        final Node node = games.get(teamRegistry.keyOf(homeTeam, awayTeam));
+        return node == null ? Optional.empty() : Optional.of(node.entry.game());
+    }
+
+    @Override
+    public List<Game> findGamesByTeam(String team) {
+        final List<Node> nodes = gamesByTeam.get(teamRegistry.idOf(team));
+        if (nodes == null) {
+            return List.of();
+        }
+        return nodes.stream()
+                .map(node -> node.entry.game())
+                .toList();
+    }
+
+    @Override
+    public Optional<Game> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        final Optional<Game> updatedGame = applyScore(homeTeam, awayTeam, homeScore, awayScore);
+        if (updatedGame.isPresent()) {
+            publishSnapshot();
+        }
+        return updatedGame;
+    }
+
+    @Override
+    public Optional<VersionedUpdateResult> updateScoreIfNewer(String homeTeam, String awayTeam, int homeScore, int awayScore, long version) {
+        final Node node = games.get(teamRegistry.keyOf(homeTeam, awayTeam));
+        if (node == null) {
+            return Optional.empty();
+        }
+        if (version <= node.entry.version()) {
+            return Optional.of(VersionedUpdateResult.stale(node.entry.game()));
+        }
+        replaceEntry(node, node.entry.withScores(homeScore, awayScore, version));
+        publishSnapshot();
+        return Optional.of(VersionedUpdateResult.applied(node.entry.game()));
+    }
+
+    @Override
+    public List<Optional<Game>> updateScores(List<ScoreUpdate> updates) {
+        final List<Optional<Game>> updatedGames = new ArrayList<>(updates.size());
+        boolean anyUpdated = false;
+        for (ScoreUpdate update : updates) {
+            final Optional<Game> updatedGame =
+                    applyScore(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore());
+            anyUpdated |= updatedGame.isPresent();
+            updatedGames.add(updatedGame);
+        }
+        if (anyUpdated) {
+            publishSnapshot();
+        }
+        return updatedGames;
+    }
+
+    @Override
+    public boolean delete(Game game) {
+        final long key = teamRegistry.keyOf(game.homeTeam(), game.awayTeam());
+        final Node node = games.get(key);
+        if (node == null || !node.entry.game().equals(game)) {
+            return false;
+        }
+        games.remove(key);
+        unlink(node);
+        publishSnapshot();
+        return true;
+    }
+
+    @Override
+    public Optional<Game> deleteByTeams(String homeTeam, String awayTeam) {
+        final Node node = games.remove(teamRegistry.keyOf(homeTeam, awayTeam));
+        if (node == null) {
+            return Optional.empty();
+        }
+        unlink(node);
+        publishSnapshot();
+        return Optional.of(node.entry.game());
+    }
+
+    @Override
+    public List<Game> findAll() {
+        return snapshot.games();
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder() {
+        return snapshot.summary();
+    }
+
+    @Override
+    public List<Game> findAllByTotalScoreAndReverseOrder(int offset, int limit) {
+        final List<Game> summary = snapshot.summary();
+        final int end = (int) Math.min((long) offset + limit, summary.size());
+        return offset >= end ? List.of() : summary.subList(offset, end);
+    }
+
+    private Optional<Game> applyScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        final Node node = games.get(teamRegistry.keyOf(homeTeam, awayTeam));
+        if (node == null) {
+            return Optional.empty();
+        }
+
+        replaceEntry(node, node.entry.withScores(homeScore, awayScore));
+        return Optional.of(node.entry.game());
+    }
+
+    private void replaceEntry(Node node, GameEntry entry) {
+        summary = summary.without(node.entry).with(entry);
+        startOrder = startOrder.with(entry);
+        node.entry = entry;
+    }
+
+    private Optional<Game> anyGameOf(int teamId) {
+        final List<Node> nodes = gamesByTeam.get(teamId);
+        return nodes == null ? Optional.empty() : Optional.of(nodes.get(0).entry.game());
+    }
+
+    private void insert(long key, Game game) {
+        final Node node = new Node(key, new GameEntry(game, nextSequence++));
+        games.put(key, node);
+        summary = summary.with(node.entry);
+        startOrder = startOrder.with(node.entry);
+        indexTeam(TeamRegistry.homeId(key), node);
+        indexTeam(TeamRegistry.awayId(key), node);
+    }
+
+    private void indexTeam(int teamId, Node node) {
+        List<Node> nodes = gamesByTeam.get(teamId);
+        if (nodes == null) {
+            nodes = new ArrayList<>(1);
+            gamesByTeam.put(teamId, nodes);
+        }
+        nodes.add(node);
+    }
+
+    private void unindexTeam(int teamId, Node node) {
+        final List<Node> nodes = gamesByTeam.get(teamId);
+        nodes.remove(node);
+        if (nodes.isEmpty()) {
+            gamesByTeam.remove(teamId);
+        }
+    }
+
+    private void unlink(Node node) {
+        summary = summary.without(node.entry);
+        startOrder = startOrder.without(node.entry);
+        unindexTeam(TeamRegistry.homeId(node.key), node);
+        unindexTeam(TeamRegistry.awayId(node.key), node);
+    }
+
+    private void publishSnapshot() {
+        snapshot = new Snapshot(new GameList(startOrder), new GameList(summary));
+    }
+
+    private static final class Node {
+        private final long key;
+        private GameEntry entry;
+
+        private Node(long key, GameEntry entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * Read-only view of the games of one version of a persistent list.
+     */
+    private static final class GameList extends AbstractList<Game> {
+        private final PersistentSortedList<GameEntry> entries;
+
+        private GameList(PersistentSortedList<GameEntry> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public Game get(int index) {
+            return entries.get(index).game();
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public Iterator<Game> iterator() {
+            final Iterator<GameEntry> iterator = entries.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Game next() {
+                    return iterator.next().game();
+                }
+            };
+        }
+    }
+
+    private record Snapshot(List<Game> games, List<Game> summary) {
+        private static final Snapshot EMPTY = new Snapshot(List.of(), List.of());
+    }
+}
@@ -0,0 +1,86 @@
+package com.sportradar.repository;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interns case-insensitive team names into dense int IDs, starting at 0. A (home, away) pair of IDs packs into a
+ * single {@code long} key, so {@link IndexedGameRepository} and {@link ColumnarGameRepository} hash and compare
+ * games with integer operations only. {@link ConcurrentGameRepository} still boxes the key into a {@link Long} for
+ * its concurrent map. IDs are never released. Thread-safe: lookups are lock-free, only the first registration of
+ * a name synchronizes.
+ */
+public class TeamRegistry {
+
+    public static final int UNKNOWN_ID = -1;
+    public static final long UNKNOWN_KEY = -1L;
+
+    private final ConcurrentMap<String, Integer> idsBySpelling = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> idsByNormalizedName = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[16];
+    private int size;
+
+    public int register(String teamName) {
+        final Integer id = idsBySpelling.get(teamName);
+        return id != null ? id : registerNewSpelling(teamName);
+    }
+
+    public int idOf(String teamName) {
+        Integer id = idsBySpelling.get(teamName);
+        if (id == null) {
+            id = idsByNormalizedName.get(normalize(teamName));
+        }
+        return id != null ? id : UNKNOWN_ID;
+    }
+
+    public String nameOf(int id) {
+        return names[id];
+    }
+
+    public int size() {
+        return idsByNormalizedName.size();
+    }
+
+    public long registerKey(String homeTeam, String awayTeam) {
+        return key(register(homeTeam), register(awayTeam));
+    }
+
+    public long keyOf(String homeTeam, String awayTeam) {
+        final int homeId = idOf(homeTeam);
+        final int awayId = idOf(awayTeam);
+        return homeId == UNKNOWN_ID || awayId == UNKNOWN_ID ? UNKNOWN_KEY : key(homeId, awayId);
+    }
+
+    public static long key(int homeId, int awayId) {
+        return ((long) homeId << 32) | (awayId & 0xFFFFFFFFL);
+    }
+
+    public static int homeId(long key) {
+        return (int) (key >>> 32);
+    }
+
+    public static int awayId(long key) {
+        return (int) key;
+    }
+
+    private synchronized int registerNewSpelling(String teamName) {
+        final String normalizedName = normalize(teamName);
+        Integer id = idsByNormalizedName.get(normalizedName);
+        if (id == null) {
+            id = size;
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+            }
+            names[size++] = teamName;
+            idsByNormalizedName.put(normalizedName, id);
+        }
+        idsBySpelling.put(teamName, id);
+        return id;
+    }
+
+    private static String normalize(String teamName) {
+        return teamName.toLowerCase(Locale.ROOT);
+    }
+}
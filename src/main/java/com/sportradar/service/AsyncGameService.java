@@ -0,0 +1,33 @@
+package com.sportradar.service;
+
+import com.sportradar.domain.Game;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link GameService}: every operation returns at once and completes its future with the
+ * result, or exceptionally with the exception the synchronous service threw. Writes to the same match are applied in
+ * the order they were called; writes to different matches and reads may run in any order.
+ */
+public interface AsyncGameService extends AutoCloseable {
+    CompletableFuture<Game> startGame(String homeTeam, String awayTeam);
+
+    CompletableFuture<Void> finishGame(String homeTeam, String awayTeam);
+
+    CompletableFuture<Game> updateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore);
+
+    CompletableFuture<Game> updateScoreIfNewer(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, long version);
+
+    CompletableFuture<List<Game>> getSummaryByTotalScoreAndReverseOrder();
+
+    CompletableFuture<List<Game>> getSummaryTop(int limit);
+
+    CompletableFuture<List<Game>> getGamesByTeam(String team);
+
+    /**
+     * Waits for every operation called so far, then rejects new ones.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,120 @@
+package com.sportradar.service;
+
+import com.sportradar.domain.Game;
+import com.sportradar.repository.TeamRegistry;
+import com.sportradar.utils.GameValidator;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Runs every call of a {@link GameService} as its own virtual thread, so a caller never blocks behind repository
+ * contention or journal flushes, and a blocked call only parks its virtual thread. The wrapped service must be
+ * thread-safe, e.g. a {@link GameServiceImpl} over a {@code ConcurrentGameRepository}.
+ * <p>
+ * Writes are ordered per match: each match keeps the future of its last write, and a new write starts only when that
+ * future has completed. Matches are identified case-insensitively through a {@link TeamRegistry}, and a match whose
+ * writes have all completed is dropped from the map. Team names that fail validation are not ordered, as the service
+ * rejects them anyway.
+ */
+public class AsyncGameServiceImpl implements AsyncGameService {
+
+    private final GameService gameService;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final TeamRegistry teamRegistry = new TeamRegistry();
+    private final ConcurrentMap<Long, CompletableFuture<?>> lastWriteByMatch = new ConcurrentHashMap<>();
+
+    public AsyncGameServiceImpl(GameService gameService) {
+        this.gameService = gameService;
+    }
+
+    @Override
+    public CompletableFuture<Game> startGame(String homeTeam, String awayTeam) {
+        return inMatchOrder(homeTeam, awayTeam, () -> gameService.startGame(homeTeam, awayTeam));
+    }
+
+    @Override
+    public CompletableFuture<Void> finishGame(String homeTeam, String awayTeam) {
+        return inMatchOrder(homeTeam, awayTeam, () -> {
+            gameService.finishGame(homeTeam, awayTeam);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Game> updateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+        return inMatchOrder(homeTeam, awayTeam, () -> gameService.updateScore(homeTeam, awayTeam, homeTeamScore, awayTeamScore));
+    }
+
+    @Override
+    public CompletableFuture<Game> updateScoreIfNewer(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, long version) {
+        return inMatchOrder(homeTeam, awayTeam,
+                () -> gameService.updateScoreIfNewer(homeTeam, awayTeam, homeTeamScore, awayTeamScore, version));
+    }
+
+    @Override
+    public CompletableFuture<List<Game>> getSummaryByTotalScoreAndReverseOrder() {
+        return run(gameService::getSummaryByTotalScoreAndReverseOrder);
+    }
+
+    @Override
+    public CompletableFuture<List<Game>> getSummaryTop(int limit) {
+        return run(() -> gameService.getSummaryTop(limit));
+    }
+
+    @Override
+    public CompletableFuture<List<Game>> getGamesByTeam(String team) {
+        return run(() -> gameService.getGamesByTeam(team));
+    }
+
+    @Override
+    public void close() {
+        for (CompletableFuture<?> lastWrite : lastWriteByMatch.values()) {
+            lastWrite.handle((ignored, failure) -> null).join();
+        }
+        executor.close();
+    }
+
+    private <T> CompletableFuture<T> inMatchOrder(String homeTeam, String awayTeam, Supplier<T> write) {
+        if (!GameValidator.isValidTeamNames(homeTeam, awayTeam)) {
+            return run(write);
+        }
+
+        final Long match = teamRegistry.registerKey(homeTeam, awayTeam);
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final CompletableFuture<?> previous = lastWriteByMatch.put(match, result);
+        if (previous == null) {
+            submit(write, result);
+        } else {
+            previous.whenComplete((ignored, failure) -> submit(write, result));
+        }
+        result.whenComplete((ignored, failure) -> lastWriteByMatch.remove(match, result));
+        return result.copy();
+    }
+
+    private <T> CompletableFuture<T> run(Supplier<T> operation) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        submit(operation, result);
+        return result;
+    }
+
+    private <T> void submit(Supplier<T> operation, CompletableFuture<T> result) {
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(operation.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
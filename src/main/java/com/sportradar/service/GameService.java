@@ -1,8 +1,15 @@
 package com.sportradar.service;
 
 import com.sportradar.domain.Game;
+import com.sportradar.domain.GameWriteStatus;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.domain.ScoreUpdateResult;
+import com.sportradar.domain.SummaryChange;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 
 public interface GameService {
     Game startGame(String homeTeam, String awayTeam);
@@ -11,5 +18,61 @@ public interface GameService {
 
     Game updateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore);
 
+    /**
+     * Updates the score only if {@code version} is newer than the last version applied to the game, so a feed can
+     * be consumed in parallel and redelivered or out-of-order updates are dropped. A new game starts at version 0.
+     *
+     * @return the game as stored, unchanged if the update was stale
+     */
+    Game updateScoreIfNewer(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, long version);
+
+    /**
+     * Non-throwing form of {@link #startGame}: a rejected start is reported by the returned status, so a noisy feed
+     * creates no exception for it.
+     */
+    GameWriteStatus tryStart(String homeTeam, String awayTeam);
+
+    /**
+     * Non-throwing form of {@link #updateScore}.
+     */
+    GameWriteStatus tryUpdate(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore);
+
+    /**
+     * Non-throwing form of {@link #finishGame}.
+     */
+    GameWriteStatus tryFinish(String homeTeam, String awayTeam);
+
+    List<ScoreUpdateResult> updateScores(Collection<ScoreUpdate> updates);
+
     List<Game> getSummaryByTotalScoreAndReverseOrder();
+
+    List<Game> getSummaryTop(int limit);
+
+    List<Game> getSummaryPage(int offset, int limit);
+
+    /**
+     * Returns the games in progress in which {@code team} plays home or away, in start order.
+     */
+    List<Game> getGamesByTeam(String team);
+
+    /**
+     * Returns a counter that every successful write increases after it has been applied, so a summary read after
+     * seeing a version contains at least the writes up to it.
+     */
+    long getBoardVersion();
+
+    /**
+     * Publishes the summary as {@link SummaryChange}s, starting from an empty summary, delivered on virtual threads,
+     * so a slow subscriber never stalls a write. The summary itself is read on the writing thread after each write
+     * and on the subscribing thread when subscribing, so this works with any repository.
+     */
+    Flow.Publisher<SummaryChange> getSummaryChanges();
+
+    /**
+     * Publishes the summary as {@link SummaryChange}s, starting from an empty summary, delivered on {@code executor}.
+     * The summary is read on the writing thread, as for {@link #getSummaryChanges()}; only the diff and the delivery
+     * run on the executor. Passing {@code Runnable::run} delivers on the writing thread, which makes every write wait
+     * for the subscriber.
+     */
+    Flow.Publisher<SummaryChange> getSummaryChanges(Executor executor);
 }
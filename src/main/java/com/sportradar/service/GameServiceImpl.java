@@ -1,60 +1,233 @@
 package com.sportradar.service;
 
 import com.sportradar.domain.Game;
+import com.sportradar.domain.GameWriteStatus;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.domain.ScoreUpdateResult;
+import com.sportradar.domain.SummaryChange;
+import com.sportradar.domain.VersionedUpdateResult;
 import com.sportradar.exception.GameAlreadyExistsException;
 import com.sportradar.exception.GameNotFoundException;
+import com.sportradar.exception.GameValidationException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
 import com.sportradar.repository.GameRepository;
 import com.sportradar.utils.GameValidator;
-import lombok.RequiredArgsConstructor;
-
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
 
-@RequiredArgsConstructor
 public class GameServiceImpl implements GameService {
 
+    /**
+     * Runs each drain on a new virtual thread, so there is no pool to shut down.
+     */
+    private static final Executor SUMMARY_DELIVERY = Thread::startVirtualThread;
+
     private final GameRepository gameRepository;
+    private final boolean oneLiveGamePerTeam;
+    private final AtomicLong boardVersion = new AtomicLong();
+    private final SummaryPublisher summaryPublisher =
+            new SummaryPublisher(this::getSummaryByTotalScoreAndReverseOrder, boardVersion::get);
+
+    public GameServiceImpl(GameRepository gameRepository) {
+        this(gameRepository, false);
+    }
+
+    /**
+     * @param oneLiveGamePerTeam when set, a game cannot be started while either of its teams is playing another one
+     */
+    public GameServiceImpl(GameRepository gameRepository, boolean oneLiveGamePerTeam) {
+        this.gameRepository = gameRepository;
+        this.oneLiveGamePerTeam = oneLiveGamePerTeam;
+    }
 
     @Override
     public Game startGame(String homeTeam, String awayTeam) {
         GameValidator.validateTeamNames(homeTeam, awayTeam);
 
-        gameRepository.findByTeams(homeTeam, awayTeam).ifPresent(game -> {
-            throw new GameAlreadyExistsException("Game between " + homeTeam + " and " + awayTeam + " is already in progress.");
+        final Game game = Game.createNew(homeTeam, awayTeam);
+        save(game).ifPresent(existingGame -> {
+            if (isSameGame(existingGame, homeTeam, awayTeam)) {
+                throw new GameAlreadyExistsException(homeTeam, awayTeam);
+            }
+            final String playingTeam = existingGame.homeTeam().equalsIgnoreCase(homeTeam)
+                    || existingGame.awayTeam().equalsIgnoreCase(homeTeam) ? homeTeam : awayTeam;
+            throw new TeamAlreadyPlayingException(playingTeam, existingGame.homeTeam(), existingGame.awayTeam());
         });
+        changed();
 
-        return gameRepository.save(Game.createNew(homeTeam, awayTeam));
+        return game;
     }
 
     @Override
     public void finishGame(String homeTeam, String awayTeam) {
         GameValidator.validateTeamNames(homeTeam, awayTeam);
 
-        final Game game = findGame(homeTeam, awayTeam);
-
-        gameRepository.delete(game);
+        gameRepository.deleteByTeams(homeTeam, awayTeam)
+                .orElseThrow(() -> gameNotFound(homeTeam, awayTeam));
+        changed();
     }
 
     @Override
     public Game updateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
-        finishGame(homeTeam, awayTeam);
+        GameValidator.validateTeamNames(homeTeam, awayTeam);
+        GameValidator.validateScores(homeTeamScore, awayTeamScore);
+
+        final Game game = gameRepository.updateScore(homeTeam, awayTeam, homeTeamScore, awayTeamScore)
+                .orElseThrow(() -> gameNotFound(homeTeam, awayTeam));
+        changed();
+
+        return game;
+    }
 
+    @Override
+    public Game updateScoreIfNewer(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, long version) {
+        GameValidator.validateTeamNames(homeTeam, awayTeam);
         GameValidator.validateScores(homeTeamScore, awayTeamScore);
 
-        return gameRepository.save(Game.createWithScores(homeTeam, awayTeam, homeTeamScore, awayTeamScore));
+        final VersionedUpdateResult result = gameRepository.updateScoreIfNewer(homeTeam, awayTeam, homeTeamScore, awayTeamScore, version)
+                .orElseThrow(() -> gameNotFound(homeTeam, awayTeam));
+        if (result.applied()) {
+            changed();
+        }
+
+        return result.game();
+    }
+
+    @Override
+    public GameWriteStatus tryStart(String homeTeam, String awayTeam) {
+        if (!GameValidator.isValidTeamNames(homeTeam, awayTeam)) {
+            return GameWriteStatus.INVALID;
+        }
+
+        final Optional<Game> existing = save(Game.createNew(homeTeam, awayTeam));
+        if (existing.isPresent()) {
+            return isSameGame(existing.get(), homeTeam, awayTeam)
+                    ? GameWriteStatus.ALREADY_EXISTS
+                    : GameWriteStatus.TEAM_ALREADY_PLAYING;
+        }
+        changed();
+        return GameWriteStatus.OK;
+    }
+
+    @Override
+    public GameWriteStatus tryUpdate(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+        if (!GameValidator.isValidTeamNames(homeTeam, awayTeam) || !GameValidator.isValidScores(homeTeamScore, awayTeamScore)) {
+            return GameWriteStatus.INVALID;
+        }
+
+        if (gameRepository.updateScore(homeTeam, awayTeam, homeTeamScore, awayTeamScore).isEmpty()) {
+            return GameWriteStatus.NOT_FOUND;
+        }
+        changed();
+        return GameWriteStatus.OK;
+    }
+
+    @Override
+    public GameWriteStatus tryFinish(String homeTeam, String awayTeam) {
+        if (!GameValidator.isValidTeamNames(homeTeam, awayTeam)) {
+            return GameWriteStatus.INVALID;
+        }
+
+        if (gameRepository.deleteByTeams(homeTeam, awayTeam).isEmpty()) {
+            return GameWriteStatus.NOT_FOUND;
+        }
+        changed();
+        return GameWriteStatus.OK;
+    }
+
+    @Override
+    public List<ScoreUpdateResult> updateScores(Collection<ScoreUpdate> updates) {
+        final List<ScoreUpdateResult> results = new ArrayList<>(updates.size());
+        final List<ScoreUpdate> validUpdates = new ArrayList<>(updates.size());
+        for (ScoreUpdate update : updates) {
+            try {
+                GameValidator.validateTeamNames(update.homeTeam(), update.awayTeam());
+                GameValidator.validateScores(update.homeScore(), update.awayScore());
+                validUpdates.add(update);
+                results.add(null);
+            } catch (GameValidationException e) {
+                results.add(ScoreUpdateResult.failed(update, e));
+            }
+        }
+
+        final Iterator<ScoreUpdate> validUpdate = validUpdates.iterator();
+        final Iterator<Optional<Game>> updatedGame = gameRepository.updateScores(validUpdates).iterator();
+        boolean anyUpdated = false;
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                final ScoreUpdate update = validUpdate.next();
+                final ScoreUpdateResult result = updatedGame.next()
+                        .map(game -> ScoreUpdateResult.updated(update, game))
+                        .orElseGet(() -> ScoreUpdateResult.failed(update, gameNotFound(update.homeTeam(), update.awayTeam())));
+                anyUpdated |= result.isUpdated();
+                results.set(i, result);
+            }
+        }
+        if (anyUpdated) {
+            changed();
+        }
+        return results;
     }
 
     @Override
     public List<Game> getSummaryByTotalScoreAndReverseOrder() {
-        final List<Game> games = gameRepository.findAll();
-        Collections.reverse(games);
-        games.sort(Comparator.comparingInt(Game::getTotalScore).reversed());
-        return games;
+        return gameRepository.findAllByTotalScoreAndReverseOrder();
+    }
+
+    @Override
+    public List<Game> getSummaryTop(int limit) {
+        return getSummaryPage(0, limit);
+    }
+
+    @Override
+    public List<Game> getSummaryPage(int offset, int limit) {
+        GameValidator.validatePage(offset, limit);
+
+        return gameRepository.findAllByTotalScoreAndReverseOrder(offset, limit);
+    }
+
+    @Override
+    public List<Game> getGamesByTeam(String team) {
+        GameValidator.validateTeam(team);
+
+        return gameRepository.findGamesByTeam(team);
+    }
+
+    @Override
+    public long getBoardVersion() {
+        return boardVersion.get();
+    }
+
+    @Override
+    public Flow.Publisher<SummaryChange> getSummaryChanges() {
+        return getSummaryChanges(SUMMARY_DELIVERY);
+    }
+
+    @Override
+    public Flow.Publisher<SummaryChange> getSummaryChanges(Executor executor) {
+        return summaryPublisher.on(executor);
+    }
+
+    private Optional<Game> save(Game game) {
+        return oneLiveGamePerTeam ? gameRepository.saveIfTeamsFree(game) : gameRepository.saveIfAbsent(game);
+    }
+
+    private static boolean isSameGame(Game game, String homeTeam, String awayTeam) {
+        return game.homeTeam().equalsIgnoreCase(homeTeam) && game.awayTeam().equalsIgnoreCase(awayTeam);
+    }
+
+    private void changed() {
+        boardVersion.incrementAndGet();
+        summaryPublisher.publish();
     }
 
-    private Game findGame(String homeTeam, String awayTeam) {
-        return gameRepository.findByTeams(homeTeam, awayTeam)
-                .orElseThrow(() -> new GameNotFoundException("Game between " + homeTeam + " and " + awayTeam + " not found."));
+    private static GameNotFoundException gameNotFound(String homeTeam, String awayTeam) {
+        return new GameNotFoundException(homeTeam, awayTeam);
     }
 }
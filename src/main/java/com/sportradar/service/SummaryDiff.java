@@ -0,0 +1,102 @@
+package com.sportradar.service;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.SummaryChange;
+import com.sportradar.domain.SummaryDelta;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the {@link SummaryChange} between two summaries. Games are matched by their team pair. The common head
+ * and tail are skipped, and within the rest the longest run of games that kept their relative order stays
+ * unmentioned, so a single score update yields a single {@link SummaryDelta.Moved}.
+ */
+final class SummaryDiff {
+
+    private SummaryDiff() {
+    }
+
+    static SummaryChange diff(List<Game> previous, List<Game> current) {
+        int start = 0;
+        while (start < previous.size() && start < current.size() && previous.get(start).equals(current.get(start))) {
+            start++;
+        }
+        int previousEnd = previous.size();
+        int currentEnd = current.size();
+        while (previousEnd > start && currentEnd > start && previous.get(previousEnd - 1).equals(current.get(currentEnd - 1))) {
+            previousEnd--;
+            currentEnd--;
+        }
+
+        final Map<Teams, Integer> currentPositions = new HashMap<>();
+        for (int to = start; to < currentEnd; to++) {
+            currentPositions.put(Teams.of(current.get(to)), to);
+        }
+
+        final List<SummaryDelta> deltas = new ArrayList<>();
+        final int[] matchedFrom = new int[previousEnd - start];
+        final int[] matchedTo = new int[previousEnd - start];
+        int matched = 0;
+        for (int from = start; from < previousEnd; from++) {
+            final Integer to = currentPositions.remove(Teams.of(previous.get(from)));
+            if (to == null) {
+                deltas.add(new SummaryDelta.Removed(previous.get(from), from));
+            } else {
+                matchedFrom[matched] = from;
+                matchedTo[matched] = to;
+                matched++;
+            }
+        }
+
+        final boolean[] keepsOrder = longestIncreasingRun(matchedTo, matched);
+        for (int i = 0; i < matched; i++) {
+            final Game game = current.get(matchedTo[i]);
+            if (!keepsOrder[i] || !game.equals(previous.get(matchedFrom[i]))) {
+                deltas.add(new SummaryDelta.Moved(game, matchedFrom[i], matchedTo[i]));
+            }
+        }
+        currentPositions.values().stream()
+                .sorted()
+                .forEach(to -> deltas.add(new SummaryDelta.Inserted(current.get(to), to)));
+        return new SummaryChange(List.copyOf(deltas));
+    }
+
+    /**
+     * Marks one longest strictly increasing subsequence of {@code values[0..length)}, in O(length log length).
+     */
+    private static boolean[] longestIncreasingRun(int[] values, int length) {
+        final int[] tails = new int[length];
+        final int[] predecessors = new int[length];
+        int runLength = 0;
+        for (int i = 0; i < length; i++) {
+            int low = 0;
+            int high = runLength;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (values[tails[middle]] < values[i]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            predecessors[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            runLength = Math.max(runLength, low + 1);
+        }
+
+        final boolean[] inRun = new boolean[length];
+        for (int i = runLength > 0 ? tails[runLength - 1] : -1; i >= 0; i = predecessors[i]) {
+            inRun[i] = true;
+        }
+        return inRun;
+    }
+
+    private record Teams(String homeTeam, String awayTeam) {
+        private static Teams of(Game game) {
+            return new Teams(game.homeTeam(), game.awayTeam());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.sportradar.service;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.SummaryChange;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Pushes {@link SummaryChange}s to subscribers after each write. While there are subscribers, a write reads the
+ * summary once on the writing thread and hands it to every subscription; subscribing reads it on the subscribing
+ * thread. Only the diff against the summary a subscription delivered last and the {@code onNext} run on its
+ * executor, so the repository is never read from the executor's threads. A subscription keeps only the newest
+ * summary it was handed, so a slow subscriber receives all changes since its last delivery conflated into one
+ * {@code onNext} and never holds back writers.
+ * <p>
+ * Every summary is tagged with the board version read just before it. A subscription replaces its pending summary
+ * only with one of the same or a newer version, so summaries read by concurrent writers cannot go back in time.
+ * All signals to a subscriber, {@code onError} included, are sent from its drain loop, one at a time.
+ */
+@Slf4j
+final class SummaryPublisher {
+
+    private final Supplier<List<Game>> summary;
+    private final LongSupplier version;
+    private final List<SummarySubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    SummaryPublisher(Supplier<List<Game>> summary, LongSupplier version) {
+        this.summary = summary;
+        this.version = version;
+    }
+
+    Flow.Publisher<SummaryChange> on(Executor executor) {
+        return subscriber -> {
+            final SummarySubscription subscription = new SummarySubscription(subscriber, executor);
+            subscriptions.add(subscription);
+            subscriber.onSubscribe(subscription);
+            subscription.offer(read());
+        };
+    }
+
+    void publish() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        final VersionedSummary current = read();
+        for (SummarySubscription subscription : subscriptions) {
+            subscription.offer(current);
+        }
+    }
+
+    private VersionedSummary read() {
+        final long boardVersion = version.getAsLong();
+        return new VersionedSummary(boardVersion, summary.get());
+    }
+
+    private record VersionedSummary(long version, List<Game> games) {
+        private static final VersionedSummary NONE = new VersionedSummary(Long.MIN_VALUE, List.of());
+    }
+
+    private final class SummarySubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super SummaryChange> subscriber;
+        private final Executor executor;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicReference<VersionedSummary> latest = new AtomicReference<>(VersionedSummary.NONE);
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private volatile Throwable error;
+        private volatile boolean cancelled;
+        private VersionedSummary delivered = VersionedSummary.NONE;
+
+        private SummarySubscription(Flow.Subscriber<? super SummaryChange> subscriber, Executor executor) {
+            this.subscriber = subscriber;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested number of summary changes must be positive: " + n);
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        private void offer(VersionedSummary summary) {
+            latest.accumulateAndGet(summary, (current, offered) ->
+                    offered.version() >= current.version() ? offered : current);
+            drain();
+        }
+
+        private void drain() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                executor.execute(this::deliver);
+            }
+        }
+
+        private void deliver() {
+            int missed = 1;
+            do {
+                if (!cancelled && error != null) {
+                    cancel();
+                    subscriber.onError(error);
+                }
+                while (!cancelled && demand.get() > 0) {
+                    final VersionedSummary current = latest.get();
+                    if (current == delivered) {
+                        break;
+                    }
+                    final SummaryChange change = SummaryDiff.diff(delivered.games(), current.games());
+                    delivered = current;
+                    if (!change.deltas().isEmpty()) {
+                        demand.decrementAndGet();
+                        onNext(change);
+                    }
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void onNext(SummaryChange change) {
+            try {
+                subscriber.onNext(change);
+            } catch (RuntimeException e) {
+                log.warn("Summary subscriber failed in onNext, cancelling its subscription", e);
+                cancel();
+            }
+        }
+    }
+}
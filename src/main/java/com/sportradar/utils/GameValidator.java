@@ -19,8 +19,35 @@ public final class GameValidator {
         }
     }
 
+    /**
+     * Non-throwing form of {@link #validateTeamNames} for the {@code try} writes of the service.
+     */
+    public static boolean isValidTeamNames(String homeTeam, String awayTeam) {
+        return isValidTeamName(homeTeam) && isValidTeamName(awayTeam) && !homeTeam.equalsIgnoreCase(awayTeam);
+    }
+
+    /**
+     * Non-throwing form of {@link #validateScores}.
+     */
+    public static boolean isValidScores(int homeScore, int awayScore) {
+        return homeScore >= 0 && awayScore >= 0;
+    }
+
+    public static void validateTeam(String team) {
+        validateTeamName(team, "team");
+    }
+
+    public static void validateTournamentId(String tournamentId) {
+        if (tournamentId == null || tournamentId.isBlank()) {
+            throw new GameValidationException(
+                    "Tournament ID cannot be null or blank",
+                    "tournamentId"
+            );
+        }
+    }
+
     private static void validateTeamName(String teamName, String fieldName) {
-        if (teamName == null || teamName.isBlank()) {
+        if (!isValidTeamName(teamName)) {
             throw new GameValidationException(
                     "Team name cannot be null or blank",
                     fieldName
@@ -28,17 +55,40 @@ public final class GameValidator {
         }
     }
 
+    private static boolean isValidTeamName(String teamName) {
+        return teamName != null && !teamName.isBlank();
+    }
+
     public static void validateScores(int homeScore, int awayScore) {
         if (homeScore < 0) {
             throw new GameValidationException(
-                    "Home score cannot be negative: %d".formatted(homeScore),
-                    "homeScore"
+                    "Home score cannot be negative",
+                    "homeScore",
+                    homeScore
             );
         }
         if (awayScore < 0) {
             throw new GameValidationException(
-                    "Away score cannot be negative: %d".formatted(awayScore),
-                    "awayScore"
+                    "Away score cannot be negative",
+                    "awayScore",
+                    awayScore
+            );
+        }
+    }
+
+    public static void validatePage(int offset, int limit) {
+        if (offset < 0) {
+            throw new GameValidationException(
+                    "Offset cannot be negative",
+                    "offset",
+                    offset
+            );
+        }
+        if (limit < 0) {
+            throw new GameValidationException(
+                    "Limit cannot be negative",
+                    "limit",
+                    limit
             );
         }
     }
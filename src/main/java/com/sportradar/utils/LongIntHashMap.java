@@ -0,0 +1,115 @@
+package com.sportradar.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to primitive {@code int} values, so neither keys nor
+ * values are boxed. {@link #MISSING} marks free slots and is returned for absent keys, so it cannot be stored.
+ * Uses linear probing with backward-shift deletion. Not thread-safe.
+ */
+public final class LongIntHashMap {
+
+    public static final int MISSING = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    public LongIntHashMap() {
+        this(DEFAULT_CAPACITY / 2);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(expectedSize * 2 - 1) << 1));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(long key) {
+        for (int index = indexOf(key); values[index] != MISSING; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+        }
+        return MISSING;
+    }
+
+    public int put(long key, int value) {
+        if (value == MISSING) {
+            throw new IllegalArgumentException("Value cannot be " + MISSING);
+        }
+        int index = indexOf(key);
+        for (; values[index] != MISSING; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                final int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (++size > (mask + 1) >> 1) {
+            rehash((mask + 1) << 1);
+        }
+        return MISSING;
+    }
+
+    public int remove(long key) {
+        for (int index = indexOf(key); values[index] != MISSING; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                final int previous = values[index];
+                shiftBackFrom(index);
+                size--;
+                return previous;
+            }
+        }
+        return MISSING;
+    }
+
+    private void shiftBackFrom(int freedIndex) {
+        int gap = freedIndex;
+        for (int index = (gap + 1) & mask; values[index] != MISSING; index = (index + 1) & mask) {
+            final int home = indexOf(keys[index]);
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        values[gap] = MISSING;
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(capacity);
+        for (int oldIndex = 0; oldIndex < oldValues.length; oldIndex++) {
+            if (oldValues[oldIndex] != MISSING) {
+                int index = indexOf(oldKeys[oldIndex]);
+                while (values[index] != MISSING) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[oldIndex];
+                values[index] = oldValues[oldIndex];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        mask = capacity - 1;
+    }
+
+    private int indexOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+}
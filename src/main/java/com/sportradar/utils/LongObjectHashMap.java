@@ -0,0 +1,117 @@
+package com.sportradar.utils;
+
+import java.util.Objects;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to non-null values, so lookups neither box the key nor
+ * allocate. Uses linear probing with backward-shift deletion. Not thread-safe.
+ */
+public final class LongObjectHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    public LongObjectHashMap() {
+        this(DEFAULT_CAPACITY / 2);
+    }
+
+    public LongObjectHashMap(int expectedSize) {
+        allocate(Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(expectedSize * 2 - 1) << 1));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        for (int index = indexOf(key); values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return (V) values[index];
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        Objects.requireNonNull(value, "value");
+        int index = indexOf(key);
+        for (; values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                final V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (++size > (mask + 1) >> 1) {
+            rehash((mask + 1) << 1);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        for (int index = indexOf(key); values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                final V previous = (V) values[index];
+                shiftBackFrom(index);
+                size--;
+                return previous;
+            }
+        }
+        return null;
+    }
+
+    private void shiftBackFrom(int freedIndex) {
+        int gap = freedIndex;
+        for (int index = (gap + 1) & mask; values[index] != null; index = (index + 1) & mask) {
+            final int home = indexOf(keys[index]);
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for (int oldIndex = 0; oldIndex < oldValues.length; oldIndex++) {
+            if (oldValues[oldIndex] != null) {
+                int index = indexOf(oldKeys[oldIndex]);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[oldIndex];
+                values[index] = oldValues[oldIndex];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private int indexOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+}
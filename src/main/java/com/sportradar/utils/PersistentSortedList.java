@@ -0,0 +1,193 @@
+package com.sportradar.utils;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable list kept sorted by a comparator, backed by a persistent AVL tree. {@link #with} and {@link #without}
+ * return a new list in O(log n) and share all untouched nodes with this one, so older versions stay valid and can be
+ * read from any thread without copying or locking. {@link #get} runs in O(log n) and iteration in O(n). Elements
+ * must be non-null, and the comparator must only return 0 for the same element.
+ */
+public final class PersistentSortedList<E> extends AbstractList<E> {
+
+    private final Comparator<? super E> comparator;
+    private final Node<E> root;
+
+    private PersistentSortedList(Comparator<? super E> comparator, Node<E> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    public static <E> PersistentSortedList<E> empty(Comparator<? super E> comparator) {
+        return new PersistentSortedList<>(comparator, null);
+    }
+
+    /**
+     * Returns a list that also holds {@code element}, replacing an element that compares equal to it.
+     */
+    public PersistentSortedList<E> with(E element) {
+        return new PersistentSortedList<>(comparator, insert(root, element));
+    }
+
+    /**
+     * Returns a list without the element that compares equal to {@code element}, or this list if there is none.
+     */
+    public PersistentSortedList<E> without(E element) {
+        final Node<E> removed = remove(root, element);
+        return removed == root ? this : new PersistentSortedList<>(comparator, removed);
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        Node<E> node = root;
+        int position = index;
+        while (true) {
+            final int leftSize = size(node.left);
+            if (position < leftSize) {
+                node = node.left;
+            } else if (position > leftSize) {
+                position -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final Deque<Node<E>> path = new ArrayDeque<>();
+        pushLeft(path, root);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                final Node<E> node = path.pop();
+                pushLeft(path, node.right);
+                return node.value;
+            }
+        };
+    }
+
+    private Node<E> insert(Node<E> node, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        final int comparison = comparator.compare(element, node.value);
+        if (comparison < 0) {
+            return balance(node.value, insert(node.left, element), node.right);
+        }
+        if (comparison > 0) {
+            return balance(node.value, node.left, insert(node.right, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    private Node<E> remove(Node<E> node, E element) {
+        if (node == null) {
+            return null;
+        }
+        final int comparison = comparator.compare(element, node.value);
+        if (comparison < 0) {
+            final Node<E> left = remove(node.left, element);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        }
+        if (comparison > 0) {
+            final Node<E> right = remove(node.right, element);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, removeFirst(node.right));
+    }
+
+    private static <E> Node<E> removeFirst(Node<E> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Joins two subtrees whose heights differ by at most two under {@code value}, rotating once or twice if needed.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        final int leftHeight = height(left);
+        final int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value,
+                    new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value,
+                    new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static <E> void pushLeft(Deque<Node<E>> path, Node<E> node) {
+        for (Node<E> current = node; current != null; current = current.left) {
+            path.push(current);
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
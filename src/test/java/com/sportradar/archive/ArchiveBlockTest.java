@@ -0,0 +1,76 @@
+package com.sportradar.archive;
+
+import com.sportradar.archive.ArchiveBlock.CompressedBlock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ArchiveBlock Tests")
+class ArchiveBlockTest {
+
+    @Test
+    @DisplayName("Should round-trip every column through compression")
+    void shouldRoundTripThroughCompression() {
+        // Given
+        final ArchiveBlock block = new ArchiveBlock(3);
+        block.append(0, 1, 2, 1, 1_700_000_000_000L, 1_700_006_300_000L);
+        block.append(2, 0, 0, 0, 1_700_006_400_000L, 1_700_006_300_000L);
+        block.append(Integer.MAX_VALUE, 3, 14, 250, -5L, 1_700_006_300_001L);
+
+        // When
+        final CompressedBlock compressed = block.compress();
+        final ArchiveBlock decoded = ArchiveBlock.decompress(compressed);
+
+        // Then
+        assertThat(block.isFull()).isTrue();
+        assertThat(compressed.size()).isEqualTo(3);
+        assertThat(compressed.firstFinishedAt()).isEqualTo(1_700_006_300_000L);
+        assertThat(compressed.lastFinishedAt()).isEqualTo(1_700_006_300_001L);
+        for (int i = 0; i < 3; i++) {
+            assertThat(decoded.homeId(i)).isEqualTo(block.homeId(i));
+            assertThat(decoded.awayId(i)).isEqualTo(block.awayId(i));
+            assertThat(decoded.homeScore(i)).isEqualTo(block.homeScore(i));
+            assertThat(decoded.awayScore(i)).isEqualTo(block.awayScore(i));
+            assertThat(decoded.startedAt(i)).isEqualTo(block.startedAt(i));
+            assertThat(decoded.finishedAt(i)).isEqualTo(block.finishedAt(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should store a full block of typical games in a few bytes per game")
+    void shouldCompressTypicalGames() {
+        // Given
+        final ArchiveBlock block = new ArchiveBlock(4096);
+        for (int game = 0; game < 4096; game++) {
+            final long finishedAt = 1_700_000_000_000L + game * 60_000L;
+            block.append(game % 200, (game + 1) % 200, game % 4, game % 3, finishedAt - 6_300_000L, finishedAt);
+        }
+
+        // When
+        final CompressedBlock compressed = block.compress();
+
+        // Then
+        assertThat(compressed.data().length).isLessThan(4096 * 8);
+    }
+
+    @Test
+    @DisplayName("Should reject corrupt and truncated compressed data")
+    void shouldRejectCorruptData() {
+        // Given
+        final ArchiveBlock block = new ArchiveBlock(1);
+        block.append(1, 2, 3, 4, 5, 6);
+        final CompressedBlock compressed = block.compress();
+
+        // When & Then
+        assertThatThrownBy(() -> ArchiveBlock.inflate(new byte[]{1, 2, 3, 4}, 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("corrupt");
+        assertThatThrownBy(() -> ArchiveBlock.inflate(Arrays.copyOf(compressed.data(), compressed.data().length / 2), compressed.rawLength()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("truncated");
+    }
+}
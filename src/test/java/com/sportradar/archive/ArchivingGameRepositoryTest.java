@@ -0,0 +1,167 @@
+package com.sportradar.archive;
+
+import com.sportradar.domain.ArchivedGame;
+import com.sportradar.domain.Game;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.repository.ConcurrentGameRepository;
+import com.sportradar.repository.GameRepository;
+import com.sportradar.repository.IndexedGameRepository;
+import com.sportradar.service.GameService;
+import com.sportradar.service.GameServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ArchivingGameRepository Tests")
+class ArchivingGameRepositoryTest {
+
+    private static final String HOME_TEAM = "Poland";
+    private static final String AWAY_TEAM = "Argentina";
+    private GameArchive archive;
+    private GameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        archive = new GameArchive();
+        repository = new ArchivingGameRepository(new IndexedGameRepository(), archive);
+    }
+
+    @Test
+    @DisplayName("Should archive games finished through the service with their final score")
+    void shouldArchiveFinishedGames() {
+        // Given
+        final GameService gameService = new GameServiceImpl(repository);
+        gameService.startGame(HOME_TEAM, AWAY_TEAM);
+        gameService.updateScore(HOME_TEAM, AWAY_TEAM, 2, 1);
+        gameService.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 3, 1, 1);
+
+        // When
+        gameService.finishGame(HOME_TEAM, AWAY_TEAM);
+
+        // Then
+        final List<ArchivedGame> archived = archive.findByTeam(AWAY_TEAM);
+        assertThat(archived).extracting(ArchivedGame::game).containsExactly(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 3, 1));
+        assertThat(archived.get(0).startedAt()).isBeforeOrEqualTo(archived.get(0).finishedAt());
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should archive only writes that actually finished a game")
+    void shouldArchiveOnlySuccessfulFinishes() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        repository.save(game);
+
+        // When
+        final boolean otherScore = repository.delete(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 5, 5));
+        final Optional<Game> unknown = repository.deleteByTeams("Spain", "Brazil");
+        final boolean deleted = repository.delete(game);
+
+        // Then
+        assertThat(otherScore).isFalse();
+        assertThat(unknown).isEmpty();
+        assertThat(deleted).isTrue();
+        assertThat(archive.size()).isEqualTo(1);
+        assertThat(repository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should record start times only for games that were saved")
+    void shouldRecordStartsOnlyForSavedGames() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+
+        // When
+        assertThat(repository.saveIfAbsent(game)).isEmpty();
+        assertThat(repository.saveIfAbsent(game)).contains(game);
+        assertThat(repository.saveIfTeamsFree(Game.createNew("Spain", "Brazil"))).isEmpty();
+        assertThat(repository.saveIfTeamsFree(Game.createNew("Spain", "Germany"))).isPresent();
+
+        // Then
+        assertThat(repository.findByTeams(HOME_TEAM, AWAY_TEAM)).contains(game);
+        assertThat(repository.findGamesByTeam("Spain")).containsExactly(Game.createNew("Spain", "Brazil"));
+        assertThat(repository.findAll()).hasSize(2);
+        assertThat(archive.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the start time when a live game is saved again")
+    void shouldKeepStartTimeWhenSavedAgain() {
+        // Given
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1_000L, 3_000L);
+        final GameArchive timedArchive = new GameArchive(clock);
+        final GameRepository timedRepository = new ArchivingGameRepository(new IndexedGameRepository(), timedArchive);
+        timedRepository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        timedRepository.save(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0));
+
+        // When
+        timedRepository.deleteByTeams(HOME_TEAM, AWAY_TEAM);
+
+        // Then
+        final ArchivedGame archived = timedArchive.findByTeam(HOME_TEAM).get(0);
+        assertThat(archived.startedAt()).isEqualTo(Instant.ofEpochMilli(1_000));
+        assertThat(archived.finishedAt()).isEqualTo(Instant.ofEpochMilli(3_000));
+    }
+
+    @Test
+    @DisplayName("Should archive a game once when finishes race on it")
+    void shouldArchiveOnceWhenFinishesRace() throws Exception {
+        // Given
+        final GameRepository concurrentRepository = new ArchivingGameRepository(new ConcurrentGameRepository(), archive);
+        final int games = 500;
+        for (int game = 0; game < games; game++) {
+            concurrentRepository.save(Game.createNew(HOME_TEAM + game, AWAY_TEAM + game));
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        final List<Future<?>> finishes = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            finishes.add(executor.submit(() -> {
+                for (int game = 0; game < games; game++) {
+                    concurrentRepository.delete(Game.createNew(HOME_TEAM + game, AWAY_TEAM + game));
+                }
+            }));
+        }
+        for (Future<?> finish : finishes) {
+            finish.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(archive.size()).isEqualTo(games);
+        assertThat(concurrentRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should pass score updates and summary reads straight to the wrapped repository")
+    void shouldDelegateUpdatesAndReads() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        repository.save(Game.createNew("Spain", "Brazil"));
+
+        // When
+        repository.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+        repository.updateScores(List.of(new ScoreUpdate("Spain", "Brazil", 2, 2)));
+
+        // Then
+        assertThat(repository.findAllByTotalScoreAndReverseOrder())
+                .containsExactly(Game.createWithScores("Spain", "Brazil", 2, 2), Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0));
+        assertThat(repository.findAllByTotalScoreAndReverseOrder(1, 1)).containsExactly(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0));
+        assertThat(archive.size()).isZero();
+    }
+}
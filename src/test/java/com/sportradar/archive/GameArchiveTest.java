@@ -0,0 +1,191 @@
+package com.sportradar.archive;
+
+import com.sportradar.domain.ArchivedGame;
+import com.sportradar.domain.Game;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GameArchive Tests")
+class GameArchiveTest {
+
+    private static final String HOME_TEAM = "Poland";
+    private static final String AWAY_TEAM = "Argentina";
+    private MutableClock clock;
+    private GameArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        archive = new GameArchive(clock, 4);
+    }
+
+    @Test
+    @DisplayName("Should archive a finished game with its final score and start and finish times")
+    void shouldArchiveFinishedGame() {
+        // Given
+        clock.millis = 1_000;
+        archive.started(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        clock.millis = 6_400_000;
+
+        // When
+        archive.finished(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 3, 2));
+
+        // Then
+        assertThat(archive.size()).isEqualTo(1);
+        assertThat(archive.findByTeam("POLAND")).containsExactly(new ArchivedGame(
+                Game.createWithScores(HOME_TEAM, AWAY_TEAM, 3, 2), Instant.ofEpochMilli(1_000), Instant.ofEpochMilli(6_400_000)));
+    }
+
+    @Test
+    @DisplayName("Should keep the first start time when a live game is started again")
+    void shouldKeepFirstStartTime() {
+        // Given
+        clock.millis = 1_000;
+        archive.started(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        clock.millis = 2_000;
+        archive.started(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // When
+        archive.finished(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        archive.started(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        archive.finished(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // Then
+        assertThat(archive.findByTeam(HOME_TEAM)).extracting(archived -> archived.startedAt().toEpochMilli())
+                .containsExactly(1_000L, 2_000L);
+    }
+
+    @Test
+    @DisplayName("Should find games of a team across compressed and active blocks in finish order")
+    void shouldFindByTeamAcrossBlocks() {
+        // Given
+        for (int game = 0; game < 10; game++) {
+            finishAt(game * 100L, game % 3 == 0 ? HOME_TEAM : "Team " + game, game % 3 == 1 ? HOME_TEAM : "Other " + game, game);
+        }
+
+        // When
+        final List<ArchivedGame> games = archive.findByTeam(HOME_TEAM);
+
+        // Then
+        assertThat(archive.compressedBytes()).isPositive();
+        assertThat(games).extracting(archived -> archived.game().homeScore()).containsExactly(0, 1, 3, 4, 6, 7, 9);
+        assertThat(games).extracting(archived -> archived.finishedAt().toEpochMilli()).containsExactly(0L, 100L, 300L, 400L, 600L, 700L, 900L);
+        assertThat(archive.findByTeam("Team 2")).hasSize(1);
+        assertThat(archive.findByTeam("France")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find games finished in a half-open time range, skipping blocks outside it")
+    void shouldFindByFinishTime() {
+        // Given
+        for (int game = 0; game < 10; game++) {
+            finishAt(game * 100L, "Home " + game, "Away " + game, game);
+        }
+
+        // When & Then
+        assertThat(archive.findByFinishTime(Instant.ofEpochMilli(250), Instant.ofEpochMilli(700)))
+                .extracting(archived -> archived.game().homeScore()).containsExactly(3, 4, 5, 6);
+        assertThat(archive.findByFinishTime(Instant.ofEpochMilli(800), Instant.ofEpochMilli(10_000)))
+                .extracting(archived -> archived.game().homeScore()).containsExactly(8, 9);
+        assertThat(archive.findByFinishTime(Instant.ofEpochMilli(0), Instant.ofEpochMilli(100)))
+                .extracting(archived -> archived.game().homeScore()).containsExactly(0);
+        assertThat(archive.findByFinishTime(Instant.ofEpochMilli(2_000), Instant.ofEpochMilli(3_000))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should archive a game without a recorded start as started when it finished, keeping finish times monotonic")
+    void shouldHandleMissingStartAndClockGoingBack() {
+        // Given
+        finishAt(500, HOME_TEAM, AWAY_TEAM, 1);
+        clock.millis = 200;
+
+        // When
+        archive.finished(Game.createWithScores("Spain", "Brazil", 0, 0));
+
+        // Then
+        final ArchivedGame archived = archive.findByTeam("Spain").get(0);
+        assertThat(archived.finishedAt()).isEqualTo(Instant.ofEpochMilli(500));
+        assertThat(archived.startedAt()).isEqualTo(archived.finishedAt());
+    }
+
+    @Test
+    @DisplayName("Should answer queries while games are being archived concurrently")
+    void shouldQueryWhileArchiving() throws Exception {
+        // Given
+        final ExecutorService writer = Executors.newSingleThreadExecutor();
+        final int games = 2_000;
+
+        // When
+        final Future<?> archiving = writer.submit(() -> {
+            for (int game = 0; game < games; game++) {
+                archive.finished(Game.createWithScores(HOME_TEAM, "Team " + game, game, 0));
+            }
+        });
+        while (!archiving.isDone()) {
+            final List<ArchivedGame> seen = archive.findByTeam(HOME_TEAM);
+            assertThat(seen).extracting(archived -> archived.game().homeScore())
+                    .isSorted()
+                    .allMatch(score -> score < games);
+        }
+        archiving.get();
+        writer.shutdown();
+
+        // Then
+        assertThat(archive.findByTeam(HOME_TEAM)).hasSize(games);
+    }
+
+    @Test
+    @DisplayName("Should use the system clock and default block size by default")
+    void shouldCreateWithDefaults() {
+        // Given
+        final GameArchive defaultArchive = new GameArchive();
+
+        // When
+        defaultArchive.finished(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // Then
+        assertThat(defaultArchive.findByFinishTime(Instant.EPOCH, Instant.now().plusSeconds(1))).hasSize(1);
+    }
+
+    private void finishAt(long millis, String homeTeam, String awayTeam, int homeScore) {
+        clock.millis = millis;
+        archive.started(Game.createNew(homeTeam, awayTeam));
+        archive.finished(Game.createWithScores(homeTeam, awayTeam, homeScore, 0));
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile long millis;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+}
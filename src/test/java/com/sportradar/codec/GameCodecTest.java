@@ -0,0 +1,220 @@
+package com.sportradar.codec;
+
+import com.sportradar.domain.Game;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GameCodec Tests")
+class GameCodecTest {
+
+    private static final String HOME_TEAM = "Poland";
+    private static final String AWAY_TEAM = "Argentina";
+    private GameCodec codec;
+    private RecordingHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        codec = new GameCodec();
+        handler = new RecordingHandler();
+    }
+
+    @Test
+    @DisplayName("Should round-trip start, update, finish and game frames through a direct buffer")
+    void shouldRoundTripAllFrameTypes() {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        codec.encodeStart(buffer, HOME_TEAM, AWAY_TEAM);
+        codec.encodeUpdate(buffer, HOME_TEAM, AWAY_TEAM, 2, 300);
+        codec.encodeGame(buffer, Game.createWithScores("Côte d'Ivoire", "España", 1, 0));
+        codec.encodeFinish(buffer, HOME_TEAM, AWAY_TEAM);
+        buffer.flip();
+
+        // When
+        final int frames = new GameCodec().decode(buffer, handler);
+
+        // Then
+        assertThat(frames).isEqualTo(4);
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(handler.messages).containsExactly(
+                "start Poland-Argentina",
+                "update Poland-Argentina 2:300",
+                "game Côte d'Ivoire-España 1:0",
+                "finish Poland-Argentina"
+        );
+    }
+
+    @Test
+    @DisplayName("Should encode a score update with small scores in a few bytes")
+    void shouldEncodeUpdateCompactly() {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        // When
+        codec.encodeUpdate(buffer, HOME_TEAM, AWAY_TEAM, 3, 1);
+
+        // Then
+        assertThat(buffer.position()).isEqualTo(1 + 1 + 1 + HOME_TEAM.length() + 1 + AWAY_TEAM.length() + 2);
+    }
+
+    @Test
+    @DisplayName("Should report the exact size of an encoded game frame")
+    void shouldReportEncodedGameSize() {
+        // Given
+        final Game game = Game.createWithScores("Côte d'Ivoire", AWAY_TEAM, 200, 1);
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        // When
+        codec.encodeGame(buffer, game);
+
+        // Then
+        assertThat(codec.encodedGameSize(game)).isEqualTo(buffer.position());
+    }
+
+    @Test
+    @DisplayName("Should return the same interned name instances for every decoded frame")
+    void shouldInternTeamNames() {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.allocate(128);
+        codec.encodeStart(buffer, HOME_TEAM, AWAY_TEAM);
+        codec.encodeFinish(buffer, new String(HOME_TEAM), new String(AWAY_TEAM));
+        buffer.flip();
+        final List<String> names = new ArrayList<>();
+
+        // When
+        new GameCodec().decode(buffer, new RecordingHandler() {
+            @Override
+            public void onStart(String homeTeam, String awayTeam) {
+                names.add(homeTeam);
+            }
+
+            @Override
+            public void onFinish(String homeTeam, String awayTeam) {
+                names.add(homeTeam);
+            }
+        });
+
+        // Then
+        assertThat(names).hasSize(2);
+        assertThat(names.get(0)).isEqualTo(HOME_TEAM).isSameAs(names.get(1));
+    }
+
+    @Test
+    @DisplayName("Should leave an incomplete trailing frame in the buffer until the rest arrives")
+    void shouldKeepIncompleteFrame() {
+        // Given
+        final ByteBuffer encoded = ByteBuffer.allocate(64);
+        codec.encodeUpdate(encoded, HOME_TEAM, AWAY_TEAM, 200, 1);
+        codec.encodeStart(encoded, "Spain", "Brazil");
+        encoded.flip();
+        final int firstFrameEnd = encoded.limit() - 14;
+        final ByteBuffer received = ByteBuffer.allocate(64);
+        received.put(encoded.slice(0, firstFrameEnd + 3)).flip();
+
+        // When
+        final int firstRead = codec.decode(received, handler);
+        received.compact().put(encoded.slice(firstFrameEnd + 3, encoded.limit() - firstFrameEnd - 3)).flip();
+        final int secondRead = codec.decode(received, handler);
+
+        // Then
+        assertThat(firstRead).isEqualTo(1);
+        assertThat(secondRead).isEqualTo(1);
+        assertThat(handler.messages).containsExactly("update Poland-Argentina 200:1", "start Spain-Brazil");
+    }
+
+    @Test
+    @DisplayName("Should stop at a frame whose length prefix is incomplete")
+    void shouldKeepIncompleteLengthPrefix() {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) 0x80});
+
+        // When
+        final int frames = codec.decode(buffer, handler);
+
+        // Then
+        assertThat(frames).isZero();
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should round-trip negative scores so the service can reject them")
+    void shouldRoundTripNegativeScores() {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encodeGame(buffer, Game.createWithScores(HOME_TEAM, AWAY_TEAM, -1, Integer.MAX_VALUE));
+        buffer.flip();
+
+        // When
+        final Game game = codec.decodeGame(buffer);
+
+        // Then
+        assertThat(game).isEqualTo(Game.createWithScores(HOME_TEAM, AWAY_TEAM, -1, Integer.MAX_VALUE));
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject decoding a game from an incomplete or non-game frame")
+    void shouldRejectInvalidGameFrames() {
+        // Given
+        final ByteBuffer start = ByteBuffer.allocate(64);
+        codec.encodeStart(start, HOME_TEAM, AWAY_TEAM);
+        start.flip();
+
+        // When & Then
+        assertThatThrownBy(() -> codec.decodeGame(start.slice(0, 4)))
+                .isInstanceOf(BufferUnderflowException.class);
+        assertThatThrownBy(() -> codec.decodeGame(start))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Not a game frame");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed frames")
+    void shouldRejectMalformedFrames() {
+        // When & Then
+        assertMalformed(new byte[]{0}, "Empty frame");
+        assertMalformed(new byte[]{3, 9, 0, 0}, "Unknown frame type 9");
+        assertMalformed(new byte[]{3, GameCodec.START, 5, 0}, "Team name overruns the frame");
+        assertMalformed(new byte[]{2, GameCodec.START, (byte) 0x80}, "Team name overruns the frame");
+        assertMalformed(new byte[]{4, GameCodec.UPDATE, 0, 0, 1}, "Score overruns the frame");
+        assertMalformed(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0}, "Varint longer than 5 bytes");
+    }
+
+    private void assertMalformed(byte[] frame, String message) {
+        assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(frame), handler))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(message);
+    }
+
+    static class RecordingHandler implements GameMessageHandler {
+        final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void onStart(String homeTeam, String awayTeam) {
+            messages.add("start " + homeTeam + "-" + awayTeam);
+        }
+
+        @Override
+        public void onUpdate(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+            messages.add("update " + homeTeam + "-" + awayTeam + " " + homeScore + ":" + awayScore);
+        }
+
+        @Override
+        public void onFinish(String homeTeam, String awayTeam) {
+            messages.add("finish " + homeTeam + "-" + awayTeam);
+        }
+
+        @Override
+        public void onGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+            messages.add("game " + homeTeam + "-" + awayTeam + " " + homeScore + ":" + awayScore);
+        }
+    }
+}
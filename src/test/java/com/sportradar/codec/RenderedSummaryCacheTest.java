@@ -0,0 +1,159 @@
+package com.sportradar.codec;
+
+import com.sportradar.domain.Game;
+import com.sportradar.repository.ConcurrentGameRepository;
+import com.sportradar.service.GameService;
+import com.sportradar.service.GameServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RenderedSummaryCache Tests")
+class RenderedSummaryCacheTest {
+
+    private static final String HOME_TEAM = "Poland";
+    private static final String AWAY_TEAM = "Argentina";
+    private GameService gameService;
+    private RenderedSummaryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameServiceImpl(new ConcurrentGameRepository());
+        cache = new RenderedSummaryCache(gameService);
+    }
+
+    @Test
+    @DisplayName("Should render the summary as JSON and as binary game frames")
+    void shouldRenderJsonAndBinary() {
+        // Given
+        gameService.startGame(HOME_TEAM, AWAY_TEAM);
+        gameService.startGame("Spain", "Brazil");
+        gameService.updateScore("Spain", "Brazil", 2, 1);
+
+        // When
+        final RenderedSummary summary = cache.current();
+
+        // Then
+        assertThat(summary.version()).isEqualTo(gameService.getBoardVersion());
+        assertThat(json(summary)).isEqualTo("[{\"homeTeam\":\"Spain\",\"awayTeam\":\"Brazil\",\"homeScore\":2,\"awayScore\":1},"
+                + "{\"homeTeam\":\"Poland\",\"awayTeam\":\"Argentina\",\"homeScore\":0,\"awayScore\":0}]");
+        final ByteBuffer binary = summary.binary().duplicate();
+        final GameCodec codec = new GameCodec();
+        assertThat(List.of(codec.decodeGame(binary), codec.decodeGame(binary)))
+                .containsExactlyElementsOf(gameService.getSummaryByTotalScoreAndReverseOrder());
+        assertThat(binary.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should render an empty board as an empty JSON array and no frames")
+    void shouldRenderEmptyBoard() {
+        // When
+        final RenderedSummary summary = cache.current();
+
+        // Then
+        assertThat(summary.version()).isZero();
+        assertThat(json(summary)).isEqualTo("[]");
+        assertThat(summary.binary().remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should escape quotes, backslashes and control characters in team names")
+    void shouldEscapeJsonStrings() {
+        // Given
+        final GameService service = mock(GameService.class);
+        when(service.getSummaryByTotalScoreAndReverseOrder()).thenReturn(List.of(Game.createNew("A \"B\"", "C\\D\tÉ")));
+
+        // When
+        final RenderedSummary summary = new RenderedSummaryCache(service).current();
+
+        // Then
+        assertThat(json(summary)).isEqualTo("[{\"homeTeam\":\"A \\\"B\\\"\",\"awayTeam\":\"C\\\\D\\u0009É\",\"homeScore\":0,\"awayScore\":0}]");
+    }
+
+    @Test
+    @DisplayName("Should share one read-only rendering per board version")
+    void shouldShareRenderingPerVersion() {
+        // Given
+        gameService.startGame(HOME_TEAM, AWAY_TEAM);
+        final RenderedSummary first = cache.current();
+
+        // When
+        final RenderedSummary again = cache.current();
+        gameService.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+        final RenderedSummary updated = cache.current();
+
+        // Then
+        assertThat(again).isSameAs(first);
+        assertThat(updated).isNotSameAs(first);
+        assertThat(updated.version()).isGreaterThan(first.version());
+        assertThat(json(updated)).contains("\"homeScore\":1");
+        assertThat(first.json().isReadOnly()).isTrue();
+        assertThatThrownBy(() -> first.binary().put(0, (byte) 1)).isInstanceOf(ReadOnlyBufferException.class);
+    }
+
+    @Test
+    @DisplayName("Should render a version once when many readers ask for it at the same time")
+    void shouldRenderOncePerVersionUnderConcurrentReads() throws Exception {
+        // Given
+        final GameService service = mock(GameService.class);
+        final CountDownLatch rendering = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(service.getBoardVersion()).thenReturn(5L);
+        when(service.getSummaryByTotalScoreAndReverseOrder()).thenAnswer(invocation -> {
+            rendering.countDown();
+            release.await();
+            return List.of(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        });
+        final RenderedSummaryCache concurrentCache = new RenderedSummaryCache(service);
+        final CompletableFuture<RenderedSummary> renderer = CompletableFuture.supplyAsync(concurrentCache::current);
+        rendering.await();
+
+        // When
+        final List<Thread> readers = new ArrayList<>();
+        final List<RenderedSummary> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Thread reader = Thread.ofPlatform().start(() -> {
+                final RenderedSummary summary = concurrentCache.current();
+                synchronized (results) {
+                    results.add(summary);
+                }
+            });
+            readers.add(reader);
+        }
+        for (Thread reader : readers) {
+            while (reader.getState() != Thread.State.BLOCKED) {
+                Thread.onSpinWait();
+            }
+        }
+        release.countDown();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        // Then
+        assertThat(results).hasSize(4).allSatisfy(summary -> assertThat(summary).isSameAs(renderer.join()));
+        verify(service, times(1)).getSummaryByTotalScoreAndReverseOrder();
+    }
+
+    private static String json(RenderedSummary summary) {
+        final ByteBuffer json = summary.json().duplicate();
+        final byte[] bytes = new byte[json.remaining()];
+        json.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
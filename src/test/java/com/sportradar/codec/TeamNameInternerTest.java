@@ -0,0 +1,90 @@
+package com.sportradar.codec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TeamNameInterner Tests")
+class TeamNameInternerTest {
+
+    private TeamNameInterner interner;
+
+    @BeforeEach
+    void setUp() {
+        interner = new TeamNameInterner();
+    }
+
+    @Test
+    @DisplayName("Should return the same instance for equal bytes without moving the buffer position")
+    void shouldInternEqualBytes() {
+        // Given
+        final ByteBuffer first = ByteBuffer.allocateDirect(16).put("xPoland".getBytes(StandardCharsets.UTF_8)).flip();
+        final ByteBuffer second = ByteBuffer.wrap("Poland".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        final String fromDirect = interner.intern(first, 1, 6);
+        final String fromHeap = interner.intern(second, 0, 6);
+
+        // Then
+        assertThat(fromDirect).isEqualTo("Poland").isSameAs(fromHeap);
+        assertThat(first.position()).isZero();
+        assertThat(interner.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should tell apart names whose hashes collide")
+    void shouldSeparateCollidingNames() {
+        // Given
+        final ByteBuffer sameLength = ByteBuffer.wrap("AaBB".getBytes(StandardCharsets.UTF_8));
+        final ByteBuffer otherLength = ByteBuffer.wrap(new byte[]{'A', (byte) -61, 'A'});
+
+        // When
+        final String aa = interner.intern(sameLength, 0, 2);
+        final String bb = interner.intern(sameLength, 2, 2);
+        final String a = interner.intern(otherLength, 0, 1);
+        final String longer = interner.intern(otherLength, 1, 2);
+
+        // Then
+        assertThat(aa).isEqualTo("Aa");
+        assertThat(bb).isEqualTo("BB");
+        assertThat(a).isEqualTo("A");
+        assertThat(longer).isNotEqualTo(a);
+        assertThat(interner.intern(sameLength, 2, 2)).isSameAs(bb);
+        assertThat(interner.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should keep every name after growing")
+    void shouldKeepNamesAfterGrowing() {
+        // Given
+        final String[] interned = new String[200];
+
+        // When
+        for (int i = 0; i < interned.length; i++) {
+            interned[i] = interner.intern(ByteBuffer.wrap(("Team " + i).getBytes(StandardCharsets.UTF_8)), 0, ("Team " + i).length());
+        }
+
+        // Then
+        for (int i = 0; i < interned.length; i++) {
+            final byte[] name = ("Team " + i).getBytes(StandardCharsets.UTF_8);
+            assertThat(interner.intern(ByteBuffer.wrap(name), 0, name.length)).isSameAs(interned[i]);
+        }
+        assertThat(interner.size()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should encode a name to UTF-8 only once")
+    void shouldCacheEncodedBytes() {
+        // When
+        final byte[] first = interner.bytesOf("España");
+        final byte[] second = interner.bytesOf("España");
+
+        // Then
+        assertThat(first).isEqualTo("España".getBytes(StandardCharsets.UTF_8)).isSameAs(second);
+    }
+}
@@ -0,0 +1,273 @@
+package com.sportradar.ingest;
+
+import com.sportradar.domain.Game;
+import com.sportradar.exception.GameAlreadyExistsException;
+import com.sportradar.exception.GameNotFoundException;
+import com.sportradar.repository.InMemoryGameRepository;
+import com.sportradar.service.GameService;
+import com.sportradar.service.GameServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("GameIngestionPipeline Tests")
+class GameIngestionPipelineTest {
+
+    private static final String HOME_TEAM = "Poland";
+    private static final String AWAY_TEAM = "Argentina";
+    private GameService gameService;
+    private GameIngestionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameServiceImpl(new InMemoryGameRepository(new ArrayList<>()));
+        pipeline = GameIngestionPipeline.start(gameService, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.close();
+    }
+
+    @Test
+    @DisplayName("Should complete futures with the started and updated game")
+    void shouldCompleteFuturesWithGames() throws Exception {
+        // When
+        final CompletableFuture<Game> started = pipeline.startGame(HOME_TEAM, AWAY_TEAM);
+        final CompletableFuture<Game> updated = pipeline.updateScore(HOME_TEAM, AWAY_TEAM, 2, 1);
+        final CompletableFuture<Void> finished = pipeline.finishGame(HOME_TEAM, AWAY_TEAM);
+
+        // Then
+        assertThat(started.get(5, TimeUnit.SECONDS)).isEqualTo(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        assertThat(updated.get(5, TimeUnit.SECONDS)).isEqualTo(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 1));
+        assertThat(finished.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should complete futures exceptionally when the service rejects a command")
+    void shouldCompleteFuturesExceptionallyOnFailure() {
+        // When
+        pipeline.startGame(HOME_TEAM, AWAY_TEAM);
+        final CompletableFuture<Game> duplicate = pipeline.startGame(HOME_TEAM, AWAY_TEAM);
+        final CompletableFuture<Void> unknown = pipeline.finishGame("Spain", "Brazil");
+
+        // Then
+        assertThatThrownBy(() -> duplicate.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(GameAlreadyExistsException.class);
+        assertThatThrownBy(() -> unknown.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should apply commands of many producers in the order each producer published them")
+    void shouldApplyCommandsOfManyProducersInOrder() throws Exception {
+        // Given
+        final int producers = 4;
+        final int updates = 1_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        final AtomicInteger failures = new AtomicInteger();
+        final GameCommandCallback callback = (game, failure) -> {
+            if (failure != null) {
+                failures.incrementAndGet();
+            }
+        };
+        final List<Future<?>> results = new ArrayList<>();
+
+        // When
+        for (int p = 0; p < producers; p++) {
+            final String homeTeam = "Home " + p;
+            final String awayTeam = "Away " + p;
+            results.add(executor.submit(() -> {
+                pipeline.publishStart(homeTeam, awayTeam, callback);
+                for (int score = 1; score <= updates; score++) {
+                    pipeline.publishUpdate(homeTeam, awayTeam, score, 0, callback);
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        pipeline.close();
+
+        // Then
+        assertThat(failures).hasValue(0);
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder())
+                .hasSize(producers)
+                .allMatch(game -> game.homeScore() == updates);
+    }
+
+    @Test
+    @DisplayName("Should make producers wait while the ring buffer is full")
+    void shouldWaitWhileRingBufferIsFull() throws Exception {
+        // Given
+        final CountDownLatch writerBlocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        pipeline.publishStart(HOME_TEAM, AWAY_TEAM, (game, failure) -> {
+            writerBlocked.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(writerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+        final List<CompletableFuture<Game>> updates = new ArrayList<>();
+        for (int score = 1; score <= 7; score++) {
+            updates.add(pipeline.updateScore(HOME_TEAM, AWAY_TEAM, score, 0));
+        }
+
+        // When
+        final CompletableFuture<Game> blockedProducer = CompletableFuture.supplyAsync(
+                () -> pipeline.updateScore(HOME_TEAM, AWAY_TEAM, 8, 0).join());
+        Thread.sleep(50);
+        final boolean completedWhileFull = blockedProducer.isDone();
+        release.countDown();
+
+        // Then
+        assertThat(completedWhileFull).isFalse();
+        assertThat(blockedProducer.get(5, TimeUnit.SECONDS)).isEqualTo(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 8, 0));
+        assertThat(updates).allMatch(CompletableFuture::isDone);
+    }
+
+    @Test
+    @DisplayName("Should keep applying commands after a callback throws")
+    void shouldSurviveThrowingCallback() throws Exception {
+        // When
+        pipeline.publishStart(HOME_TEAM, AWAY_TEAM, (game, failure) -> {
+            throw new IllegalStateException("callback failed");
+        });
+        final CompletableFuture<Game> updated = pipeline.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+
+        // Then
+        assertThat(updated.get(5, TimeUnit.SECONDS)).isEqualTo(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Should apply published commands before closing and reject later ones")
+    void shouldDrainOnCloseAndRejectLaterCommands() {
+        // Given
+        final CompletableFuture<Game> started = pipeline.startGame(HOME_TEAM, AWAY_TEAM);
+
+        // When
+        pipeline.close();
+        pipeline.close();
+
+        // Then
+        assertThat(started).isCompleted();
+        assertThatThrownBy(() -> pipeline.startGame("Spain", "Brazil"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("closed");
+    }
+
+    @Test
+    @DisplayName("Should complete the future and keep applying commands when the service throws an Error")
+    void shouldSurviveErrorFromService() throws Exception {
+        // Given
+        final GameService failingService = mock(GameService.class);
+        when(failingService.startGame(HOME_TEAM, AWAY_TEAM)).thenThrow(new AssertionError("service failed"));
+        when(failingService.startGame("Spain", "Brazil")).thenReturn(Game.createNew("Spain", "Brazil"));
+        try (GameIngestionPipeline failingPipeline = GameIngestionPipeline.start(failingService, 8)) {
+            // When
+            final CompletableFuture<Game> failed = failingPipeline.startGame(HOME_TEAM, AWAY_TEAM);
+            final CompletableFuture<Game> started = failingPipeline.startGame("Spain", "Brazil");
+
+            // Then
+            assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(AssertionError.class);
+            assertThat(started.get(5, TimeUnit.SECONDS)).isEqualTo(Game.createNew("Spain", "Brazil"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply or reject every command published while the pipeline closes")
+    void shouldCompleteEveryAcceptedCommandWhenClosedConcurrently() throws Exception {
+        // Given
+        pipeline.startGame(HOME_TEAM, AWAY_TEAM).get(5, TimeUnit.SECONDS);
+        final int producers = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        final CountDownLatch publishing = new CountDownLatch(producers);
+        final List<Future<List<CompletableFuture<Game>>>> accepted = new ArrayList<>();
+        for (int producer = 0; producer < producers; producer++) {
+            accepted.add(executor.submit(() -> {
+                final List<CompletableFuture<Game>> futures = new ArrayList<>();
+                try {
+                    for (int score = 0; ; score++) {
+                        futures.add(pipeline.updateScore(HOME_TEAM, AWAY_TEAM, score, 0));
+                        if (score == 100) {
+                            publishing.countDown();
+                        }
+                    }
+                } catch (IllegalStateException e) {
+                    return futures;
+                }
+            }));
+        }
+
+        // When
+        publishing.await(5, TimeUnit.SECONDS);
+        pipeline.close();
+
+        // Then
+        try {
+            for (Future<List<CompletableFuture<Game>>> futures : accepted) {
+                assertThat(futures.get(5, TimeUnit.SECONDS))
+                        .isNotEmpty()
+                        .allSatisfy(future -> assertThat(future).isCompleted());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the interrupt flag when interrupted while closing")
+    void shouldKeepInterruptFlagWhenInterruptedWhileClosing() throws Exception {
+        // Given
+        final CountDownLatch release = new CountDownLatch(1);
+        pipeline.publishStart(HOME_TEAM, AWAY_TEAM, (game, failure) -> awaitQuietly(release));
+
+        // When
+        Thread.currentThread().interrupt();
+        pipeline.close();
+
+        // Then
+        assertThat(Thread.interrupted()).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should reject a capacity that is not a positive power of two")
+    void shouldRejectInvalidCapacity() {
+        assertThatThrownBy(() -> GameIngestionPipeline.start(gameService, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GameIngestionPipeline.start(gameService, 6))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("power of two");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
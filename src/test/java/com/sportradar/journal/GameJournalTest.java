@@ -0,0 +1,406 @@
+package com.sportradar.journal;
+
+import com.sportradar.domain.Game;
+import com.sportradar.repository.GameRepository;
+import com.sportradar.repository.IndexedGameRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GameJournal Tests")
+class GameJournalTest {
+
+    private static final String HOME_TEAM = "Poland";
+    private static final String AWAY_TEAM = "Argentina";
+    private static final int SEGMENT_SIZE = GameJournal.MIN_SEGMENT_SIZE;
+    private static final String FIRST_SEGMENT = "journal-0000000000000000.log";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should replay start, update and finish events in order")
+    void shouldReplayEventsInOrder() {
+        // Given
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.appendStart(Game.createNew(HOME_TEAM, AWAY_TEAM));
+            journal.appendStart(Game.createNew("Spain", "Brazil"));
+            journal.appendUpdate(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 1));
+            journal.appendFinish(Game.createNew("Spain", "Brazil"));
+        }
+        final GameRepository repository = new IndexedGameRepository();
+
+        // When
+        final long events;
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            events = journal.replay(repository);
+        }
+
+        // Then
+        assertThat(events).isEqualTo(4);
+        assertThat(repository.findAll()).containsExactly(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 1));
+    }
+
+    @Test
+    @DisplayName("Should replay events appended by the same journal instance")
+    void shouldReplayEventsOfOpenJournal() {
+        // Given
+        final GameRepository repository = new IndexedGameRepository();
+        try (GameJournal journal = GameJournal.open(config(100))) {
+            journal.appendStart(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0));
+
+            // When
+            final long events = journal.replay(repository);
+
+            // Then
+            assertThat(events).isEqualTo(1);
+            assertThat(repository.findAll()).containsExactly(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0));
+        }
+    }
+
+    @Test
+    @DisplayName("Should preserve team names beyond ASCII")
+    void shouldPreserveUnicodeTeamNames() {
+        // Given
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.appendStart(Game.createWithScores("Côte d'Ivoire", "Türkiye", 3, 2));
+        }
+        final GameRepository repository = new IndexedGameRepository();
+
+        // When
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.replay(repository);
+        }
+
+        // Then
+        assertThat(repository.findAll()).containsExactly(Game.createWithScores("Côte d'Ivoire", "Türkiye", 3, 2));
+    }
+
+    @Test
+    @DisplayName("Should roll over to a new segment when the current one is full")
+    void shouldRollOverToNewSegment() throws IOException {
+        // Given
+        final int games = 500;
+        try (GameJournal journal = GameJournal.open(config(64))) {
+            for (int i = 0; i < games; i++) {
+                journal.appendStart(Game.createWithScores("Home " + i, "Away " + i, i, 0));
+            }
+        }
+        final GameRepository repository = new IndexedGameRepository();
+
+        // When
+        final long events;
+        try (GameJournal journal = GameJournal.open(config(64))) {
+            events = journal.replay(repository);
+        }
+
+        // Then
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+        assertThat(events).isEqualTo(games);
+        assertThat(repository.findAll()).hasSize(games)
+                .first().isEqualTo(Game.createWithScores("Home 0", "Away 0", 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should replay only events after a given position")
+    void shouldReplayFromPosition() {
+        // Given
+        final JournalPosition position;
+        try (GameJournal journal = GameJournal.open(config(64))) {
+            for (int i = 0; i < 200; i++) {
+                journal.appendStart(Game.createNew("Home " + i, "Away " + i));
+            }
+            position = journal.position();
+            journal.appendStart(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        }
+        final GameRepository repository = new IndexedGameRepository();
+
+        // When
+        final long events;
+        try (GameJournal journal = GameJournal.open(config(64))) {
+            events = journal.replay(repository, position);
+        }
+
+        // Then
+        assertThat(position.segment()).isPositive();
+        assertThat(events).isEqualTo(1);
+        assertThat(repository.findAll()).containsExactly(Game.createNew(HOME_TEAM, AWAY_TEAM));
+    }
+
+    @Test
+    @DisplayName("Should continue appending after the last event when reopened")
+    void shouldContinueAppendingWhenReopened() {
+        // Given
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.appendStart(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        }
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.appendUpdate(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 0, 1));
+        }
+        final GameRepository repository = new IndexedGameRepository();
+
+        // When
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.replay(repository);
+        }
+
+        // Then
+        assertThat(repository.findAll()).containsExactly(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Should replay a segment filled up to its last byte")
+    void shouldReplayCompletelyFilledSegment() {
+        // Given
+        final String homeTeam = "H".repeat(4000);
+        final String awayTeam = "A".repeat(SEGMENT_SIZE - Integer.BYTES - 21 - homeTeam.length());
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.appendStart(Game.createNew(homeTeam, awayTeam));
+        }
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.appendFinish(Game.createNew(homeTeam, awayTeam));
+        }
+        final GameRepository repository = new IndexedGameRepository();
+        final long events;
+
+        // When
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            events = journal.replay(repository);
+        }
+
+        // Then
+        assertThat(events).isEqualTo(2);
+        assertThat(repository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should discard a torn event with a bad checksum and overwrite it")
+    void shouldDiscardEventWithBadChecksum() throws IOException {
+        // Given
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.appendStart(Game.createNew(HOME_TEAM, AWAY_TEAM));
+            journal.appendUpdate(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0));
+        }
+        final int secondEvent = Integer.BYTES + 8 + 5 + HOME_TEAM.length() + AWAY_TEAM.length() + 8;
+        corrupt(secondEvent + 8 + 1, (byte) 'X');
+
+        // When
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.appendUpdate(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 0, 2));
+        }
+        final GameRepository repository = new IndexedGameRepository();
+        final long events;
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            events = journal.replay(repository);
+        }
+
+        // Then
+        assertThat(events).isEqualTo(2);
+        assertThat(repository.findAll()).containsExactly(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 0, 2));
+    }
+
+    @Test
+    @DisplayName("Should zero only the bytes written past the last valid event when reopened")
+    void shouldZeroOnlyWrittenTailWhenReopened() throws IOException {
+        // Given
+        final JournalConfig config = new JournalConfig(directory, 1024 * 1024, 1);
+        try (GameJournal journal = GameJournal.open(config)) {
+            journal.appendStart(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        }
+        final int secondEvent = Integer.BYTES + 8 + 5 + HOME_TEAM.length() + AWAY_TEAM.length() + 8;
+        final int beyondTornTail = 512 * 1024;
+        corrupt(secondEvent + 8 + 1, (byte) 'X');
+        corrupt(beyondTornTail, (byte) 'X');
+
+        // When
+        try (GameJournal journal = GameJournal.open(config)) {
+            journal.sync();
+        }
+
+        // Then
+        final byte[] segment = Files.readAllBytes(directory.resolve(FIRST_SEGMENT));
+        assertThat(segment[secondEvent + 8 + 1]).isZero();
+        assertThat(segment[beyondTornTail]).isEqualTo((byte) 'X');
+    }
+
+    @Test
+    @DisplayName("Should stop replay at an event whose length runs past the segment")
+    void shouldStopAtEventLengthPastSegmentEnd() throws IOException {
+        // Given
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.appendStart(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        }
+        final int secondEvent = Integer.BYTES + 8 + 5 + HOME_TEAM.length() + AWAY_TEAM.length() + 8;
+        writeInt(secondEvent, SEGMENT_SIZE);
+        final GameRepository repository = new IndexedGameRepository();
+
+        // When
+        final long events;
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            events = journal.replay(repository);
+        }
+
+        // Then
+        assertThat(events).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject an event of unknown type with a valid checksum")
+    void shouldRejectUnknownEventType() throws IOException {
+        // Given
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.appendFinish(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        }
+        final int payloadLength = 5 + HOME_TEAM.length() + AWAY_TEAM.length();
+        final ByteBuffer payload = ByteBuffer.allocate(payloadLength)
+                .put((byte) 9)
+                .putShort((short) HOME_TEAM.length()).put(HOME_TEAM.getBytes(StandardCharsets.UTF_8))
+                .putShort((short) AWAY_TEAM.length()).put(AWAY_TEAM.getBytes(StandardCharsets.UTF_8))
+                .flip();
+        final CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        try (FileChannel channel = FileChannel.open(directory.resolve(FIRST_SEGMENT), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8 + payloadLength)
+                    .putInt(payloadLength).putInt((int) crc.getValue()).put(payload).flip(), Integer.BYTES);
+        }
+
+        // When / Then
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            assertThatThrownBy(() -> journal.replay(new IndexedGameRepository()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Unknown journal event type: 9");
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore files that are not journal segments")
+    void shouldIgnoreUnrelatedFiles() throws IOException {
+        // Given
+        Files.writeString(directory.resolve("notes.txt"), "not a journal");
+        Files.writeString(directory.resolve("journal-backup.txt"), "not a journal");
+
+        // When
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            journal.appendStart(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        }
+
+        // Then
+        assertThat(segmentFiles()).containsExactly(directory.resolve(FIRST_SEGMENT));
+    }
+
+    @Test
+    @DisplayName("Should reject a segment without the journal header")
+    void shouldRejectSegmentWithBadMagic() throws IOException {
+        // Given
+        Files.write(directory.resolve(FIRST_SEGMENT), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        // When / Then
+        assertThatThrownBy(() -> GameJournal.open(config(1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Not a journal segment");
+    }
+
+    @Test
+    @DisplayName("Should reject an empty segment file")
+    void shouldRejectEmptySegment() throws IOException {
+        // Given
+        Files.createFile(directory.resolve(FIRST_SEGMENT));
+
+        // When / Then
+        assertThatThrownBy(() -> GameJournal.open(config(1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Not a journal segment");
+    }
+
+    @Test
+    @DisplayName("Should wrap I/O failures in UncheckedIOException")
+    void shouldWrapIoFailures() throws IOException {
+        // Given
+        final Path file = Files.createFile(directory.resolve("file"));
+
+        // When / Then
+        assertThatThrownBy(() -> GameJournal.open(new JournalConfig(file, SEGMENT_SIZE, 1)))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject team names longer than 65535 bytes")
+    void shouldRejectTooLongTeamName() {
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            // When / Then
+            assertThatThrownBy(() -> journal.appendStart(Game.createNew("X".repeat(70_000), AWAY_TEAM)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("65535");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an event larger than a segment")
+    void shouldRejectEventLargerThanSegment() {
+        try (GameJournal journal = GameJournal.open(config(1))) {
+            // When / Then
+            assertThatThrownBy(() -> journal.appendStart(Game.createNew("X".repeat(SEGMENT_SIZE), AWAY_TEAM)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("does not fit in a journal segment");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void shouldRejectInvalidConfig() {
+        assertThatThrownBy(() -> new JournalConfig(directory, SEGMENT_SIZE - 1, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Segment size");
+        assertThatThrownBy(() -> new JournalConfig(directory, SEGMENT_SIZE, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Sync batch size");
+    }
+
+    @Test
+    @DisplayName("Should use default segment and sync batch sizes")
+    void shouldUseDefaultConfig() {
+        // When
+        final JournalConfig config = JournalConfig.of(directory);
+
+        // Then
+        assertThat(config.segmentSize()).isEqualTo(JournalConfig.DEFAULT_SEGMENT_SIZE);
+        assertThat(config.syncBatchSize()).isEqualTo(JournalConfig.DEFAULT_SYNC_BATCH_SIZE);
+    }
+
+    private JournalConfig config(int syncBatchSize) {
+        return new JournalConfig(directory, SEGMENT_SIZE, syncBatchSize);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private void corrupt(int position, byte value) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(FIRST_SEGMENT), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{value}), position);
+        }
+    }
+
+    private void writeInt(int position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(FIRST_SEGMENT), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(value).flip(), position);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.sportradar.journal;
+
+import com.sportradar.domain.Game;
+import com.sportradar.repository.GameRepository;
+import com.sportradar.repository.IndexedGameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+@DisplayName("JournalSnapshotter Tests")
+class JournalSnapshotterTest {
+
+    private static final String HOME_TEAM = "Poland";
+    private static final String AWAY_TEAM = "Argentina";
+
+    @TempDir
+    private Path directory;
+    private GameJournal journal;
+    private JournalingGameRepository repository;
+    private JournalSnapshotter snapshotter;
+
+    @BeforeEach
+    void setUp() {
+        journal = GameJournal.open(config());
+        repository = new JournalingGameRepository(new IndexedGameRepository(), journal);
+        snapshotter = new JournalSnapshotter(journal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should restore snapshot and replay only the events appended after it")
+    void shouldRestoreSnapshotAndReplayTail() {
+        // Given
+        repository.save(Game.createNew("Spain", "Brazil"));
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        repository.save(Game.createNew("Germany", "France"));
+        repository.updateScore("Spain", "Brazil", 1, 1);
+        repository.deleteByTeams("Germany", "France");
+        final int snapshotGames = snapshotter.snapshot(repository);
+        repository.updateScore(HOME_TEAM, AWAY_TEAM, 2, 0);
+        repository.save(Game.createNew("Mexico", "Canada"));
+        final GameRepository restored = new IndexedGameRepository();
+
+        // When
+        final RecoveryStats stats = restart().restore(restored);
+
+        // Then
+        assertThat(snapshotGames).isEqualTo(2);
+        assertThat(stats.snapshotGames()).isEqualTo(2);
+        assertThat(stats.replayedEvents()).isEqualTo(2);
+        assertThat(stats.duration()).isPositive();
+        assertThat(restored.findAll()).containsExactlyElementsOf(repository.findAll());
+        assertThat(restored.findAllByTotalScoreAndReverseOrder()).containsExactlyElementsOf(repository.findAllByTotalScoreAndReverseOrder());
+    }
+
+    @Test
+    @DisplayName("Should restore the live board when writes land between the snapshot position and the copy of the games")
+    void shouldRestoreWritesAppliedWhileCheckpointCopies() {
+        // Given
+        final GameRepository live = spy(new IndexedGameRepository());
+        final JournalingGameRepository racingRepository = new JournalingGameRepository(live, journal);
+        racingRepository.save(Game.createNew("Spain", "Brazil"));
+        racingRepository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        doAnswer(invocation -> {
+            racingRepository.save(Game.createNew("Germany", "France"));
+            racingRepository.updateScore("Spain", "Brazil", 2, 2);
+            racingRepository.deleteByTeams(HOME_TEAM, AWAY_TEAM);
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(live).findAll();
+        final int snapshotGames = snapshotter.snapshot(racingRepository);
+        final GameRepository restored = new IndexedGameRepository();
+
+        // When
+        final RecoveryStats stats = restart().restore(restored);
+
+        // Then
+        assertThat(snapshotGames).isEqualTo(2);
+        assertThat(stats.replayedEvents()).isEqualTo(3);
+        assertThat(restored.findAll()).containsExactlyElementsOf(live.findAll())
+                .containsExactly(Game.createWithScores("Spain", "Brazil", 2, 2), Game.createNew("Germany", "France"));
+    }
+
+    @Test
+    @DisplayName("Should replay the whole journal when there is no snapshot")
+    void shouldReplayWholeJournalWithoutSnapshot() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        final GameRepository restored = new IndexedGameRepository();
+
+        // When
+        final RecoveryStats stats = restart().restore(restored);
+
+        // Then
+        assertThat(stats.snapshotGames()).isZero();
+        assertThat(stats.replayedEvents()).isEqualTo(1);
+        assertThat(restored.findAll()).containsExactly(Game.createNew(HOME_TEAM, AWAY_TEAM));
+    }
+
+    @Test
+    @DisplayName("Should delete covered journal segments and older snapshots")
+    void shouldCompactJournal() throws IOException {
+        // Given
+        for (int i = 0; i < 500; i++) {
+            repository.save(Game.createNew("Home " + i, "Away " + i));
+            repository.deleteByTeams("Home " + i, "Away " + i);
+        }
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        snapshotter.snapshot(repository);
+        assertThat(files("journal-")).hasSize(1);
+        repository.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+
+        // When
+        snapshotter.snapshot(repository);
+        snapshotter.snapshot(repository);
+
+        // Then
+        assertThat(files("journal-")).hasSize(1);
+        assertThat(files("snapshot-")).hasSize(1);
+        final GameRepository restored = new IndexedGameRepository();
+        final RecoveryStats stats = restart().restore(restored);
+        assertThat(stats.replayedEvents()).isZero();
+        assertThat(restored.findAll()).containsExactly(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot with a bad checksum")
+    void shouldRejectCorruptedSnapshot() throws IOException {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        snapshotter.snapshot(repository);
+        final Path snapshot = files("snapshot-").get(0);
+        final byte[] content = Files.readAllBytes(snapshot);
+        content[content.length - 6] ^= 1;
+        Files.write(snapshot, content);
+
+        // When / Then
+        assertThatThrownBy(() -> snapshotter.restore(new IndexedGameRepository()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Corrupted journal snapshot");
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot without the snapshot header")
+    void shouldRejectSnapshotWithBadMagic() throws IOException {
+        // Given
+        Files.write(directory.resolve("snapshot-0.snap"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        // When / Then
+        assertThatThrownBy(() -> snapshotter.restore(new IndexedGameRepository()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Not a journal snapshot");
+    }
+
+    @Test
+    @DisplayName("Should reject a truncated snapshot")
+    void shouldRejectTruncatedSnapshot() throws IOException {
+        // Given
+        Files.write(directory.resolve("snapshot-0.snap"), new byte[]{1, 2, 3});
+        Files.write(directory.resolve("snapshot-0.txt"), new byte[]{1, 2, 3});
+
+        // When / Then
+        assertThatThrownBy(() -> snapshotter.restore(new IndexedGameRepository()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Not a journal snapshot");
+    }
+
+    @Test
+    @DisplayName("Should keep taking scheduled snapshots after a failed one")
+    void shouldKeepSchedulingAfterFailure() throws Exception {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        final JournalingGameRepository failingOnce = spy(repository);
+        doThrow(new IllegalStateException("checkpoint failed")).doCallRealMethod().when(failingOnce).checkpoint();
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+        // When
+        final ScheduledFuture<?> future = snapshotter.schedule(failingOnce, executor, Duration.ofMillis(1));
+
+        // Then
+        final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        try {
+            while (files("snapshot-").isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        } finally {
+            future.cancel(false);
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(files("snapshot-")).hasSize(1);
+    }
+
+    private JournalConfig config() {
+        return new JournalConfig(directory, GameJournal.MIN_SEGMENT_SIZE, 64);
+    }
+
+    private JournalSnapshotter restart() {
+        journal.close();
+        journal = GameJournal.open(config());
+        return new JournalSnapshotter(journal);
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.sportradar.journal;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.repository.ConcurrentGameRepository;
+import com.sportradar.repository.GameRepository;
+import com.sportradar.repository.InMemoryGameRepository;
+import com.sportradar.repository.IndexedGameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JournalingGameRepository Tests")
+class JournalingGameRepositoryTest {
+
+    private static final String HOME_TEAM = "Poland";
+    private static final String AWAY_TEAM = "Argentina";
+
+    @TempDir
+    private Path directory;
+    private GameJournal journal;
+    private GameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        journal = GameJournal.open(JournalConfig.of(directory));
+        repository = new JournalingGameRepository(new ConcurrentGameRepository(), journal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the board from the journal after restart")
+    void shouldRebuildBoardAfterRestart() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        repository.saveIfAbsent(Game.createNew("Spain", "Brazil"));
+        repository.saveIfAbsent(Game.createNew("Germany", "France"));
+        repository.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+        repository.updateScores(List.of(new ScoreUpdate("Spain", "Brazil", 2, 2)));
+        repository.deleteByTeams("Germany", "France");
+
+        // When
+        final GameRepository restored = restart();
+
+        // Then
+        assertThat(restored.findAll()).containsExactlyElementsOf(repository.findAll());
+        assertThat(restored.findAllByTotalScoreAndReverseOrder())
+                .containsExactly(Game.createWithScores("Spain", "Brazil", 2, 2), Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Should journal a game started only when its teams are free")
+    void shouldJournalSaveIfTeamsFree() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+
+        // When
+        final Optional<Game> started = repository.saveIfTeamsFree(game);
+        final Optional<Game> rejected = repository.saveIfTeamsFree(Game.createNew("Spain", AWAY_TEAM));
+
+        // Then
+        assertThat(started).isEmpty();
+        assertThat(rejected).contains(game);
+        assertThat(repository.findGamesByTeam(AWAY_TEAM)).containsExactly(game);
+        assertThat(countJournaledEvents()).isEqualTo(1);
+        assertThat(restart().findAll()).containsExactly(game);
+    }
+
+    @Test
+    @DisplayName("Should journal only versioned updates that were applied")
+    void shouldJournalAppliedVersionedUpdates() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // When
+        repository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 2, 0, 2);
+        repository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 1);
+        repository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 2, 1, 1);
+        repository.updateScoreIfNewer("Spain", "Brazil", 1, 0, 1);
+
+        // Then
+        assertThat(countJournaledEvents()).isEqualTo(2);
+        assertThat(restart().findAll()).containsExactly(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 0));
+    }
+
+    @Test
+    @DisplayName("Should not journal writes that change nothing")
+    void shouldNotJournalRejectedWrites() {
+        // Given
+        repository.saveIfAbsent(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // When
+        final Optional<Game> duplicate = repository.saveIfAbsent(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 5, 5));
+        final Optional<Game> unknownUpdate = repository.updateScore("Spain", "Brazil", 1, 1);
+        final List<Optional<Game>> unknownBatch = repository.updateScores(List.of(new ScoreUpdate("Spain", "Brazil", 1, 1)));
+        final Optional<Game> unknownFinish = repository.deleteByTeams("Spain", "Brazil");
+        repository.delete(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 3, 3));
+        repository.delete(Game.createNew("Spain", "Brazil"));
+
+        // Then
+        assertThat(duplicate).contains(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        assertThat(unknownUpdate).isEmpty();
+        assertThat(unknownBatch).containsExactly(Optional.empty());
+        assertThat(unknownFinish).isEmpty();
+        assertThat(countJournaledEvents()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should journal finish of a deleted game")
+    void shouldJournalDelete() {
+        // Given
+        final Game game = repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // When
+        repository.delete(game);
+
+        // Then
+        assertThat(repository.findAll()).isEmpty();
+        assertThat(restart().findAll()).isEmpty();
+        assertThat(countJournaledEvents()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should copy the games of a checkpoint so later writes to a live view do not change it")
+    void shouldCopyCheckpointGames() {
+        // Given
+        final JournalingGameRepository liveViewRepository = new JournalingGameRepository(new InMemoryGameRepository(new ArrayList<>()), journal);
+        liveViewRepository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // When
+        final JournalingGameRepository.Checkpoint checkpoint = liveViewRepository.checkpoint();
+        liveViewRepository.save(Game.createNew("Spain", "Brazil"));
+        liveViewRepository.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+
+        // Then
+        assertThat(checkpoint.games()).containsExactly(Game.createNew(HOME_TEAM, AWAY_TEAM));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the same board when many threads write through the journal at once")
+    void shouldRebuildBoardAfterConcurrentWrites() throws Exception {
+        // Given
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        final List<Future<?>> writers = new ArrayList<>();
+
+        // When
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                final String team = "Team " + thread;
+                writers.add(executor.submit(() -> {
+                    for (int score = 0; score < 100; score++) {
+                        repository.saveIfAbsent(Game.createNew(team, "Rival " + score % 10));
+                        repository.updateScores(List.of(new ScoreUpdate(team, "Rival " + score % 10, score, 0),
+                                new ScoreUpdate(HOME_TEAM, AWAY_TEAM, score, score)));
+                        if (score % 3 == 0) {
+                            repository.deleteByTeams(team, "Rival " + score % 10);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(restart().findAll()).containsExactlyInAnyOrderElementsOf(repository.findAll());
+    }
+
+    @Test
+    @DisplayName("Should delegate reads to the wrapped repository")
+    void shouldDelegateReads() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        repository.save(Game.createWithScores("Spain", "Brazil", 1, 0));
+
+        // When / Then
+        assertThat(repository.findByTeams(HOME_TEAM, AWAY_TEAM)).contains(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        assertThat(repository.findAllByTotalScoreAndReverseOrder())
+                .containsExactly(Game.createWithScores("Spain", "Brazil", 1, 0), Game.createNew(HOME_TEAM, AWAY_TEAM));
+        assertThat(repository.findAllByTotalScoreAndReverseOrder(1, 1)).containsExactly(Game.createNew(HOME_TEAM, AWAY_TEAM));
+    }
+
+    private GameRepository restart() {
+        journal.close();
+        journal = GameJournal.open(JournalConfig.of(directory));
+        final GameRepository restored = new IndexedGameRepository();
+        journal.replay(restored);
+        return restored;
+    }
+
+    private long countJournaledEvents() {
+        journal.close();
+        journal = GameJournal.open(JournalConfig.of(directory));
+        return journal.replay(new IndexedGameRepository());
+    }
+}
@@ -0,0 +1,238 @@
+package com.sportradar.metrics;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.GameWriteStatus;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.domain.ScoreUpdateResult;
+import com.sportradar.domain.SummaryChange;
+import com.sportradar.exception.GameAlreadyExistsException;
+import com.sportradar.exception.GameNotFoundException;
+import com.sportradar.exception.GameValidationException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+import com.sportradar.service.GameService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InstrumentedGameService Tests")
+class InstrumentedGameServiceTest {
+
+    private static final String HOME_TEAM = "Poland";
+    private static final String AWAY_TEAM = "Argentina";
+    @Mock
+    private GameService gameService;
+    private InstrumentedGameService instrumentedService;
+
+    @BeforeEach
+    void setUp() {
+        instrumentedService = new InstrumentedGameService(gameService);
+    }
+
+    @Test
+    @DisplayName("Should count successful calls and record their latency")
+    void shouldCountSuccessfulCalls() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        when(gameService.startGame(HOME_TEAM, AWAY_TEAM)).thenReturn(game);
+        when(gameService.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0)).thenReturn(game);
+        when(gameService.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 7)).thenReturn(game);
+        when(gameService.getSummaryByTotalScoreAndReverseOrder()).thenReturn(List.of(game));
+        when(gameService.getSummaryTop(1)).thenReturn(List.of(game));
+        when(gameService.getSummaryPage(0, 1)).thenReturn(List.of(game));
+        when(gameService.getGamesByTeam(HOME_TEAM)).thenReturn(List.of(game));
+
+        // When
+        assertThat(instrumentedService.startGame(HOME_TEAM, AWAY_TEAM)).isSameAs(game);
+        assertThat(instrumentedService.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0)).isSameAs(game);
+        assertThat(instrumentedService.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 7)).isSameAs(game);
+        instrumentedService.finishGame(HOME_TEAM, AWAY_TEAM);
+        instrumentedService.finishGame(HOME_TEAM, AWAY_TEAM);
+        assertThat(instrumentedService.getSummaryByTotalScoreAndReverseOrder()).containsExactly(game);
+        assertThat(instrumentedService.getSummaryTop(1)).containsExactly(game);
+        assertThat(instrumentedService.getSummaryPage(0, 1)).containsExactly(game);
+        assertThat(instrumentedService.getGamesByTeam(HOME_TEAM)).containsExactly(game);
+
+        // Then
+        final Map<GameOperation, OperationSnapshot> snapshot = instrumentedService.snapshot();
+        assertThat(snapshot.get(GameOperation.START_GAME).calls()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.FINISH_GAME).calls()).isEqualTo(2);
+        assertThat(snapshot.get(GameOperation.FINISH_GAME).latency().count()).isEqualTo(2);
+        assertThat(snapshot.get(GameOperation.UPDATE_SCORE).calls()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.UPDATE_SCORE_IF_NEWER).calls()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.UPDATE_SCORES).calls()).isZero();
+        assertThat(snapshot.get(GameOperation.GET_SUMMARY).calls()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.GET_SUMMARY_TOP).calls()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.GET_SUMMARY_PAGE).calls()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.GET_GAMES_BY_TEAM).calls()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.START_GAME).latency().max()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should count failures by exception type and rethrow them")
+    void shouldCountFailuresByType() {
+        // Given
+        when(gameService.startGame(HOME_TEAM, AWAY_TEAM)).thenThrow(new GameAlreadyExistsException("exists"));
+        when(gameService.updateScore(HOME_TEAM, AWAY_TEAM, -1, 0)).thenThrow(new GameValidationException("score", "negative"));
+        doThrow(new GameNotFoundException("missing")).when(gameService).finishGame(HOME_TEAM, AWAY_TEAM);
+        when(gameService.getSummaryByTotalScoreAndReverseOrder()).thenThrow(new IllegalStateException("broken"));
+        when(gameService.getSummaryTop(-1)).thenThrow(new GameValidationException("limit", "negative"));
+        when(gameService.getSummaryPage(-1, 1)).thenThrow(new GameValidationException("offset", "negative"));
+        when(gameService.getGamesByTeam(" ")).thenThrow(new GameValidationException("team", "blank"));
+        when(gameService.updateScoreIfNewer("Spain", "Brazil", 1, 0, 1)).thenThrow(new GameNotFoundException("missing"));
+        when(gameService.startGame("Spain", "Brazil")).thenThrow(new TeamAlreadyPlayingException("Spain", "Spain", "Germany"));
+
+        // When / Then
+        assertThatThrownBy(() -> instrumentedService.startGame(HOME_TEAM, AWAY_TEAM)).isInstanceOf(GameAlreadyExistsException.class);
+        assertThatThrownBy(() -> instrumentedService.updateScore(HOME_TEAM, AWAY_TEAM, -1, 0)).isInstanceOf(GameValidationException.class);
+        assertThatThrownBy(() -> instrumentedService.finishGame(HOME_TEAM, AWAY_TEAM)).isInstanceOf(GameNotFoundException.class);
+        assertThatThrownBy(() -> instrumentedService.getSummaryByTotalScoreAndReverseOrder()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> instrumentedService.getSummaryTop(-1)).isInstanceOf(GameValidationException.class);
+        assertThatThrownBy(() -> instrumentedService.getSummaryPage(-1, 1)).isInstanceOf(GameValidationException.class);
+        assertThatThrownBy(() -> instrumentedService.getGamesByTeam(" ")).isInstanceOf(GameValidationException.class);
+        assertThatThrownBy(() -> instrumentedService.updateScoreIfNewer("Spain", "Brazil", 1, 0, 1)).isInstanceOf(GameNotFoundException.class);
+        assertThatThrownBy(() -> instrumentedService.startGame("Spain", "Brazil")).isInstanceOf(TeamAlreadyPlayingException.class);
+
+        final Map<GameOperation, OperationSnapshot> snapshot = instrumentedService.snapshot();
+        assertThat(snapshot.get(GameOperation.START_GAME).alreadyExists()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.START_GAME).teamAlreadyPlaying()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.START_GAME).calls()).isEqualTo(2);
+        assertThat(snapshot.get(GameOperation.UPDATE_SCORE).validation()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.FINISH_GAME).notFound()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.GET_SUMMARY).otherErrors()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.GET_SUMMARY_TOP).validation()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.GET_SUMMARY_PAGE).validation()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.GET_GAMES_BY_TEAM).validation()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.UPDATE_SCORE_IF_NEWER).notFound()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count rejected try writes by status and pass their status through")
+    void shouldCountRejectedTryWritesByStatus() {
+        // Given
+        when(gameService.tryStart(HOME_TEAM, AWAY_TEAM)).thenReturn(GameWriteStatus.OK, GameWriteStatus.ALREADY_EXISTS,
+                GameWriteStatus.TEAM_ALREADY_PLAYING, GameWriteStatus.INVALID);
+        when(gameService.tryUpdate(HOME_TEAM, AWAY_TEAM, 1, 0)).thenReturn(GameWriteStatus.NOT_FOUND);
+        when(gameService.tryFinish(HOME_TEAM, AWAY_TEAM)).thenReturn(GameWriteStatus.OK);
+        when(gameService.tryStart("Spain", "Brazil")).thenThrow(new IllegalStateException("broken"));
+        when(gameService.tryUpdate("Spain", "Brazil", 1, 0)).thenThrow(new IllegalStateException("broken"));
+        when(gameService.tryFinish("Spain", "Brazil")).thenThrow(new IllegalStateException("broken"));
+
+        // When
+        assertThat(instrumentedService.tryStart(HOME_TEAM, AWAY_TEAM)).isEqualTo(GameWriteStatus.OK);
+        assertThat(instrumentedService.tryStart(HOME_TEAM, AWAY_TEAM)).isEqualTo(GameWriteStatus.ALREADY_EXISTS);
+        assertThat(instrumentedService.tryStart(HOME_TEAM, AWAY_TEAM)).isEqualTo(GameWriteStatus.TEAM_ALREADY_PLAYING);
+        assertThat(instrumentedService.tryStart(HOME_TEAM, AWAY_TEAM)).isEqualTo(GameWriteStatus.INVALID);
+        assertThat(instrumentedService.tryUpdate(HOME_TEAM, AWAY_TEAM, 1, 0)).isEqualTo(GameWriteStatus.NOT_FOUND);
+        assertThat(instrumentedService.tryFinish(HOME_TEAM, AWAY_TEAM)).isEqualTo(GameWriteStatus.OK);
+        assertThatThrownBy(() -> instrumentedService.tryStart("Spain", "Brazil")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> instrumentedService.tryUpdate("Spain", "Brazil", 1, 0)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> instrumentedService.tryFinish("Spain", "Brazil")).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        final Map<GameOperation, OperationSnapshot> snapshot = instrumentedService.snapshot();
+        assertThat(snapshot.get(GameOperation.TRY_START).calls()).isEqualTo(5);
+        assertThat(snapshot.get(GameOperation.TRY_START).alreadyExists()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.TRY_START).teamAlreadyPlaying()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.TRY_START).validation()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.TRY_START).otherErrors()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.TRY_UPDATE).notFound()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.TRY_UPDATE).otherErrors()).isEqualTo(1);
+        assertThat(snapshot.get(GameOperation.TRY_FINISH).calls()).isEqualTo(2);
+        assertThat(snapshot.get(GameOperation.TRY_FINISH).otherErrors()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count failed batch items as failures of updateScores")
+    void shouldCountFailedBatchItems() {
+        // Given
+        final ScoreUpdate updated = new ScoreUpdate(HOME_TEAM, AWAY_TEAM, 1, 0);
+        final ScoreUpdate missing = new ScoreUpdate("Spain", "Brazil", 1, 0);
+        final List<ScoreUpdate> updates = List.of(updated, missing);
+        final List<ScoreUpdateResult> results = List.of(
+                ScoreUpdateResult.updated(updated, Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0)),
+                ScoreUpdateResult.failed(missing, new GameNotFoundException("missing")));
+        when(gameService.updateScores(updates)).thenReturn(results);
+        when(gameService.updateScores(List.of())).thenThrow(new IllegalStateException("broken"));
+
+        // When
+        assertThat(instrumentedService.updateScores(updates)).isSameAs(results);
+        assertThatThrownBy(() -> instrumentedService.updateScores(List.of())).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        final OperationSnapshot snapshot = instrumentedService.snapshot().get(GameOperation.UPDATE_SCORES);
+        assertThat(snapshot.calls()).isEqualTo(2);
+        assertThat(snapshot.notFound()).isEqualTo(1);
+        assertThat(snapshot.otherErrors()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should pass summary change subscriptions through")
+    void shouldPassSummaryChangesThrough() {
+        // Given
+        @SuppressWarnings("unchecked") final Flow.Publisher<SummaryChange> publisher = mock(Flow.Publisher.class);
+        final Executor executor = Runnable::run;
+        when(gameService.getSummaryChanges()).thenReturn(publisher);
+        when(gameService.getSummaryChanges(executor)).thenReturn(publisher);
+
+        // When / Then
+        assertThat(instrumentedService.getSummaryChanges()).isSameAs(publisher);
+        assertThat(instrumentedService.getSummaryChanges(executor)).isSameAs(publisher);
+    }
+
+    @Test
+    @DisplayName("Should pass the board version through")
+    void shouldPassBoardVersionThrough() {
+        // Given
+        when(gameService.getBoardVersion()).thenReturn(7L);
+
+        // When / Then
+        assertThat(instrumentedService.getBoardVersion()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Should expose operation metrics through JMX")
+    void shouldExposeMetricsThroughJmx() throws Exception {
+        // Given
+        final MBeanServer server = MBeanServerFactory.newMBeanServer();
+        doThrow(new GameNotFoundException("missing")).when(gameService).finishGame(HOME_TEAM, AWAY_TEAM);
+        assertThatThrownBy(() -> instrumentedService.finishGame(HOME_TEAM, AWAY_TEAM)).isInstanceOf(GameNotFoundException.class);
+
+        // When
+        final List<ObjectName> names = instrumentedService.registerMBeans(server, "main board");
+
+        // Then
+        assertThat(names).hasSize(GameOperation.values().length);
+        final ObjectName finishGame = new ObjectName("com.sportradar:type=GameService,name=\"main board\",operation=finishGame");
+        assertThat(names).contains(finishGame);
+        assertThat(server.getAttribute(finishGame, "Calls")).isEqualTo(1L);
+        assertThat(server.getAttribute(finishGame, "NotFoundErrors")).isEqualTo(1L);
+        assertThat(server.getAttribute(finishGame, "AlreadyExistsErrors")).isEqualTo(0L);
+        assertThat(server.getAttribute(finishGame, "TeamAlreadyPlayingErrors")).isEqualTo(0L);
+        assertThat(server.getAttribute(finishGame, "ValidationErrors")).isEqualTo(0L);
+        assertThat(server.getAttribute(finishGame, "OtherErrors")).isEqualTo(0L);
+        final long max = (Long) server.getAttribute(finishGame, "MaxNanos");
+        assertThat(max).isPositive();
+        assertThat(server.getAttribute(finishGame, "MeanNanos")).isEqualTo(max);
+        assertThat((Long) server.getAttribute(finishGame, "P50Nanos")).isEqualTo(max);
+        assertThat((Long) server.getAttribute(finishGame, "P99Nanos")).isEqualTo(max);
+        assertThat((Long) server.getAttribute(finishGame, "P999Nanos")).isEqualTo(max);
+    }
+}
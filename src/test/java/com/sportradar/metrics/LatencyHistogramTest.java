@@ -0,0 +1,118 @@
+package com.sportradar.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should report zeros when nothing was recorded")
+    void shouldReportZerosWhenEmpty() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        final LatencySnapshot snapshot = histogram.snapshot();
+
+        // Then
+        assertThat(snapshot).isEqualTo(new LatencySnapshot(0, 0, 0, 0, 0, 0));
+        assertThat(histogram.mean()).isZero();
+        assertThat(histogram.max()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report small values exactly")
+    void shouldReportSmallValuesExactly() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        // Then
+        assertThat(histogram.snapshot()).isEqualTo(new LatencySnapshot(100, 50, 50, 99, 100, 100));
+    }
+
+    @Test
+    @DisplayName("Should report percentiles within the bucket precision")
+    void shouldReportPercentilesWithinPrecision() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final Random random = new Random(7);
+        final long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000 + (long) (random.nextDouble() * 10_000_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        // When
+        final LatencySnapshot snapshot = histogram.snapshot();
+
+        // Then
+        assertThat((double) snapshot.p50()).isCloseTo(values[49_999], within(values[49_999] / 64.0));
+        assertThat((double) snapshot.p99()).isCloseTo(values[98_999], within(values[98_999] / 64.0));
+        assertThat((double) snapshot.p999()).isCloseTo(values[99_899], within(values[99_899] / 64.0));
+        assertThat(snapshot.max()).isEqualTo(values[values.length - 1]);
+    }
+
+    @Test
+    @DisplayName("Should map every value into a bucket whose range contains it")
+    void shouldMapValuesIntoContainingBuckets() {
+        for (long value : new long[]{0, 1, 127, 128, 129, 255, 256, 1_000_003, Long.MAX_VALUE / 3, Long.MAX_VALUE}) {
+            final int bucket = LatencyHistogram.bucketOf(value);
+            assertThat(LatencyHistogram.highestValueOf(bucket)).isGreaterThanOrEqualTo(value);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.highestValueOf(bucket - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should record negative values as zero")
+    void shouldRecordNegativeValuesAsZero() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        histogram.record(-5);
+
+        // Then
+        assertThat(histogram.snapshot()).isEqualTo(new LatencySnapshot(1, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should not lose values recorded concurrently")
+    void shouldNotLoseConcurrentValues() throws InterruptedException {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(histogram.count()).isEqualTo(40_000);
+        assertThat(histogram.snapshot().count()).isEqualTo(40_000);
+    }
+}
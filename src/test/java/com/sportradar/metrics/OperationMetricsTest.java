@@ -0,0 +1,66 @@
+package com.sportradar.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OperationMetrics Tests")
+class OperationMetricsTest {
+
+    private long nanoTime;
+    private final OperationMetrics metrics = new OperationMetrics(() -> nanoTime);
+
+    @Test
+    @DisplayName("Should report mean and max from running counters")
+    void shouldReportMeanAndMaxFromRunningCounters() {
+        // Given
+        metrics.recordLatency(100);
+
+        // When
+        metrics.recordLatency(300);
+
+        // Then
+        assertThat(metrics.getCalls()).isEqualTo(2);
+        assertThat(metrics.getMeanNanos()).isEqualTo(200);
+        assertThat(metrics.getMaxNanos()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("Should share one percentile snapshot between reads within a second")
+    void shouldSharePercentileSnapshotWithinSecond() {
+        // Given
+        metrics.recordLatency(100);
+        assertThat(metrics.getP50Nanos()).isEqualTo(100);
+
+        // When
+        metrics.recordLatency(120);
+        metrics.recordLatency(120);
+        nanoTime += TimeUnit.MILLISECONDS.toNanos(999);
+
+        // Then
+        assertThat(metrics.getP50Nanos()).isEqualTo(100);
+        assertThat(metrics.getP99Nanos()).isEqualTo(100);
+        assertThat(metrics.getP999Nanos()).isEqualTo(100);
+        assertThat(metrics.getMaxNanos()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("Should take a new percentile snapshot once the shared one is a second old")
+    void shouldRefreshPercentileSnapshotAfterSecond() {
+        // Given
+        metrics.recordLatency(100);
+        assertThat(metrics.getP99Nanos()).isEqualTo(100);
+        metrics.recordLatency(120);
+        metrics.recordLatency(120);
+
+        // When
+        nanoTime += TimeUnit.SECONDS.toNanos(1);
+
+        // Then
+        assertThat(metrics.getP50Nanos()).isEqualTo(120);
+        assertThat(metrics.getP99Nanos()).isEqualTo(120);
+    }
+}
@@ -0,0 +1,228 @@
+package com.sportradar.registry;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.TournamentGame;
+import com.sportradar.exception.GameAlreadyExistsException;
+import com.sportradar.exception.GameValidationException;
+import com.sportradar.exception.TournamentAlreadyExistsException;
+import com.sportradar.exception.TournamentNotFoundException;
+import com.sportradar.repository.ColumnarGameRepository;
+import com.sportradar.service.GameServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ScoreboardRegistry Tests")
+class ScoreboardRegistryTest {
+
+    private static final String MEN = "men";
+    private static final String WOMEN = "women";
+    private static final String HOME_TEAM = "Poland";
+    private static final String AWAY_TEAM = "Argentina";
+    private final Set<String> boardThreads = ConcurrentHashMap.newKeySet();
+    private ScoreboardRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = ScoreboardRegistry.start(2, tournamentId -> new GameServiceImpl(new ColumnarGameRepository()) {
+            @Override
+            public Game startGame(String homeTeam, String awayTeam) {
+                boardThreads.add(tournamentId + "@" + Thread.currentThread().getName());
+                return super.startGame(homeTeam, awayTeam);
+            }
+        });
+        registry.createBoard(MEN);
+        registry.createBoard(WOMEN);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("Should route calls to the board of each tournament independently")
+    void shouldRouteCallsByTournament() throws Exception {
+        // When
+        final Game started = registry.startGame(MEN, HOME_TEAM, AWAY_TEAM).get(5, TimeUnit.SECONDS);
+        registry.startGame(WOMEN, HOME_TEAM, AWAY_TEAM);
+        final Game updated = registry.updateScore(WOMEN, HOME_TEAM, AWAY_TEAM, 2, 1).get(5, TimeUnit.SECONDS);
+        registry.finishGame(MEN, HOME_TEAM, AWAY_TEAM).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(started).isEqualTo(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        assertThat(updated).isEqualTo(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 1));
+        assertThat(registry.getSummary(MEN).get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(registry.getSummary(WOMEN).get(5, TimeUnit.SECONDS)).containsExactly(updated);
+        assertThat(registry.getTournamentIds()).containsExactly(MEN, WOMEN);
+    }
+
+    @Test
+    @DisplayName("Should run every call of a board on the same shard thread")
+    void shouldRunBoardOnOneShardThread() throws Exception {
+        // When
+        final List<CompletableFuture<Game>> starts = new ArrayList<>();
+        for (int game = 0; game < 20; game++) {
+            starts.add(registry.startGame(MEN, "Home " + game, "Away " + game));
+            starts.add(registry.startGame(WOMEN, "Home " + game, "Away " + game));
+        }
+        CompletableFuture.allOf(starts.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(boardThreads).hasSize(2)
+                .allMatch(boardThread -> boardThread.contains("@scoreboard-shard-"));
+    }
+
+    @Test
+    @DisplayName("Should merge board summaries by total score, keeping each board's order for equal totals")
+    void shouldMergeGlobalSummary() throws Exception {
+        // Given
+        registry.startGame(MEN, "Spain", "Brazil");
+        registry.updateScore(MEN, "Spain", "Brazil", 3, 1);
+        registry.startGame(MEN, HOME_TEAM, AWAY_TEAM);
+        registry.updateScore(MEN, HOME_TEAM, AWAY_TEAM, 1, 0);
+        registry.startGame(WOMEN, "Germany", "France");
+        registry.updateScore(WOMEN, "Germany", "France", 2, 2);
+        registry.startGame(WOMEN, "Italy", "Japan");
+        registry.updateScore(WOMEN, "Italy", "Japan", 0, 1);
+
+        // When
+        final List<TournamentGame> summary = registry.getGlobalSummary().get(5, TimeUnit.SECONDS);
+        final List<TournamentGame> top = registry.getGlobalSummaryTop(3).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(summary).containsExactly(
+                new TournamentGame(MEN, Game.createWithScores("Spain", "Brazil", 3, 1)),
+                new TournamentGame(WOMEN, Game.createWithScores("Germany", "France", 2, 2)),
+                new TournamentGame(MEN, Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0)),
+                new TournamentGame(WOMEN, Game.createWithScores("Italy", "Japan", 0, 1))
+        );
+        assertThat(top).containsExactlyElementsOf(summary.subList(0, 3));
+    }
+
+    @Test
+    @DisplayName("Should complete futures exceptionally when the board rejects a call or does not exist")
+    void shouldFailCallsOfRejectedOrUnknownBoards() {
+        // When
+        registry.startGame(MEN, HOME_TEAM, AWAY_TEAM);
+        final CompletableFuture<Game> duplicate = registry.startGame(MEN, HOME_TEAM, AWAY_TEAM);
+        final CompletableFuture<Void> unknown = registry.finishGame("youth", HOME_TEAM, AWAY_TEAM);
+
+        // Then
+        assertThatThrownBy(() -> duplicate.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(GameAlreadyExistsException.class);
+        assertThatThrownBy(() -> unknown.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TournamentNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should create and remove boards, rejecting duplicates and unknown tournaments")
+    void shouldCreateAndRemoveBoards() {
+        // When & Then
+        assertThatThrownBy(() -> registry.createBoard(MEN))
+                .isInstanceOf(TournamentAlreadyExistsException.class)
+                .hasMessageContaining(MEN);
+        assertThatThrownBy(() -> registry.createBoard(" "))
+                .isInstanceOf(GameValidationException.class);
+
+        registry.removeBoard(MEN);
+
+        assertThat(registry.getTournamentIds()).containsExactly(WOMEN);
+        assertThatThrownBy(() -> registry.removeBoard(MEN))
+                .isInstanceOf(TournamentNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should not build a board for a tournament that already has one")
+    void shouldNotBuildDuplicateBoard() throws InterruptedException {
+        // Given
+        final List<String> builtBoards = new ArrayList<>();
+        try (ScoreboardRegistry countingRegistry = ScoreboardRegistry.start(1, tournamentId -> {
+            builtBoards.add(tournamentId);
+            return new GameServiceImpl(new ColumnarGameRepository());
+        })) {
+            countingRegistry.createBoard(MEN);
+
+            // When & Then
+            assertThatThrownBy(() -> countingRegistry.createBoard(MEN))
+                    .isInstanceOf(TournamentAlreadyExistsException.class);
+            assertThat(builtBoards).containsExactly(MEN);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return a failed future instead of throwing for calls after close")
+    void shouldFailCallsAfterClose() throws InterruptedException {
+        // Given
+        registry.close();
+
+        // When
+        final CompletableFuture<Game> started = registry.startGame(MEN, HOME_TEAM, AWAY_TEAM);
+
+        // Then
+        assertThatThrownBy(() -> started.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("Should interrupt a shard that does not finish in time and fail its queued calls")
+    void shouldInterruptStuckShardOnClose() throws Exception {
+        // Given
+        final CountDownLatch blocking = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        final ScoreboardRegistry stuckRegistry = ScoreboardRegistry.start(1, tournamentId -> new GameServiceImpl(new ColumnarGameRepository()) {
+            @Override
+            public Game startGame(String homeTeam, String awayTeam) {
+                blocking.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException("Interrupted while starting " + homeTeam, e);
+                }
+                return super.startGame(homeTeam, awayTeam);
+            }
+        });
+        stuckRegistry.createBoard(MEN);
+        final CompletableFuture<Game> stuck = stuckRegistry.startGame(MEN, HOME_TEAM, AWAY_TEAM);
+        final CompletableFuture<List<Game>> queued = stuckRegistry.getSummary(MEN);
+        blocking.await();
+
+        // When
+        stuckRegistry.close(50, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertThatThrownBy(() -> stuck.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a negative global summary limit and a non-positive shard count")
+    void shouldRejectInvalidArguments() {
+        // When & Then
+        assertThatThrownBy(() -> registry.getGlobalSummaryTop(-1))
+                .isInstanceOf(GameValidationException.class);
+        assertThatThrownBy(() -> ScoreboardRegistry.start(0, tournamentId -> null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
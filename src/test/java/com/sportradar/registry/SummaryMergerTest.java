@@ -0,0 +1,63 @@
+package com.sportradar.registry;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.TournamentGame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SummaryMerger Tests")
+class SummaryMergerTest {
+
+    @Test
+    @DisplayName("Should merge ordered summaries by total score and then board order")
+    void shouldMergeOrderedSummaries() {
+        // Given
+        final List<Game> first = List.of(Game.createWithScores("A", "B", 4, 0), Game.createWithScores("C", "D", 1, 1));
+        final List<Game> second = List.of();
+        final List<Game> third = List.of(Game.createWithScores("E", "F", 2, 0), Game.createWithScores("G", "H", 0, 0));
+
+        // When
+        final List<TournamentGame> merged = SummaryMerger.merge(List.of("a", "b", "c"), List.of(first, second, third), 10);
+
+        // Then
+        assertThat(merged).containsExactly(
+                new TournamentGame("a", first.get(0)),
+                new TournamentGame("a", first.get(1)),
+                new TournamentGame("c", third.get(0)),
+                new TournamentGame("c", third.get(1))
+        );
+    }
+
+    @Test
+    @DisplayName("Should stop merging at the limit")
+    void shouldStopAtLimit() {
+        // Given
+        final List<Game> first = List.of(Game.createWithScores("A", "B", 1, 0), Game.createWithScores("C", "D", 0, 0));
+        final List<Game> second = List.of(Game.createWithScores("E", "F", 3, 0));
+
+        // When & Then
+        assertThat(SummaryMerger.merge(List.of("a", "b"), List.of(first, second), 2))
+                .containsExactly(new TournamentGame("b", second.get(0)), new TournamentGame("a", first.get(0)));
+        assertThat(SummaryMerger.merge(List.of(), List.of(), 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not be instantiable")
+    void shouldNotBeInstantiable() throws NoSuchMethodException {
+        // Given
+        final Constructor<SummaryMerger> constructor = SummaryMerger.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        // When & Then
+        assertThatThrownBy(constructor::newInstance)
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+    }
+}
@@ -0,0 +1,165 @@
+package com.sportradar.repository;
+
+import com.sportradar.domain.Game;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ColumnarGameRepository Tests")
+class ColumnarGameRepositoryTest extends KeyedGameRepositoryContractTest {
+
+    @Override
+    protected GameRepository createRepository() {
+        return new ColumnarGameRepository();
+    }
+
+    @Test
+    @DisplayName("Should replace game, keep first registered spelling and move it to the end when the same teams are saved again")
+    void shouldReplaceGameWhenSameTeamsSavedAgain() {
+        // Given
+        final Game game1 = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game game2 = Game.createNew("Spain", "Brazil");
+        final Game updatedGame1 = Game.createWithScores("poland", "ARGENTINA", 1, 0);
+        repository.save(game1);
+        repository.save(game2);
+
+        // When
+        repository.save(updatedGame1);
+
+        // Then
+        final Game expectedGame1 = Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0);
+        assertThat(repository.findAll()).containsExactly(game2, expectedGame1);
+        assertThat(repository.findByTeams(HOME_TEAM, AWAY_TEAM)).contains(expectedGame1);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the cached order until a write changes it")
+    void shouldKeepCachedOrderInSyncWithWrites() {
+        // Given
+        final Game mexicoCanada = Game.createWithScores("Mexico", "Canada", 0, 5);
+        final Game spainBrazil = Game.createWithScores("Spain", "Brazil", 1, 1);
+        repository.save(mexicoCanada);
+        repository.save(spainBrazil);
+        final List<Game> summary = repository.findAllByTotalScoreAndReverseOrder();
+        final List<Game> games = repository.findAll();
+
+        // When
+        final List<Game> cachedPage = repository.findAllByTotalScoreAndReverseOrder(1, 1);
+        repository.updateScore("Spain", "Brazil", 3, 3);
+        final List<Game> gamesAfterUpdate = repository.findAll();
+        final List<Game> pageAfterUpdate = repository.findAllByTotalScoreAndReverseOrder(0, 1);
+        repository.saveIfAbsent(Game.createNew("Germany", "France"));
+
+        // Then
+        assertThat(summary).containsExactly(mexicoCanada, spainBrazil);
+        assertThat(games).containsExactly(mexicoCanada, spainBrazil);
+        assertThat(cachedPage).containsExactly(spainBrazil);
+        assertThat(gamesAfterUpdate).containsExactly(mexicoCanada, Game.createWithScores("Spain", "Brazil", 3, 3));
+        assertThat(pageAfterUpdate).containsExactly(Game.createWithScores("Spain", "Brazil", 3, 3));
+        assertThat(repository.findAll()).containsExactly(mexicoCanada, Game.createWithScores("Spain", "Brazil", 3, 3),
+                Game.createNew("Germany", "France"));
+        assertThat(repository.findAllByTotalScoreAndReverseOrder()).containsExactly(
+                Game.createWithScores("Spain", "Brazil", 3, 3), mexicoCanada, Game.createNew("Germany", "France"));
+    }
+
+    @Test
+    @DisplayName("Should intern team names into the shared team registry")
+    void shouldInternTeamNamesIntoSharedRegistry() {
+        // Given
+        final TeamRegistry teamRegistry = new TeamRegistry();
+        final GameRepository sharedRegistryRepository = new ColumnarGameRepository(teamRegistry, 4);
+
+        // When
+        sharedRegistryRepository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        sharedRegistryRepository.findByTeams("Spain", "Brazil");
+
+        // Then
+        assertThat(teamRegistry.size()).isEqualTo(2);
+        assertThat(teamRegistry.idOf("poland")).isNotEqualTo(TeamRegistry.UNKNOWN_ID);
+    }
+
+    @Test
+    @DisplayName("Should reuse freed slots and grow beyond the initial capacity")
+    void shouldReuseFreedSlotsAndGrow() {
+        // Given
+        final GameRepository smallRepository = new ColumnarGameRepository(new TeamRegistry(), 0);
+        for (int fixture = 0; fixture < 100; fixture++) {
+            smallRepository.save(Game.createNew("Home " + fixture, "Away " + fixture));
+        }
+        for (int fixture = 0; fixture < 100; fixture += 2) {
+            smallRepository.deleteByTeams("Home " + fixture, "Away " + fixture);
+        }
+
+        // When
+        for (int fixture = 100; fixture < 200; fixture++) {
+            smallRepository.save(Game.createWithScores("Home " + fixture, "Away " + fixture, fixture % 7, 0));
+        }
+
+        // Then
+        final List<Game> allGames = smallRepository.findAll();
+        assertThat(allGames).hasSize(150);
+        assertThat(allGames.get(0)).isEqualTo(Game.createNew("Home 1", "Away 1"));
+        assertThat(allGames.get(149)).isEqualTo(Game.createWithScores("Home 199", "Away 199", 3, 0));
+        assertThat(smallRepository.findAllByTotalScoreAndReverseOrder(0, 3)).containsExactly(
+                Game.createWithScores("Home 195", "Away 195", 6, 0),
+                Game.createWithScores("Home 188", "Away 188", 6, 0),
+                Game.createWithScores("Home 181", "Away 181", 6, 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Should order a large board exactly like the in-memory repository")
+    void shouldOrderLargeBoardLikeInMemoryRepository() {
+        // Given
+        final GameRepository reference = new InMemoryGameRepository(new ArrayList<>());
+        final Random random = new Random(42);
+        for (int fixture = 0; fixture < 2_000; fixture++) {
+            final Game game = Game.createWithScores("Home " + fixture, "Away " + fixture, random.nextInt(5), random.nextInt(5));
+            repository.save(game);
+            reference.save(game);
+        }
+
+        // When & Then
+        assertThat(repository.findAllByTotalScoreAndReverseOrder())
+                .isEqualTo(reference.findAllByTotalScoreAndReverseOrder());
+        assertThat(repository.findAllByTotalScoreAndReverseOrder(100, 50))
+                .isEqualTo(reference.findAllByTotalScoreAndReverseOrder(100, 50));
+        assertThat(repository.findAll()).isEqualTo(reference.findAll());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when deleting a game whose away score differs from the stored one")
+    void shouldDoNothingWhenDeletingGameWithDifferentAwayScore() {
+        // Given
+        repository.save(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 1));
+
+        // When
+        repository.delete(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 0));
+
+        // Then
+        assertThat(repository.findAll()).containsExactly(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 1));
+    }
+
+    @Test
+    @DisplayName("Should keep games by team when the arrays grow")
+    void shouldKeepGamesByTeamWhenGrowing() {
+        // Given
+        final GameRepository smallRepository = new ColumnarGameRepository(new TeamRegistry(), 1);
+        final Game firstGame = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game secondGame = Game.createNew("Spain", HOME_TEAM);
+        final Game thirdGame = Game.createNew(HOME_TEAM, "Brazil");
+
+        // When
+        smallRepository.save(firstGame);
+        smallRepository.save(secondGame);
+        smallRepository.save(thirdGame);
+
+        // Then
+        assertThat(smallRepository.findGamesByTeam(HOME_TEAM)).containsExactly(firstGame, secondGame, thirdGame);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.sportradar.repository;
+
+import com.sportradar.domain.Game;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrentGameRepository Tests")
+class ConcurrentGameRepositoryTest extends KeyedGameRepositoryContractTest {
+
+    @Override
+    protected GameRepository createRepository() {
+        return new ConcurrentGameRepository();
+    }
+
+    @Test
+    @DisplayName("Should replace game and move it to the end when the same teams are saved again")
+    void shouldReplaceGameWhenSameTeamsSavedAgain() {
+        // Given
+        final Game game1 = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game game2 = Game.createNew("Spain", "Brazil");
+        final Game updatedGame1 = Game.createWithScores("poland", "ARGENTINA", 1, 0);
+        repository.save(game1);
+        repository.save(game2);
+
+        // When
+        repository.save(updatedGame1);
+
+        // Then
+        assertThat(repository.findAll()).containsExactly(game2, updatedGame1);
+        assertThat(repository.findByTeams(HOME_TEAM, AWAY_TEAM)).containsSame(updatedGame1);
+    }
+
+    @Test
+    @DisplayName("Should never miss a live game from a summary read while its score is being updated")
+    void shouldNeverMissGameFromSummaryDuringUpdates() throws Exception {
+        // Given
+        final int games = 8;
+        for (int game = 0; game < games; game++) {
+            repository.save(Game.createNew("Home " + game, "Away " + game));
+        }
+        final Thread writer = Thread.ofPlatform().start(() -> {
+            for (int update = 0; update < 20_000; update++) {
+                repository.updateScore("Home " + update % games, "Away " + update % games, update % 7, 0);
+            }
+        });
+        final List<Integer> incompleteSummarySizes = new ArrayList<>();
+
+        // When
+        while (writer.isAlive()) {
+            final int size = repository.findAllByTotalScoreAndReverseOrder().size();
+            if (size != games) {
+                incompleteSummarySizes.add(size);
+            }
+        }
+        writer.join();
+
+        // Then
+        assertThat(incompleteSummarySizes).isEmpty();
+        assertThat(repository.findAllByTotalScoreAndReverseOrder()).hasSize(games);
+    }
+}
@@ -0,0 +1,537 @@
+package com.sportradar.repository;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.domain.VersionedUpdateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Behaviour every {@link GameRepository} shares. The test of each implementation extends this class, creates the
+ * repository in {@link #createRepository()} and adds only the tests specific to that implementation.
+ */
+abstract class GameRepositoryContractTest {
+
+    protected static final String HOME_TEAM = "Poland";
+    protected static final String AWAY_TEAM = "Argentina";
+    protected GameRepository repository;
+
+    protected abstract GameRepository createRepository();
+
+    @BeforeEach
+    void setUpRepository() {
+        repository = createRepository();
+    }
+
+    @Test
+    @DisplayName("Should save game successfully")
+    void shouldSaveGame() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+
+        // When
+        final Game savedGame = repository.save(game);
+
+        // Then
+        assertThat(savedGame).isSameAs(game);
+        assertThat(repository.findAll()).containsExactly(game);
+    }
+
+    @Test
+    @DisplayName("Should find game by teams when game exists")
+    void shouldFindGameByTeamsWhenExists() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        repository.save(game);
+
+        // When
+        final Optional<Game> foundGame = repository.findByTeams(HOME_TEAM, AWAY_TEAM);
+
+        // Then
+        assertThat(foundGame).contains(game);
+    }
+
+    @Test
+    @DisplayName("Should not find game when home and away teams are swapped")
+    void shouldNotFindGameWhenTeamsSwapped() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // When
+        final Optional<Game> foundGame = repository.findByTeams(AWAY_TEAM, HOME_TEAM);
+
+        // Then
+        assertThat(foundGame).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return empty Optional when game not found by teams")
+    void shouldReturnEmptyWhenGameNotFound() {
+        // Given
+        repository.save(Game.createNew("Mexico", "Canada"));
+
+        // When
+        final Optional<Game> foundGame = repository.findByTeams("Spain", "Brazil");
+
+        // Then
+        assertThat(foundGame).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should delete correct game when multiple games exist")
+    void shouldDeleteCorrectGameAmongMultiple() {
+        // Given
+        final Game game1 = Game.createNew("Mexico", "Canada");
+        final Game game2 = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game game3 = Game.createNew("Spain", "Brazil");
+        repository.save(game1);
+        repository.save(game2);
+        repository.save(game3);
+
+        // When
+        final boolean deleted = repository.delete(game2);
+
+        // Then
+        assertThat(deleted).isTrue();
+        assertThat(repository.findAll()).containsExactly(game1, game3);
+        assertThat(repository.findByTeams(HOME_TEAM, AWAY_TEAM)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should do nothing when deleting a game that differs from the stored one")
+    void shouldDoNothingWhenDeletingDifferentGameForSameTeams() {
+        // Given
+        final Game storedGame = Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 1);
+        repository.save(storedGame);
+
+        // When
+        final boolean deleted = repository.delete(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // Then
+        assertThat(deleted).isFalse();
+        assertThat(repository.findAll()).containsExactly(storedGame);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when deleting non-existent game")
+    void shouldDoNothingWhenDeletingNonExistentGame() {
+        // Given
+        final Game game1 = Game.createNew("Mexico", "Canada");
+        repository.save(game1);
+
+        // When
+        final boolean deleted = repository.delete(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // Then
+        assertThat(deleted).isFalse();
+        assertThat(repository.findAll()).containsExactly(game1);
+    }
+
+    @Test
+    @DisplayName("Should maintain insertion order after multiple operations")
+    void shouldMaintainInsertionOrderAfterOperations() {
+        // Given
+        final Game game1 = Game.createNew("Mexico", "Canada");
+        final Game game2 = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game game3 = Game.createNew("Spain", "Brazil");
+        final Game game4 = Game.createNew("Germany", "France");
+
+        repository.save(game1);
+        repository.save(game2);
+        repository.save(game3);
+        repository.delete(game2);
+        repository.save(game4);
+
+        // When
+        final List<Game> allGames = repository.findAll();
+
+        // Then
+        assertThat(allGames).containsExactly(game1, game3, game4);
+    }
+
+    @Test
+    @DisplayName("Should return empty list when no games exist")
+    void shouldReturnEmptyListWhenNoGames() {
+        // When
+        final List<Game> allGames = repository.findAll();
+
+        // Then
+        assertThat(allGames).isNotNull().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return games sorted by total score descending and then by most recently added")
+    void shouldReturnGamesSortedByTotalScoreAndReverseOrder() {
+        // Given
+        final Game mexicoCanada = Game.createWithScores("Mexico", "Canada", 0, 5);
+        final Game spainBrazil = Game.createWithScores("Spain", "Brazil", 10, 2);
+        final Game germanyFrance = Game.createWithScores("Germany", "France", 2, 2);
+        final Game uruguayItaly = Game.createWithScores("Uruguay", "Italy", 6, 6);
+        final Game argentinaAustralia = Game.createWithScores("Argentina", "Australia", 3, 1);
+
+        repository.save(mexicoCanada);
+        repository.save(spainBrazil);
+        repository.save(germanyFrance);
+        repository.save(uruguayItaly);
+        repository.save(argentinaAustralia);
+
+        // When
+        final List<Game> summary = repository.findAllByTotalScoreAndReverseOrder();
+
+        // Then
+        assertThat(summary).containsExactly(
+                uruguayItaly,
+                spainBrazil,
+                mexicoCanada,
+                argentinaAustralia,
+                germanyFrance
+        );
+    }
+
+    @Test
+    @DisplayName("Should return empty summary when no games exist")
+    void shouldReturnEmptySummaryWhenNoGames() {
+        // When
+        final List<Game> summary = repository.findAllByTotalScoreAndReverseOrder();
+
+        // Then
+        assertThat(summary).isNotNull().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should save game when absent and return empty Optional")
+    void shouldSaveIfAbsentWhenGameAbsent() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+
+        // When
+        final Optional<Game> existingGame = repository.saveIfAbsent(game);
+
+        // Then
+        assertThat(existingGame).isEmpty();
+        assertThat(repository.findAll()).containsExactly(game);
+    }
+
+    @Test
+    @DisplayName("Should not save game when present and return existing game")
+    void shouldNotSaveIfAbsentWhenGamePresent() {
+        // Given
+        final Game storedGame = Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 1);
+        repository.save(storedGame);
+
+        // When
+        final Optional<Game> existingGame = repository.saveIfAbsent(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // Then
+        assertThat(existingGame).contains(storedGame);
+        assertThat(repository.findAll()).containsExactly(storedGame);
+    }
+
+    @Test
+    @DisplayName("Should update score of stored game in place when present")
+    void shouldUpdateScoreWhenPresent() {
+        // Given
+        final Game game1 = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game game2 = Game.createNew("Spain", "Brazil");
+        repository.save(game1);
+        repository.save(game2);
+
+        // When
+        final Optional<Game> updatedGame = repository.updateScore(HOME_TEAM, AWAY_TEAM, 2, 0);
+
+        // Then
+        final Game expectedGame = Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 0);
+        assertThat(updatedGame).contains(expectedGame);
+        assertThat(repository.findAll()).containsExactly(expectedGame, game2);
+    }
+
+    @Test
+    @DisplayName("Should not update score when game is absent")
+    void shouldNotUpdateScoreWhenAbsent() {
+        // When
+        final Optional<Game> updatedGame = repository.updateScore(HOME_TEAM, AWAY_TEAM, 2, 0);
+
+        // Then
+        assertThat(updatedGame).isEmpty();
+        assertThat(repository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep original start order as summary tie-break after score updates")
+    void shouldKeepStartOrderAsTieBreakAfterUpdates() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        repository.save(Game.createNew("Spain", "Brazil"));
+
+        // When
+        repository.updateScore("Spain", "Brazil", 1, 1);
+        repository.updateScore(HOME_TEAM, AWAY_TEAM, 2, 0);
+
+        // Then
+        assertThat(repository.findAllByTotalScoreAndReverseOrder()).containsExactly(
+                Game.createWithScores("Spain", "Brazil", 1, 1),
+                Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Should delete game by teams and return it when present")
+    void shouldDeleteByTeamsWhenPresent() {
+        // Given
+        final Game game1 = Game.createNew("Mexico", "Canada");
+        final Game game2 = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        repository.save(game1);
+        repository.save(game2);
+
+        // When
+        final Optional<Game> deletedGame = repository.deleteByTeams(HOME_TEAM, AWAY_TEAM);
+
+        // Then
+        assertThat(deletedGame).contains(game2);
+        assertThat(repository.findAll()).containsExactly(game1);
+    }
+
+    @Test
+    @DisplayName("Should return empty Optional when deleting by teams and game is absent")
+    void shouldReturnEmptyWhenDeleteByTeamsAndGameAbsent() {
+        // Given
+        final Game game = Game.createNew("Mexico", "Canada");
+        repository.save(game);
+
+        // When
+        final Optional<Game> deletedGame = repository.deleteByTeams(HOME_TEAM, AWAY_TEAM);
+
+        // Then
+        assertThat(deletedGame).isEmpty();
+        assertThat(repository.findAll()).containsExactly(game);
+    }
+
+    @Test
+    @DisplayName("Should update scores in batch and report absent games as empty")
+    void shouldUpdateScoresInBatch() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        repository.save(Game.createNew("Spain", "Brazil"));
+
+        // When
+        final List<Optional<Game>> updatedGames = repository.updateScores(List.of(
+                new ScoreUpdate("Spain", "Brazil", 1, 0),
+                new ScoreUpdate("Mexico", "Canada", 1, 1),
+                new ScoreUpdate(HOME_TEAM, AWAY_TEAM, 3, 0)
+        ));
+
+        // Then
+        assertThat(updatedGames).containsExactly(
+                Optional.of(Game.createWithScores("Spain", "Brazil", 1, 0)),
+                Optional.empty(),
+                Optional.of(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 3, 0))
+        );
+        assertThat(repository.findAllByTotalScoreAndReverseOrder()).containsExactly(
+                Game.createWithScores(HOME_TEAM, AWAY_TEAM, 3, 0),
+                Game.createWithScores("Spain", "Brazil", 1, 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Should return requested page of the summary ordering")
+    void shouldReturnSummaryPage() {
+        // Given
+        final Game mexicoCanada = Game.createWithScores("Mexico", "Canada", 0, 5);
+        final Game spainBrazil = Game.createWithScores("Spain", "Brazil", 10, 2);
+        final Game germanyFrance = Game.createWithScores("Germany", "France", 2, 2);
+        final Game uruguayItaly = Game.createWithScores("Uruguay", "Italy", 6, 6);
+        final Game argentinaAustralia = Game.createWithScores("Argentina", "Australia", 3, 1);
+        repository.save(mexicoCanada);
+        repository.save(spainBrazil);
+        repository.save(germanyFrance);
+        repository.save(uruguayItaly);
+        repository.save(argentinaAustralia);
+
+        // When & Then
+        assertThat(repository.findAllByTotalScoreAndReverseOrder(0, 2)).containsExactly(uruguayItaly, spainBrazil);
+        assertThat(repository.findAllByTotalScoreAndReverseOrder(1, 3))
+                .containsExactly(spainBrazil, mexicoCanada, argentinaAustralia);
+        assertThat(repository.findAllByTotalScoreAndReverseOrder(3, Integer.MAX_VALUE))
+                .containsExactly(argentinaAustralia, germanyFrance);
+        assertThat(repository.findAllByTotalScoreAndReverseOrder(0, 5))
+                .isEqualTo(repository.findAllByTotalScoreAndReverseOrder());
+    }
+
+    @Test
+    @DisplayName("Should return empty page when offset is past the end or limit is zero")
+    void shouldReturnEmptyPageWhenOutOfRange() {
+        // Given
+        repository.save(Game.createWithScores("Mexico", "Canada", 0, 5));
+        repository.save(Game.createWithScores("Spain", "Brazil", 10, 2));
+
+        // When & Then
+        assertThat(repository.findAllByTotalScoreAndReverseOrder(2, 10)).isEmpty();
+        assertThat(repository.findAllByTotalScoreAndReverseOrder(0, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should save game when neither team is playing")
+    void shouldSaveIfTeamsFreeWhenTeamsFree() {
+        // Given
+        final Game otherGame = Game.createNew("Brazil", "Germany");
+        repository.save(otherGame);
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+
+        // When
+        final Optional<Game> playingGame = repository.saveIfTeamsFree(game);
+
+        // Then
+        assertThat(playingGame).isEmpty();
+        assertThat(repository.findAll()).containsExactly(otherGame, game);
+    }
+
+    @Test
+    @DisplayName("Should not save game and return the game of a team that is already playing")
+    void shouldNotSaveIfTeamsFreeWhenTeamPlaying() {
+        // Given
+        final Game homeTeamGame = Game.createWithScores("Brazil", HOME_TEAM, 1, 0);
+        final Game awayTeamGame = Game.createWithScores(AWAY_TEAM, "Germany", 0, 2);
+        repository.save(homeTeamGame);
+        repository.save(awayTeamGame);
+
+        // When
+        final Optional<Game> homeTeamPlaying = repository.saveIfTeamsFree(Game.createNew(HOME_TEAM, "Spain"));
+        final Optional<Game> awayTeamPlaying = repository.saveIfTeamsFree(Game.createNew("Spain", AWAY_TEAM));
+
+        // Then
+        assertThat(homeTeamPlaying).contains(homeTeamGame);
+        assertThat(awayTeamPlaying).contains(awayTeamGame);
+        assertThat(repository.findAll()).containsExactly(homeTeamGame, awayTeamGame);
+    }
+
+    @Test
+    @DisplayName("Should find games of a team as home or away team in start order")
+    void shouldFindGamesByTeam() {
+        // Given
+        final Game firstGame = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game otherGame = Game.createNew("Brazil", "Germany");
+        final Game secondGame = Game.createNew("Spain", HOME_TEAM);
+        final Game thirdGame = Game.createNew(HOME_TEAM, "Brazil");
+        repository.save(firstGame);
+        repository.save(otherGame);
+        repository.save(secondGame);
+        repository.save(thirdGame);
+
+        // When & Then
+        assertThat(repository.findGamesByTeam(HOME_TEAM)).containsExactly(firstGame, secondGame, thirdGame);
+        assertThat(repository.findGamesByTeam("Brazil")).containsExactly(otherGame, thirdGame);
+        assertThat(repository.findGamesByTeam("France")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep games by team in sync after updates and finishes")
+    void shouldKeepGamesByTeamInSyncAfterUpdateAndDelete() {
+        // Given
+        final Game firstGame = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game secondGame = Game.createNew("Spain", HOME_TEAM);
+        final Game thirdGame = Game.createNew(HOME_TEAM, "Brazil");
+        repository.save(firstGame);
+        repository.save(secondGame);
+        repository.save(thirdGame);
+
+        // When
+        repository.updateScore("Spain", HOME_TEAM, 1, 2);
+        repository.deleteByTeams(HOME_TEAM, AWAY_TEAM);
+        repository.delete(thirdGame);
+
+        // Then
+        assertThat(repository.findGamesByTeam(HOME_TEAM)).containsExactly(Game.createWithScores("Spain", HOME_TEAM, 1, 2));
+        assertThat(repository.findGamesByTeam(AWAY_TEAM)).isEmpty();
+        assertThat(repository.findGamesByTeam("Brazil")).isEmpty();
+        assertThat(repository.saveIfTeamsFree(Game.createNew(AWAY_TEAM, "Brazil"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply only score updates with a newer version")
+    void shouldUpdateScoreIfNewerVersion() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        final Game expectedGame = Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 1);
+
+        // When
+        final Optional<VersionedUpdateResult> applied = repository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 2, 1, 5);
+        final Optional<VersionedUpdateResult> outOfOrder = repository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 3);
+        final Optional<VersionedUpdateResult> redelivered = repository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 1, 5);
+        final Optional<VersionedUpdateResult> unknown = repository.updateScoreIfNewer("Spain", "Brazil", 1, 1, 1);
+
+        // Then
+        assertThat(applied).contains(VersionedUpdateResult.applied(expectedGame));
+        assertThat(outOfOrder).contains(VersionedUpdateResult.stale(expectedGame));
+        assertThat(redelivered).contains(VersionedUpdateResult.stale(expectedGame));
+        assertThat(unknown).isEmpty();
+        assertThat(repository.findAllByTotalScoreAndReverseOrder()).containsExactly(expectedGame);
+    }
+
+    @Test
+    @DisplayName("Should keep the version across plain score updates and reset it for a new game")
+    void shouldKeepVersionAcrossPlainUpdatesAndResetOnNewGame() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        repository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 4);
+        repository.updateScore(HOME_TEAM, AWAY_TEAM, 2, 0);
+
+        // When
+        final Optional<VersionedUpdateResult> stale = repository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 5, 5, 4);
+        repository.deleteByTeams(HOME_TEAM, AWAY_TEAM);
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        final Optional<VersionedUpdateResult> restarted = repository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 1);
+
+        // Then
+        assertThat(stale).contains(VersionedUpdateResult.stale(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 0)));
+        assertThat(restarted).contains(VersionedUpdateResult.applied(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0)));
+    }
+
+    @Test
+    @DisplayName("Should keep previously returned summary unchanged after subsequent writes")
+    void shouldKeepPreviousSummaryUnchangedAfterWrites() {
+        // Given
+        final Game mexicoCanada = Game.createWithScores("Mexico", "Canada", 0, 5);
+        repository.save(mexicoCanada);
+        final List<Game> summaryBeforeWrites = repository.findAllByTotalScoreAndReverseOrder();
+
+        // When
+        repository.save(Game.createWithScores("Spain", "Brazil", 3, 3));
+        repository.delete(mexicoCanada);
+
+        // Then
+        assertThat(summaryBeforeWrites).containsExactly(mexicoCanada);
+        assertThat(repository.findAllByTotalScoreAndReverseOrder()).hasSize(1).doesNotContain(mexicoCanada);
+    }
+
+    @Test
+    @DisplayName("Should keep start order when first, middle and last games are removed")
+    void shouldKeepStartOrderWhenGamesRemovedFromAnyPosition() {
+        // Given
+        final Game game1 = Game.createNew("Mexico", "Canada");
+        final Game game2 = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game game3 = Game.createNew("Spain", "Brazil");
+        final Game game4 = Game.createNew("Germany", "France");
+        final Game game5 = Game.createNew("Uruguay", "Italy");
+        repository.save(game1);
+        repository.save(game2);
+        repository.save(game3);
+        repository.save(game4);
+        repository.save(game5);
+
+        // When
+        repository.deleteByTeams("Mexico", "Canada");
+        repository.deleteByTeams("Spain", "Brazil");
+        repository.deleteByTeams("Uruguay", "Italy");
+        final Game game6 = Game.createNew("Chile", "Peru");
+        repository.save(game6);
+
+        // Then
+        assertThat(repository.findAll()).containsExactly(game2, game4, game6);
+    }
+}
@@ -1,7 +1,6 @@
 package com.sportradar.repository;
 
 import com.sportradar.domain.Game;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -10,34 +9,17 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("InMemoryGameRepository Tests")
-class InMemoryGameRepositoryTest {
+class InMemoryGameRepositoryTest extends GameRepositoryContractTest {
 
-    private static final String HOME_TEAM = "Poland";
-    private static final String AWAY_TEAM = "Argentina";
-    private GameRepository repository;
     private List<Game> gameStorage;
 
-    @BeforeEach
-    void setUp() {
+    @Override
+    protected GameRepository createRepository() {
         gameStorage = new ArrayList<>();
-        repository = new InMemoryGameRepository(gameStorage);
-    }
-
-    @Test
-    @DisplayName("Should save game successfully")
-    void shouldSaveGame() {
-        // Given
-        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
-
-        // When
-        final Game savedGame = repository.save(game);
-
-        // Then
-        assertThat(savedGame).isEqualTo(game);
-        assertThat(gameStorage).hasSize(1);
-        assertThat(gameStorage.get(0)).isSameAs(game);
+        return new InMemoryGameRepository(gameStorage);
     }
 
     @Test
@@ -57,36 +39,6 @@ class InMemoryGameRepositoryTest {
         assertThat(gameStorage).containsExactly(game1, game2, game3);
     }
 
-    @Test
-    @DisplayName("Should find game by teams when game exists")
-    void shouldFindGameByTeamsWhenExists() {
-        // Given
-        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
-        repository.save(game);
-
-        // When
-        final Optional<Game> foundGame = repository.findByTeams(HOME_TEAM, AWAY_TEAM);
-
-        // Then
-        assertThat(foundGame).containsSame(game);
-        assertThat(foundGame.get().homeTeam()).isEqualTo(HOME_TEAM);
-        assertThat(foundGame.get().awayTeam()).isEqualTo(AWAY_TEAM);
-    }
-
-    @Test
-    @DisplayName("Should return empty Optional when game not found by teams")
-    void shouldReturnEmptyWhenGameNotFound() {
-        // Given
-        final Game game = Game.createNew("Mexico", "Canada");
-        repository.save(game);
-
-        // When
-        final Optional<Game> foundGame = repository.findByTeams("Spain", "Brazil");
-
-        // Then
-        assertThat(foundGame).isEmpty();
-    }
-
     @Test
     @DisplayName("Should find correct game when multiple games exist")
     void shouldFindCorrectGameAmongMultiple() {
@@ -132,41 +84,6 @@ class InMemoryGameRepositoryTest {
         assertThat(gameStorage).isEmpty();
     }
 
-    @Test
-    @DisplayName("Should delete correct game when multiple games exist")
-    void shouldDeleteCorrectGameAmongMultiple() {
-        // Given
-        final Game game1 = Game.createNew("Mexico", "Canada");
-        final Game game2 = Game.createNew(HOME_TEAM, AWAY_TEAM);
-        final Game game3 = Game.createNew("Spain", "Brazil");
-
-        repository.save(game1);
-        repository.save(game2);
-        repository.save(game3);
-        assertThat(gameStorage).hasSize(3);
-
-        // When
-        repository.delete(game2);
-
-        // Then
-        assertThat(gameStorage).containsExactly(game1, game3);
-    }
-
-    @Test
-    @DisplayName("Should do nothing when deleting non-existent game")
-    void shouldDoNothingWhenDeletingNonExistentGame() {
-        // Given
-        final Game game1 = Game.createNew("Mexico", "Canada");
-        final Game game2 = Game.createNew(HOME_TEAM, AWAY_TEAM);
-        repository.save(game1);
-
-        // When
-        repository.delete(game2);
-
-        // Then
-        assertThat(gameStorage).containsExactly(game1);
-    }
-
     @Test
     @DisplayName("Should return all games in insertion order")
     void shouldReturnAllGamesInInsertionOrder() {
@@ -186,16 +103,6 @@ class InMemoryGameRepositoryTest {
         assertThat(allGames).containsExactly(game1, game2, game3);
     }
 
-    @Test
-    @DisplayName("Should return empty list when no games exist")
-    void shouldReturnEmptyListWhenNoGames() {
-        // When
-        final List<Game> allGames = repository.findAll();
-
-        // Then
-        assertThat(allGames).isNotNull().isEmpty();
-    }
-
     @Test
     @DisplayName("Should return list containing single game")
     void shouldReturnSingleGame() {
@@ -212,25 +119,16 @@ class InMemoryGameRepositoryTest {
     }
 
     @Test
-    @DisplayName("Should maintain insertion order after multiple operations")
-    void shouldMaintainInsertionOrderAfterOperations() {
+    @DisplayName("Should return unmodifiable view of games from findAll")
+    void shouldReturnUnmodifiableViewFromFindAll() {
         // Given
-        final Game game1 = Game.createNew("Mexico", "Canada");
-        final Game game2 = Game.createNew(HOME_TEAM, AWAY_TEAM);
-        final Game game3 = Game.createNew("Spain", "Brazil");
-        final Game game4 = Game.createNew("Germany", "France");
-
-        repository.save(game1);
-        repository.save(game2);
-        repository.save(game3);
-        repository.delete(game2);
-        repository.save(game4);
-
-        // When
-        final List<Game> allGames = repository.findAll();
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        repository.save(game);
 
-        // Then
-        assertThat(allGames).containsExactly(game1, game3, game4);
+        // When & Then
+        assertThatThrownBy(() -> repository.findAll().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(gameStorage).containsExactly(game);
     }
 
     @Test
@@ -294,4 +192,35 @@ class InMemoryGameRepositoryTest {
         // Then
         assertThat(foundGame).isNotPresent();
     }
+
+    @Test
+    @DisplayName("Should not reorder backing storage when building summary")
+    void shouldNotReorderStorageWhenBuildingSummary() {
+        // Given
+        final Game game1 = Game.createWithScores("Mexico", "Canada", 0, 1);
+        final Game game2 = Game.createWithScores("Spain", "Brazil", 3, 2);
+        repository.save(game1);
+        repository.save(game2);
+
+        // When
+        repository.findAllByTotalScoreAndReverseOrder();
+
+        // Then
+        assertThat(gameStorage).containsExactly(game1, game2);
+    }
+
+    @Test
+    @DisplayName("Should not update score when only home team matches")
+    void shouldNotUpdateScoreWhenOnlyHomeTeamMatches() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        repository.save(game);
+
+        // When
+        final Optional<Game> updatedGame = repository.updateScore(HOME_TEAM, "not present away team", 2, 0);
+
+        // Then
+        assertThat(updatedGame).isEmpty();
+        assertThat(gameStorage).containsExactly(game);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.sportradar.repository;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.ScoreUpdate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IndexedGameRepository Tests")
+class IndexedGameRepositoryTest extends KeyedGameRepositoryContractTest {
+
+    @Override
+    protected GameRepository createRepository() {
+        return new IndexedGameRepository();
+    }
+
+    @Test
+    @DisplayName("Should replace game and move it to the end when the same teams are saved again")
+    void shouldReplaceGameWhenSameTeamsSavedAgain() {
+        // Given
+        final Game game1 = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game game2 = Game.createNew("Spain", "Brazil");
+        final Game updatedGame1 = Game.createWithScores("poland", "ARGENTINA", 1, 0);
+        repository.save(game1);
+        repository.save(game2);
+
+        // When
+        repository.save(updatedGame1);
+
+        // Then
+        assertThat(repository.findAll()).containsExactly(game2, updatedGame1);
+        assertThat(repository.findByTeams(HOME_TEAM, AWAY_TEAM)).containsSame(updatedGame1);
+    }
+
+    @Test
+    @DisplayName("Should return the same published snapshot for repeated reads without writes")
+    void shouldReturnSameSnapshotForRepeatedReads() {
+        // Given
+        repository.save(Game.createWithScores("Mexico", "Canada", 0, 5));
+        repository.save(Game.createWithScores("Spain", "Brazil", 3, 2));
+
+        // When
+        final List<Game> firstSummary = repository.findAllByTotalScoreAndReverseOrder();
+        final List<Game> secondSummary = repository.findAllByTotalScoreAndReverseOrder();
+
+        // Then
+        assertThat(secondSummary).isSameAs(firstSummary);
+        assertThat(repository.findAll()).isSameAs(repository.findAll());
+    }
+
+    @Test
+    @DisplayName("Should serve consistent snapshots to readers on other threads while the writer keeps updating")
+    void shouldServeConsistentSnapshotsDuringWrites() throws Exception {
+        // Given
+        final IndexedGameRepository indexedRepository = new IndexedGameRepository();
+        indexedRepository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        indexedRepository.save(Game.createNew("Spain", "Brazil"));
+        final List<List<Game>> inconsistentSummaries = new ArrayList<>();
+        final Thread reader = Thread.ofPlatform().start(() -> {
+            for (int read = 0; read < 10_000; read++) {
+                final List<Game> summary = indexedRepository.findAllByTotalScoreAndReverseOrder();
+                if (summary.size() != 2 || summary.get(0).getTotalScore() < summary.get(1).getTotalScore()) {
+                    inconsistentSummaries.add(List.copyOf(summary));
+                }
+            }
+        });
+
+        // When
+        for (int score = 0; reader.isAlive(); score = (score + 1) % 10) {
+            indexedRepository.updateScore(HOME_TEAM, AWAY_TEAM, score, 0);
+            indexedRepository.updateScore("Spain", "Brazil", 9 - score, 0);
+        }
+        reader.join();
+
+        // Then
+        assertThat(inconsistentSummaries).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read snapshots without taking the repository's monitor")
+    void shouldReadWithoutLocking() throws Exception {
+        // Given
+        final IndexedGameRepository indexedRepository = new IndexedGameRepository();
+        indexedRepository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        final List<Game> games = new ArrayList<>();
+
+        // When
+        synchronized (indexedRepository) {
+            final Thread reader = Thread.ofPlatform().start(() -> games.addAll(indexedRepository.findAll()));
+            reader.join(Duration.ofSeconds(5));
+        }
+
+        // Then
+        assertThat(games).containsExactly(Game.createNew(HOME_TEAM, AWAY_TEAM));
+    }
+
+    @Test
+    @DisplayName("Should not publish a new snapshot when a batch updates no game")
+    void shouldNotPublishSnapshotWhenBatchUpdatesNoGame() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        final List<Game> summaryBeforeBatch = repository.findAllByTotalScoreAndReverseOrder();
+
+        // When
+        final List<Optional<Game>> updatedGames =
+                repository.updateScores(List.of(new ScoreUpdate("Spain", "Brazil", 1, 0)));
+
+        // Then
+        assertThat(updatedGames).containsExactly(Optional.empty());
+        assertThat(repository.findAllByTotalScoreAndReverseOrder()).isSameAs(summaryBeforeBatch);
+    }
+
+    @Test
+    @DisplayName("Should intern team names into the shared team registry")
+    void shouldInternTeamNamesIntoSharedRegistry() {
+        // Given
+        final TeamRegistry teamRegistry = new TeamRegistry();
+        final GameRepository sharedRegistryRepository = new IndexedGameRepository(teamRegistry);
+
+        // When
+        sharedRegistryRepository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        sharedRegistryRepository.findByTeams("Spain", "Brazil");
+
+        // Then
+        assertThat(teamRegistry.size()).isEqualTo(2);
+        assertThat(teamRegistry.idOf("poland")).isNotEqualTo(TeamRegistry.UNKNOWN_ID);
+    }
+}
\ No newline at end of file
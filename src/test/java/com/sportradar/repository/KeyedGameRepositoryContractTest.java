@@ -0,0 +1,121 @@
+package com.sportradar.repository;
+
+import com.sportradar.domain.Game;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Behaviour of the repositories that key games by their case-insensitive (home, away) pair, so saving the same
+ * teams again replaces the stored game instead of adding a second one.
+ */
+abstract class KeyedGameRepositoryContractTest extends GameRepositoryContractTest {
+
+    @Test
+    @DisplayName("Should find game by teams ignoring case")
+    void shouldFindGameByTeamsIgnoringCase() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        repository.save(game);
+
+        // When
+        final Optional<Game> foundGame = repository.findByTeams("POLAND", "argentina");
+
+        // Then
+        assertThat(foundGame).contains(game);
+    }
+
+    @Test
+    @DisplayName("Should detect present game in saveIfAbsent ignoring case")
+    void shouldDetectPresentGameInSaveIfAbsentIgnoringCase() {
+        // Given
+        final Game storedGame = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        repository.save(storedGame);
+
+        // When
+        final Optional<Game> existingGame = repository.saveIfAbsent(Game.createNew("POLAND", "ARGENTINA"));
+
+        // Then
+        assertThat(existingGame).contains(storedGame);
+    }
+
+    @Test
+    @DisplayName("Should keep summary in sync when games are replaced and deleted")
+    void shouldKeepSummaryInSyncAfterReplaceAndDelete() {
+        // Given
+        final Game mexicoCanada = Game.createWithScores("Mexico", "Canada", 0, 5);
+        final Game spainBrazil = Game.createWithScores("Spain", "Brazil", 1, 0);
+        final Game germanyFrance = Game.createWithScores("Germany", "France", 2, 2);
+        final Game spainBrazilUpdated = Game.createWithScores("Spain", "Brazil", 4, 1);
+        repository.save(mexicoCanada);
+        repository.save(spainBrazil);
+        repository.save(germanyFrance);
+
+        // When
+        repository.save(spainBrazilUpdated);
+        repository.delete(germanyFrance);
+
+        // Then
+        assertThat(repository.findAllByTotalScoreAndReverseOrder())
+                .containsExactly(spainBrazilUpdated, mexicoCanada);
+    }
+
+    @Test
+    @DisplayName("Should keep games by team in start order after a game is saved again")
+    void shouldKeepGamesByTeamInStartOrderAfterReplace() {
+        // Given
+        final Game firstGame = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game secondGame = Game.createNew("Spain", HOME_TEAM);
+        final Game thirdGame = Game.createNew(HOME_TEAM, "Brazil");
+        final Game replacedGame = Game.createWithScores(HOME_TEAM, AWAY_TEAM, 3, 3);
+        repository.save(firstGame);
+        repository.save(secondGame);
+        repository.save(thirdGame);
+
+        // When
+        repository.save(replacedGame);
+        repository.delete(secondGame);
+
+        // Then
+        assertThat(repository.findGamesByTeam(HOME_TEAM)).containsExactly(thirdGame, replacedGame);
+        assertThat(repository.findGamesByTeam(AWAY_TEAM)).containsExactly(replacedGame);
+    }
+
+    @Test
+    @DisplayName("Should keep summary in sync when scores are updated and games deleted by teams")
+    void shouldKeepSummaryInSyncAfterUpdateAndDeleteByTeams() {
+        // Given
+        final Game mexicoCanada = Game.createWithScores("Mexico", "Canada", 0, 5);
+        final Game spainBrazil = Game.createWithScores("Spain", "Brazil", 1, 0);
+        final Game germanyFrance = Game.createWithScores("Germany", "France", 2, 2);
+        final Game spainBrazilUpdated = Game.createWithScores("Spain", "Brazil", 4, 1);
+        repository.save(mexicoCanada);
+        repository.save(spainBrazil);
+        repository.save(germanyFrance);
+
+        // When
+        repository.updateScore("SPAIN", "brazil", 4, 1);
+        repository.deleteByTeams("germany", "france");
+
+        // Then
+        assertThat(repository.findAllByTotalScoreAndReverseOrder())
+                .containsExactly(spainBrazilUpdated, mexicoCanada);
+    }
+
+    @Test
+    @DisplayName("Should return unmodifiable lists from findAll and summary")
+    void shouldReturnUnmodifiableLists() {
+        // Given
+        repository.save(Game.createNew(HOME_TEAM, AWAY_TEAM));
+
+        // When & Then
+        assertThatThrownBy(() -> repository.findAll().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> repository.findAllByTotalScoreAndReverseOrder().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
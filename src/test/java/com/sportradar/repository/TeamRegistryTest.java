@@ -0,0 +1,121 @@
+package com.sportradar.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TeamRegistry Tests")
+class TeamRegistryTest {
+
+    private TeamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TeamRegistry();
+    }
+
+    @Test
+    @DisplayName("Should assign dense ids in registration order")
+    void shouldAssignDenseIds() {
+        // When
+        final int poland = registry.register("Poland");
+        final int argentina = registry.register("Argentina");
+
+        // Then
+        assertThat(poland).isZero();
+        assertThat(argentina).isEqualTo(1);
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return the same id for any casing of a team name")
+    void shouldReturnSameIdIgnoringCase() {
+        // Given
+        final int id = registry.register("Poland");
+
+        // When & Then
+        assertThat(registry.register("POLAND")).isEqualTo(id);
+        assertThat(registry.register("Poland")).isEqualTo(id);
+        assertThat(registry.idOf("poland")).isEqualTo(id);
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep first registered spelling as team name")
+    void shouldKeepFirstSpellingAsName() {
+        // Given
+        final int id = registry.register("Poland");
+        registry.register("POLAND");
+
+        // When & Then
+        assertThat(registry.nameOf(id)).isEqualTo("Poland");
+    }
+
+    @Test
+    @DisplayName("Should return unknown id and key for unregistered teams without registering them")
+    void shouldReturnUnknownForUnregisteredTeams() {
+        // Given
+        registry.register("Poland");
+
+        // When & Then
+        assertThat(registry.idOf("Spain")).isEqualTo(TeamRegistry.UNKNOWN_ID);
+        assertThat(registry.keyOf("Poland", "Spain")).isEqualTo(TeamRegistry.UNKNOWN_KEY);
+        assertThat(registry.keyOf("Spain", "Poland")).isEqualTo(TeamRegistry.UNKNOWN_KEY);
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should pack and unpack home and away ids into an ordered key")
+    void shouldPackAndUnpackKeys() {
+        // Given
+        final long key = registry.registerKey("Poland", "Argentina");
+
+        // When & Then
+        assertThat(registry.keyOf("poland", "ARGENTINA")).isEqualTo(key);
+        assertThat(registry.keyOf("Argentina", "Poland")).isNotEqualTo(key);
+        assertThat(TeamRegistry.homeId(key)).isEqualTo(registry.idOf("Poland"));
+        assertThat(TeamRegistry.awayId(key)).isEqualTo(registry.idOf("Argentina"));
+        assertThat(TeamRegistry.key(Integer.MAX_VALUE, Integer.MAX_VALUE)).isNotEqualTo(TeamRegistry.UNKNOWN_KEY);
+    }
+
+    @Test
+    @DisplayName("Should grow name table beyond its initial capacity")
+    void shouldGrowNameTable() {
+        // When
+        for (int team = 0; team < 100; team++) {
+            registry.register("Team " + team);
+        }
+
+        // Then
+        assertThat(registry.size()).isEqualTo(100);
+        assertThat(registry.nameOf(99)).isEqualTo("Team 99");
+    }
+
+    @Test
+    @DisplayName("Should assign a single id per team when registered concurrently")
+    void shouldAssignSingleIdWhenRegisteredConcurrently() throws InterruptedException {
+        // Given
+        final Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int task = 0; task < 64; task++) {
+            final String spelling = task % 2 == 0 ? "Poland" : "POLAND";
+            executor.execute(() -> ids.add(registry.register(spelling)));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(ids).containsExactly(0);
+        assertThat(registry.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,198 @@
+package com.sportradar.service;
+
+import com.sportradar.domain.Game;
+import com.sportradar.exception.GameNotFoundException;
+import com.sportradar.exception.GameValidationException;
+import com.sportradar.repository.ConcurrentGameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AsyncGameService Tests")
+class AsyncGameServiceImplTest {
+
+    private static final String HOME_TEAM = "Poland";
+    private static final String AWAY_TEAM = "Argentina";
+    private GameService gameService;
+    private AsyncGameServiceImpl asyncGameService;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameServiceImpl(new ConcurrentGameRepository());
+        asyncGameService = new AsyncGameServiceImpl(gameService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncGameService.close();
+    }
+
+    @Test
+    @DisplayName("Should complete writes and reads with the results of the synchronous service")
+    void shouldCompleteWithServiceResults() {
+        // When
+        final Game started = asyncGameService.startGame(HOME_TEAM, AWAY_TEAM).join();
+        final Game updated = asyncGameService.updateScore(HOME_TEAM, AWAY_TEAM, 2, 1).join();
+        final Game versioned = asyncGameService.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 3, 1, 1).join();
+        asyncGameService.startGame("Spain", "Brazil").join();
+
+        // Then
+        assertThat(started).isEqualTo(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        assertThat(updated).isEqualTo(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 1));
+        assertThat(versioned).isEqualTo(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 3, 1));
+        assertThat(asyncGameService.getSummaryByTotalScoreAndReverseOrder().join()).containsExactly(versioned, Game.createNew("Spain", "Brazil"));
+        assertThat(asyncGameService.getSummaryTop(1).join()).containsExactly(versioned);
+        assertThat(asyncGameService.getGamesByTeam("Brazil").join()).containsExactly(Game.createNew("Spain", "Brazil"));
+        asyncGameService.finishGame(HOME_TEAM, AWAY_TEAM).join();
+        assertThat(gameService.getGamesByTeam(HOME_TEAM)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should complete exceptionally with the exception of the synchronous service")
+    void shouldCompleteExceptionallyWithServiceException() {
+        // When / Then
+        assertThatThrownBy(() -> asyncGameService.finishGame(HOME_TEAM, AWAY_TEAM).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(GameNotFoundException.class);
+        assertThatThrownBy(() -> asyncGameService.startGame(HOME_TEAM, " ").join())
+                .hasCauseInstanceOf(GameValidationException.class);
+        assertThatThrownBy(() -> asyncGameService.getSummaryTop(-1).join())
+                .hasCauseInstanceOf(GameValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Should apply writes to the same match in call order")
+    void shouldApplyWritesToSameMatchInOrder() {
+        // Given
+        final GameService slowService = mock(GameService.class);
+        final List<Integer> appliedScores = new ArrayList<>();
+        when(slowService.updateScore(anyString(), eq(AWAY_TEAM), anyInt(), eq(0))).thenAnswer(invocation -> {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(50_000));
+            synchronized (appliedScores) {
+                appliedScores.add(invocation.getArgument(2));
+            }
+            return Game.createWithScores(HOME_TEAM, AWAY_TEAM, invocation.getArgument(2), 0);
+        });
+        final List<CompletableFuture<Game>> updates = new ArrayList<>();
+
+        // When
+        try (AsyncGameServiceImpl orderedService = new AsyncGameServiceImpl(slowService)) {
+            for (int score = 0; score < 200; score++) {
+                updates.add(orderedService.updateScore(score % 2 == 0 ? HOME_TEAM : "POLAND", AWAY_TEAM, score, 0));
+            }
+        }
+
+        // Then
+        assertThat(updates).allMatch(CompletableFuture::isDone);
+        assertThat(appliedScores).hasSize(200).isSorted();
+    }
+
+    @Test
+    @DisplayName("Should keep the order of a match after one of its writes fails")
+    void shouldKeepOrderAfterFailedWrite() {
+        // When
+        final CompletableFuture<Game> missing = asyncGameService.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+        final CompletableFuture<Game> started = asyncGameService.startGame(HOME_TEAM, AWAY_TEAM);
+        final CompletableFuture<Game> updated = asyncGameService.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+
+        // Then
+        assertThat(missing).failsWithin(5, TimeUnit.SECONDS);
+        assertThat(started.join()).isEqualTo(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        assertThat(updated.join()).isEqualTo(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Should complete exceptionally with an Error and still run the next write of the match")
+    void shouldKeepOrderAfterWriteThrowsError() {
+        // Given
+        final GameService failingService = mock(GameService.class);
+        final AssertionError error = new AssertionError("broken invariant");
+        when(failingService.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0)).thenThrow(error);
+        when(failingService.updateScore(HOME_TEAM, AWAY_TEAM, 2, 0)).thenReturn(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 0));
+
+        // When
+        final CompletableFuture<Game> failed;
+        final CompletableFuture<Game> next;
+        try (AsyncGameServiceImpl service = new AsyncGameServiceImpl(failingService)) {
+            failed = service.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+            next = service.updateScore(HOME_TEAM, AWAY_TEAM, 2, 0);
+            next.join();
+        }
+
+        // Then
+        assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class).hasCause(error);
+        assertThat(next.join()).isEqualTo(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 0));
+    }
+
+    @Test
+    @DisplayName("Should run writes to different matches in parallel")
+    void shouldRunDifferentMatchesInParallel() throws InterruptedException {
+        // Given
+        final GameService blockingService = mock(GameService.class);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(blockingService.startGame(HOME_TEAM, AWAY_TEAM)).thenAnswer(invocation -> {
+            release.await();
+            return Game.createNew(HOME_TEAM, AWAY_TEAM);
+        });
+        when(blockingService.startGame("Spain", "Brazil")).thenReturn(Game.createNew("Spain", "Brazil"));
+
+        try (AsyncGameServiceImpl parallelService = new AsyncGameServiceImpl(blockingService)) {
+            // When
+            final CompletableFuture<Game> blocked = parallelService.startGame(HOME_TEAM, AWAY_TEAM);
+            final Game other = parallelService.startGame("Spain", "Brazil").join();
+
+            // Then
+            assertThat(other).isEqualTo(Game.createNew("Spain", "Brazil"));
+            assertThat(blocked).isNotDone();
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not let a caller complete the future that orders the match")
+    void shouldIsolateReturnedFutures() {
+        // Given
+        asyncGameService.startGame(HOME_TEAM, AWAY_TEAM).join();
+        final CompletableFuture<Game> first = asyncGameService.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+
+        // When
+        first.complete(null);
+        final Game second = asyncGameService.updateScore(HOME_TEAM, AWAY_TEAM, 2, 0).join();
+
+        // Then
+        assertThat(second).isEqualTo(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 0));
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder()).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("Should reject operations after close")
+    void shouldRejectOperationsAfterClose() {
+        // Given
+        asyncGameService.close();
+
+        // When / Then
+        assertThatThrownBy(() -> asyncGameService.startGame(HOME_TEAM, AWAY_TEAM).join())
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> asyncGameService.getSummaryByTotalScoreAndReverseOrder().join())
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -0,0 +1,219 @@
+package com.sportradar.service;
+
+import com.sportradar.domain.Game;
+import com.sportradar.exception.GameAlreadyExistsException;
+import com.sportradar.exception.GameNotFoundException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+import com.sportradar.repository.ConcurrentGameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GameService on ConcurrentGameRepository Stress Tests")
+class ConcurrentGameServiceStressTest {
+
+    private static final int CONTENDERS = 16;
+    private static final int FIXTURES_PER_THREAD = 200;
+    private static final int UPDATES_PER_FIXTURE = 20;
+
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameServiceImpl(new ConcurrentGameRepository());
+    }
+
+    @Test
+    @DisplayName("Should start a contended game exactly once")
+    void shouldStartContendedGameExactlyOnce() throws Exception {
+        // Given
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        runConcurrently(CONTENDERS, threadIndex -> {
+            try {
+                gameService.startGame("Poland", threadIndex % 2 == 0 ? "Argentina" : "ARGENTINA");
+                started.incrementAndGet();
+            } catch (GameAlreadyExistsException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // Then
+        assertThat(started).hasValue(1);
+        assertThat(rejected).hasValue(CONTENDERS - 1);
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should start only one game of a team when its opponents race for it")
+    void shouldStartOneGamePerTeamWhenOpponentsRace() throws Exception {
+        // Given
+        final GameService strictGameService = new GameServiceImpl(new ConcurrentGameRepository(), true);
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        runConcurrently(CONTENDERS, threadIndex -> {
+            try {
+                strictGameService.startGame(threadIndex % 2 == 0 ? "Poland" : "Team " + threadIndex,
+                        threadIndex % 2 == 0 ? "Team " + threadIndex : "Poland");
+                started.incrementAndGet();
+            } catch (TeamAlreadyPlayingException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // Then
+        assertThat(started).hasValue(1);
+        assertThat(rejected).hasValue(CONTENDERS - 1);
+        assertThat(strictGameService.getGamesByTeam("Poland")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should finish a contended game exactly once")
+    void shouldFinishContendedGameExactlyOnce() throws Exception {
+        // Given
+        gameService.startGame("Poland", "Argentina");
+        final AtomicInteger finished = new AtomicInteger();
+        final AtomicInteger notFound = new AtomicInteger();
+
+        // When
+        runConcurrently(CONTENDERS, threadIndex -> {
+            try {
+                gameService.finishGame("Poland", "Argentina");
+                finished.incrementAndGet();
+            } catch (GameNotFoundException e) {
+                notFound.incrementAndGet();
+            }
+        });
+
+        // Then
+        assertThat(finished).hasValue(1);
+        assertThat(notFound).hasValue(CONTENDERS - 1);
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should never resurrect a finished game when updates race with finish")
+    void shouldNeverResurrectFinishedGameWhenUpdatesRaceWithFinish() throws Exception {
+        // Given
+        gameService.startGame("Poland", "Argentina");
+
+        // When
+        runConcurrently(CONTENDERS, threadIndex -> {
+            if (threadIndex == 0) {
+                gameService.finishGame("Poland", "Argentina");
+                return;
+            }
+            for (int score = 0; score < UPDATES_PER_FIXTURE; score++) {
+                try {
+                    gameService.updateScore("Poland", "Argentina", score, threadIndex);
+                } catch (GameNotFoundException e) {
+                    return;
+                }
+            }
+        });
+
+        // Then
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should end at the newest score when versioned updates arrive redelivered and out of order")
+    void shouldKeepNewestScoreWhenVersionedUpdatesRace() throws Exception {
+        // Given
+        gameService.startGame("Poland", "Argentina");
+        final int versions = CONTENDERS * UPDATES_PER_FIXTURE;
+
+        // When
+        runConcurrently(CONTENDERS, threadIndex -> {
+            for (int update = UPDATES_PER_FIXTURE - 1; update >= 0; update--) {
+                final int version = update * CONTENDERS + threadIndex + 1;
+                gameService.updateScoreIfNewer("Poland", "Argentina", version, 0, version);
+                gameService.updateScoreIfNewer("Poland", "Argentina", version, 0, version);
+            }
+        });
+
+        // Then
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder())
+                .containsExactly(Game.createWithScores("Poland", "Argentina", versions, 0));
+    }
+
+    @Test
+    @DisplayName("Should keep every independent fixture intact when many threads play them at once")
+    void shouldKeepIndependentFixturesIntactAcrossThreads() throws Exception {
+        // When
+        runConcurrently(CONTENDERS, threadIndex -> {
+            for (int fixture = 0; fixture < FIXTURES_PER_THREAD; fixture++) {
+                gameService.startGame(homeTeam(threadIndex, fixture), awayTeam(threadIndex, fixture));
+                for (int score = 1; score <= UPDATES_PER_FIXTURE; score++) {
+                    gameService.updateScore(homeTeam(threadIndex, fixture), awayTeam(threadIndex, fixture), score, 0);
+                }
+            }
+        });
+
+        // Then
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder())
+                .hasSize(CONTENDERS * FIXTURES_PER_THREAD)
+                .extracting(Game::homeScore)
+                .containsOnly(UPDATES_PER_FIXTURE);
+
+        // When
+        runConcurrently(CONTENDERS, threadIndex -> {
+            for (int fixture = 0; fixture < FIXTURES_PER_THREAD; fixture++) {
+                gameService.finishGame(homeTeam(threadIndex, fixture), awayTeam(threadIndex, fixture));
+            }
+        });
+
+        // Then
+        assertThat(gameService.getSummaryByTotalScoreAndReverseOrder()).isEmpty();
+    }
+
+    private static String homeTeam(int threadIndex, int fixture) {
+        return "Home-" + threadIndex + "-" + fixture;
+    }
+
+    private static String awayTeam(int threadIndex, int fixture) {
+        return "Away-" + threadIndex + "-" + fixture;
+    }
+
+    private static void runConcurrently(int threads, ThreadTask task) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch startGate = new CountDownLatch(1);
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int threadIndex = 0; threadIndex < threads; threadIndex++) {
+                final int index = threadIndex;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int threadIndex);
+    }
+}
@@ -1,20 +1,30 @@
 package com.sportradar.service;
 
 import com.sportradar.domain.Game;
+import com.sportradar.domain.GameWriteStatus;
+import com.sportradar.domain.ScoreUpdate;
+import com.sportradar.domain.ScoreUpdateResult;
+import com.sportradar.domain.SummaryChange;
+import com.sportradar.domain.VersionedUpdateResult;
 import com.sportradar.exception.GameAlreadyExistsException;
 import com.sportradar.exception.GameNotFoundException;
+import com.sportradar.exception.GameValidationException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+import com.sportradar.repository.ConcurrentGameRepository;
 import com.sportradar.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -27,26 +37,27 @@ class GameServiceTest {
     private static final String AWAY_TEAM = "Argentina";
     @Mock
     private GameRepository gameRepository;
-    @InjectMocks
     private GameServiceImpl gameService;
 
+    @BeforeEach
+    void setUp() {
+        gameService = new GameServiceImpl(gameRepository);
+    }
+
     @Test
     @DisplayName("Should start Game and return the instance when teams are not present in repository")
     void shouldStartGameWhenTeamsNotInRepository() {
         // Given
-        final Game savedGame = Game.createNew(HOME_TEAM, AWAY_TEAM);
-
-        when(gameRepository.findByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.empty());
+        final Game expectedGame = Game.createNew(HOME_TEAM, AWAY_TEAM);
 
-        when(gameRepository.save(any(Game.class))).thenReturn(savedGame);
+        when(gameRepository.saveIfAbsent(expectedGame)).thenReturn(Optional.empty());
 
         // When
         final Game actualGame = gameService.startGame(HOME_TEAM, AWAY_TEAM);
 
         // Then
-        assertThat(actualGame).isSameAs(savedGame);
-        verify(gameRepository, times(1)).findByTeams(HOME_TEAM, AWAY_TEAM);
-        verify(gameRepository, times(1)).save(any(Game.class));
+        assertThat(actualGame).isEqualTo(expectedGame);
+        verify(gameRepository, times(1)).saveIfAbsent(expectedGame);
         verifyNoMoreInteractions(gameRepository);
     }
 
@@ -54,32 +65,98 @@ class GameServiceTest {
     @DisplayName("Should throw GameAlreadyExistsException when game is already in repository")
     void shouldThrowWhenGameStarAndGameAlreadyExists() {
         // Given
-        final Game existingGame = Game.createNew(HOME_TEAM, AWAY_TEAM);
-        when(gameRepository.findByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.of(existingGame));
+        final Game existingGame = Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0);
+        when(gameRepository.saveIfAbsent(any(Game.class))).thenReturn(Optional.of(existingGame));
 
         // When & Then
         assertThatThrownBy(() -> gameService.startGame(HOME_TEAM, AWAY_TEAM))
                 .isInstanceOf(GameAlreadyExistsException.class)
                 .hasMessageContaining("already in progress");
 
-        verify(gameRepository, times(1)).findByTeams(HOME_TEAM, AWAY_TEAM);
-        verify(gameRepository, never()).save(any(Game.class));
+        verify(gameRepository, times(1)).saveIfAbsent(any(Game.class));
         verifyNoMoreInteractions(gameRepository);
     }
 
+    @Test
+    @DisplayName("Should start Game through the team check when one live game per team is enforced")
+    void shouldStartGameWhenTeamsFree() {
+        // Given
+        final GameServiceImpl strictGameService = new GameServiceImpl(gameRepository, true);
+        final Game expectedGame = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        when(gameRepository.saveIfTeamsFree(expectedGame)).thenReturn(Optional.empty());
+
+        // When
+        final Game actualGame = strictGameService.startGame(HOME_TEAM, AWAY_TEAM);
+
+        // Then
+        assertThat(actualGame).isEqualTo(expectedGame);
+        verify(gameRepository, times(1)).saveIfTeamsFree(expectedGame);
+        verifyNoMoreInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw GameAlreadyExistsException when the same game is in progress and teams are checked")
+    void shouldThrowWhenTeamsCheckedAndSameGameInProgress() {
+        // Given
+        final GameServiceImpl strictGameService = new GameServiceImpl(gameRepository, true);
+        when(gameRepository.saveIfTeamsFree(any(Game.class)))
+                .thenReturn(Optional.of(Game.createNew(HOME_TEAM.toUpperCase(), AWAY_TEAM)));
+
+        // When & Then
+        assertThatThrownBy(() -> strictGameService.startGame(HOME_TEAM, AWAY_TEAM))
+                .isInstanceOf(GameAlreadyExistsException.class)
+                .hasMessageContaining("already in progress");
+    }
+
+    @Test
+    @DisplayName("Should throw TeamAlreadyPlayingException naming the home team when it plays another game")
+    void shouldThrowWhenHomeTeamAlreadyPlaying() {
+        // Given
+        final GameServiceImpl strictGameService = new GameServiceImpl(gameRepository, true);
+        when(gameRepository.saveIfTeamsFree(any(Game.class)))
+                .thenReturn(Optional.of(Game.createNew(HOME_TEAM, "Brazil")))
+                .thenReturn(Optional.of(Game.createNew("Brazil", HOME_TEAM)));
+
+        // When & Then
+        assertThatThrownBy(() -> strictGameService.startGame(HOME_TEAM, AWAY_TEAM))
+                .isInstanceOf(TeamAlreadyPlayingException.class)
+                .hasMessage("Poland is already playing in the game between Poland and Brazil.");
+        assertThatThrownBy(() -> strictGameService.startGame(HOME_TEAM, AWAY_TEAM))
+                .isInstanceOf(TeamAlreadyPlayingException.class)
+                .hasMessage("Poland is already playing in the game between Brazil and Poland.");
+    }
+
+    @Test
+    @DisplayName("Should throw TeamAlreadyPlayingException naming the away team when it plays another game")
+    void shouldThrowWhenAwayTeamAlreadyPlaying() {
+        // Given
+        final GameServiceImpl strictGameService = new GameServiceImpl(gameRepository, true);
+        when(gameRepository.saveIfTeamsFree(any(Game.class)))
+                .thenReturn(Optional.of(Game.createNew(AWAY_TEAM, HOME_TEAM)))
+                .thenReturn(Optional.of(Game.createNew("Brazil", AWAY_TEAM)));
+
+        // When & Then
+        assertThatThrownBy(() -> strictGameService.startGame(HOME_TEAM, AWAY_TEAM))
+                .isInstanceOf(TeamAlreadyPlayingException.class)
+                .hasMessage("Poland is already playing in the game between Argentina and Poland.");
+        assertThatThrownBy(() -> strictGameService.startGame(HOME_TEAM, AWAY_TEAM))
+                .isInstanceOf(TeamAlreadyPlayingException.class)
+                .hasMessage("Argentina is already playing in the game between Brazil and Argentina.");
+        verify(gameRepository, never()).saveIfAbsent(any(Game.class));
+    }
+
     @Test
     @DisplayName("Should delete game successfully when found")
     void shouldSucceedFinishGameWhenGameFound() {
         // Given
         final Game existingGame = Game.createNew(HOME_TEAM, AWAY_TEAM);
-        when(gameRepository.findByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.of(existingGame));
+        when(gameRepository.deleteByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.of(existingGame));
 
         // When
         gameService.finishGame(HOME_TEAM, AWAY_TEAM);
 
         // Then
-        verify(gameRepository, times(1)).findByTeams(HOME_TEAM, AWAY_TEAM);
-        verify(gameRepository, times(1)).delete(existingGame);
+        verify(gameRepository, times(1)).deleteByTeams(HOME_TEAM, AWAY_TEAM);
         verifyNoMoreInteractions(gameRepository);
     }
 
@@ -87,140 +164,399 @@ class GameServiceTest {
     @DisplayName("Should throw GameNotFoundException when trying to finish a game that doesn't exist")
     void shouldThrowWhenFinishGameAndGameNotFound() {
         // Given
-        when(gameRepository.findByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.empty());
+        when(gameRepository.deleteByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> gameService.finishGame(HOME_TEAM, AWAY_TEAM))
                 .isInstanceOf(GameNotFoundException.class)
                 .hasMessageContaining("not found");
 
-        verify(gameRepository, times(1)).findByTeams(HOME_TEAM, AWAY_TEAM);
-        verify(gameRepository, never()).delete(any());
+        verify(gameRepository, times(1)).deleteByTeams(HOME_TEAM, AWAY_TEAM);
         verifyNoMoreInteractions(gameRepository);
     }
 
     @Test
-    @DisplayName("Should update score by calling updateScores on the Game record and persisting the new instance")
+    @DisplayName("Should update score through the versioned repository update")
+    void shouldUpdateScoreIfNewer() {
+        // Given
+        final Game storedGame = Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 0);
+        when(gameRepository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 3L))
+                .thenReturn(Optional.of(VersionedUpdateResult.applied(storedGame)));
+
+        // When
+        final Game actualGame = gameService.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 3L);
+
+        // Then
+        assertThat(actualGame).isSameAs(storedGame);
+        verify(gameRepository, times(1)).updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 3L);
+        verifyNoMoreInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw GameNotFoundException when a versioned update targets no game")
+    void shouldThrowWhenUpdateScoreIfNewerAndGameNotFound() {
+        // Given
+        when(gameRepository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 3L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> gameService.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 3L))
+                .isInstanceOf(GameNotFoundException.class);
+        assertThatThrownBy(() -> gameService.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, -1, 0, 4L))
+                .isInstanceOf(GameValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Should update score with a single repository update")
     void shouldUpdateGameWhenGameFound() {
         // Given
-        final int oldHomeScore = 0;
-        final int oldAwayScore = 1;
         final int newHomeScore = 2;
         final int newAwayScore = 3;
 
-        final Game oldGameRecord = Game.createWithScores(HOME_TEAM, AWAY_TEAM, oldHomeScore, oldAwayScore);
         final Game updatedGameRecord = Game.createWithScores(HOME_TEAM, AWAY_TEAM, newHomeScore, newAwayScore);
 
-        when(gameRepository.findByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.of(oldGameRecord));
-        when(gameRepository.save(updatedGameRecord)).thenReturn(updatedGameRecord);
+        when(gameRepository.updateScore(HOME_TEAM, AWAY_TEAM, newHomeScore, newAwayScore))
+                .thenReturn(Optional.of(updatedGameRecord));
 
         // When
         final Game actualGame = gameService.updateScore(HOME_TEAM, AWAY_TEAM, newHomeScore, newAwayScore);
 
         // Then
         assertThat(actualGame).isSameAs(updatedGameRecord);
-        verify(gameRepository, times(1)).findByTeams(HOME_TEAM, AWAY_TEAM);
-        verify(gameRepository, times(1)).delete(oldGameRecord);
-        verify(gameRepository, times(1)).save(updatedGameRecord);
+        verify(gameRepository, times(1)).updateScore(HOME_TEAM, AWAY_TEAM, newHomeScore, newAwayScore);
         verifyNoMoreInteractions(gameRepository);
     }
 
+    @Test
+    @DisplayName("Should return games of a team from repository")
+    void shouldReturnGamesByTeamFromRepository() {
+        // Given
+        final List<Game> games = List.of(Game.createNew(HOME_TEAM, AWAY_TEAM));
+        when(gameRepository.findGamesByTeam(HOME_TEAM)).thenReturn(games);
+
+        // When
+        final List<Game> actualGames = gameService.getGamesByTeam(HOME_TEAM);
+
+        // Then
+        assertThat(actualGames).isSameAs(games);
+        verify(gameRepository, times(1)).findGamesByTeam(HOME_TEAM);
+    }
+
+    @Test
+    @DisplayName("Should throw GameValidationException when team to find games of is blank")
+    void shouldThrowWhenGamesByTeamForBlankTeam() {
+        // When & Then
+        assertThatThrownBy(() -> gameService.getGamesByTeam(" "))
+                .isInstanceOf(GameValidationException.class);
+        verifyNoInteractions(gameRepository);
+    }
+
     @Test
     @DisplayName("Should throw GameNotFoundException when trying to update score for a game that doesn't exist")
     void shouldThrowWhenUpdateAndGameNotFound() {
         // Given
-        when(gameRepository.findByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.empty());
+        when(gameRepository.updateScore(HOME_TEAM, AWAY_TEAM, 1, 1)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> gameService.updateScore(HOME_TEAM, AWAY_TEAM, 1, 1))
                 .isInstanceOf(GameNotFoundException.class)
                 .hasMessageContaining("not found");
 
-        verify(gameRepository, times(1)).findByTeams(HOME_TEAM, AWAY_TEAM);
-        verify(gameRepository, never()).delete(any());
-        verify(gameRepository, never()).save(any());
+        verify(gameRepository, times(1)).updateScore(HOME_TEAM, AWAY_TEAM, 1, 1);
+        verifyNoMoreInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw GameValidationException and leave repository untouched when updating with a negative score")
+    void shouldThrowWhenUpdateWithNegativeScore() {
+        // When & Then
+        assertThatThrownBy(() -> gameService.updateScore(HOME_TEAM, AWAY_TEAM, -1, 1))
+                .isInstanceOf(GameValidationException.class);
+
+        verifyNoInteractions(gameRepository);
     }
 
     @Test
-    @DisplayName("Should return games sorted by total score descending and then by most recently added")
-    void shouldReturnGamesSortedByTotalScoreAndReverseOrder() {
+    @DisplayName("Should update valid scores in one repository batch and report per-item outcomes")
+    void shouldUpdateScoresInBatchAndReportPerItemOutcomes() {
         // Given
-        final Game mexicoCanada = Game.createWithScores("Mexico", "Canada", 0, 5);
-        final Game spainBrazil = Game.createWithScores("Spain", "Brazil", 10, 2);
-        final Game germanyFrance = Game.createWithScores("Germany", "France", 2, 2);
-        final Game uruguayItaly = Game.createWithScores("Uruguay", "Italy", 6, 6);
-        final Game argentinaAustralia = Game.createWithScores("Argentina", "Australia", 3, 1);
+        final ScoreUpdate found = new ScoreUpdate(HOME_TEAM, AWAY_TEAM, 2, 1);
+        final ScoreUpdate blankTeam = new ScoreUpdate(" ", AWAY_TEAM, 1, 0);
+        final ScoreUpdate missing = new ScoreUpdate("Spain", "Brazil", 1, 1);
+        final ScoreUpdate negativeScore = new ScoreUpdate("Mexico", "Canada", 0, -1);
+        final Game updatedGame = Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 1);
 
-        final List<Game> gamesInInsertionOrder = List.of(
-                mexicoCanada,
-                spainBrazil,
-                germanyFrance,
-                uruguayItaly,
-                argentinaAustralia
-        );
+        when(gameRepository.updateScores(List.of(found, missing)))
+                .thenReturn(List.of(Optional.of(updatedGame), Optional.empty()));
 
-        when(gameRepository.findAll()).thenReturn(new ArrayList<>(gamesInInsertionOrder));
+        // When
+        final List<ScoreUpdateResult> results =
+                gameService.updateScores(List.of(found, blankTeam, missing, negativeScore));
+
+        // Then
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0)).isEqualTo(ScoreUpdateResult.updated(found, updatedGame));
+        assertThat(results.get(0).isUpdated()).isTrue();
+        assertThat(results.get(1).isUpdated()).isFalse();
+        assertThat(results.get(1).failure()).isInstanceOf(GameValidationException.class);
+        assertThat(results.get(2).update()).isSameAs(missing);
+        assertThat(results.get(2).failure())
+                .isInstanceOf(GameNotFoundException.class)
+                .hasMessageContaining("not found");
+        assertThat(results.get(3).failure())
+                .isInstanceOf(GameValidationException.class)
+                .hasMessageContaining("Away score cannot be negative");
+
+        verify(gameRepository, times(1)).updateScores(List.of(found, missing));
+        verifyNoMoreInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should return empty outcome list for empty batch")
+    void shouldReturnEmptyOutcomesForEmptyBatch() {
+        // Given
+        when(gameRepository.updateScores(List.of())).thenReturn(List.of());
 
         // When
-        final List<Game> summary = gameService.getSummaryByTotalScoreAndReverseOrder();
+        final List<ScoreUpdateResult> results = gameService.updateScores(List.of());
 
         // Then
-        assertThat(summary).isNotNull().hasSize(5);
+        assertThat(results).isEmpty();
+    }
 
-        assertThat(summary.get(0).homeTeam()).isEqualTo("Uruguay");
-        assertThat(summary.get(0).awayTeam()).isEqualTo("Italy");
-        assertThat(summary.get(0).getTotalScore()).isEqualTo(12);
+    @Test
+    @DisplayName("Should return top N games as the first summary page")
+    void shouldReturnTopGamesAsFirstPage() {
+        // Given
+        final List<Game> topGames = List.of(Game.createWithScores("Uruguay", "Italy", 6, 6));
+        when(gameRepository.findAllByTotalScoreAndReverseOrder(0, 1)).thenReturn(topGames);
 
-        assertThat(summary.get(1).homeTeam()).isEqualTo("Spain");
-        assertThat(summary.get(1).awayTeam()).isEqualTo("Brazil");
-        assertThat(summary.get(1).getTotalScore()).isEqualTo(12);
+        // When
+        final List<Game> summary = gameService.getSummaryTop(1);
 
-        assertThat(summary.get(2).homeTeam()).isEqualTo("Mexico");
-        assertThat(summary.get(2).awayTeam()).isEqualTo("Canada");
-        assertThat(summary.get(2).getTotalScore()).isEqualTo(5);
+        // Then
+        assertThat(summary).isSameAs(topGames);
+        verify(gameRepository, times(1)).findAllByTotalScoreAndReverseOrder(0, 1);
+        verifyNoMoreInteractions(gameRepository);
+    }
 
-        assertThat(summary.get(3).homeTeam()).isEqualTo("Argentina");
-        assertThat(summary.get(3).awayTeam()).isEqualTo("Australia");
-        assertThat(summary.get(3).getTotalScore()).isEqualTo(4);
+    @Test
+    @DisplayName("Should return summary page provided by the repository")
+    void shouldReturnSummaryPageFromRepository() {
+        // Given
+        final List<Game> page = List.of(Game.createWithScores("Mexico", "Canada", 0, 5));
+        when(gameRepository.findAllByTotalScoreAndReverseOrder(2, 1)).thenReturn(page);
 
-        assertThat(summary.get(4).homeTeam()).isEqualTo("Germany");
-        assertThat(summary.get(4).awayTeam()).isEqualTo("France");
-        assertThat(summary.get(4).getTotalScore()).isEqualTo(4);
+        // When
+        final List<Game> summary = gameService.getSummaryPage(2, 1);
 
-        verify(gameRepository, times(1)).findAll();
+        // Then
+        assertThat(summary).isSameAs(page);
+        verify(gameRepository, times(1)).findAllByTotalScoreAndReverseOrder(2, 1);
         verifyNoMoreInteractions(gameRepository);
     }
 
     @Test
-    @DisplayName("Should return single game when only one game exists")
-    void shouldReturnSingleGameWhenOnlyOneExists() {
+    @DisplayName("Should throw GameValidationException and not query repository for invalid page")
+    void shouldThrowWhenSummaryPageInvalid() {
+        // When & Then
+        assertThatThrownBy(() -> gameService.getSummaryPage(-1, 10))
+                .isInstanceOf(GameValidationException.class)
+                .hasMessageContaining("Offset cannot be negative");
+        assertThatThrownBy(() -> gameService.getSummaryTop(-1))
+                .isInstanceOf(GameValidationException.class)
+                .hasMessageContaining("Limit cannot be negative");
+
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should return summary provided by the repository ordered by total score and reverse order")
+    void shouldReturnSummaryFromRepository() {
         // Given
-        final Game singleGame = Game.createWithScores("Mexico", "Canada", 0, 5);
-        when(gameRepository.findAll()).thenReturn(new ArrayList<>(List.of(singleGame)));
+        final List<Game> orderedGames = List.of(
+                Game.createWithScores("Uruguay", "Italy", 6, 6),
+                Game.createWithScores("Spain", "Brazil", 10, 2),
+                Game.createWithScores("Mexico", "Canada", 0, 5)
+        );
+        when(gameRepository.findAllByTotalScoreAndReverseOrder()).thenReturn(orderedGames);
 
         // When
         final List<Game> summary = gameService.getSummaryByTotalScoreAndReverseOrder();
 
         // Then
-        assertThat(summary).isNotNull().hasSize(1);
-        assertThat(summary.get(0).homeTeam()).isEqualTo("Mexico");
-        assertThat(summary.get(0).awayTeam()).isEqualTo("Canada");
-        verify(gameRepository, times(1)).findAll();
+        assertThat(summary).isEqualTo(orderedGames);
+        verify(gameRepository, times(1)).findAllByTotalScoreAndReverseOrder();
         verifyNoMoreInteractions(gameRepository);
     }
 
+    @Test
+    @DisplayName("Should publish summary changes after successful writes on the writing thread when opted in")
+    void shouldPublishSummaryChangesAfterWrites() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final Game updatedGame = Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0);
+        when(gameRepository.saveIfAbsent(game)).thenReturn(Optional.empty());
+        when(gameRepository.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0)).thenReturn(Optional.of(updatedGame));
+        when(gameRepository.updateScores(List.of())).thenReturn(List.of());
+        when(gameRepository.deleteByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.of(updatedGame));
+        when(gameRepository.findAllByTotalScoreAndReverseOrder())
+                .thenReturn(List.of(), List.of(game), List.of(updatedGame), List.of());
+        final SummaryPublisherTest.RecordingSubscriber subscriber = new SummaryPublisherTest.RecordingSubscriber();
+        gameService.getSummaryChanges(Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // When
+        gameService.startGame(HOME_TEAM, AWAY_TEAM);
+        gameService.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+        gameService.updateScores(List.of());
+        gameService.finishGame(HOME_TEAM, AWAY_TEAM);
+
+        // Then
+        assertThat(subscriber.changes).hasSize(3);
+        assertThat(subscriber.board()).isEmpty();
+        verify(gameRepository, times(4)).findAllByTotalScoreAndReverseOrder();
+    }
+
+    @Test
+    @DisplayName("Should not block a write behind a subscriber that blocks by default")
+    void shouldNotBlockWritesBehindBlockingSubscriber() throws Exception {
+        // Given
+        final GameServiceImpl concurrentService = new GameServiceImpl(new ConcurrentGameRepository());
+        final CountDownLatch delivering = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final SummaryPublisherTest.RecordingSubscriber subscriber = new SummaryPublisherTest.RecordingSubscriber() {
+            @Override
+            public void onNext(SummaryChange item) {
+                delivering.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onNext(item);
+            }
+        };
+        concurrentService.getSummaryChanges().subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        concurrentService.startGame(HOME_TEAM, AWAY_TEAM);
+        delivering.await();
+
+        // When
+        final CompletableFuture<Game> write = CompletableFuture.supplyAsync(() -> concurrentService.startGame("Spain", "Brazil"));
+
+        // Then
+        assertThat(write.get(5, TimeUnit.SECONDS)).isEqualTo(Game.createNew("Spain", "Brazil"));
+        assertThat(concurrentService.getBoardVersion()).isEqualTo(2);
+        release.countDown();
+    }
+
     @Test
     @DisplayName("Should return empty list when no games exists")
     void shouldReturnEmptyListWhenNoGamesExists() {
         // Given
-        when(gameRepository.findAll()).thenReturn(Collections.emptyList());
+        when(gameRepository.findAllByTotalScoreAndReverseOrder()).thenReturn(Collections.emptyList());
 
         // When
         final List<Game> summary = gameService.getSummaryByTotalScoreAndReverseOrder();
 
         // Then
         assertThat(summary).isNotNull().isEmpty();
-        verify(gameRepository, times(1)).findAll();
+        verify(gameRepository, times(1)).findAllByTotalScoreAndReverseOrder();
+        verifyNoMoreInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should increase the board version on successful writes only")
+    void shouldIncreaseBoardVersionOnSuccessfulWrites() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        when(gameRepository.saveIfAbsent(game)).thenReturn(Optional.empty());
+        when(gameRepository.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0)).thenReturn(Optional.of(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0)));
+        when(gameRepository.deleteByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.of(game), Optional.empty());
+        final long initialVersion = gameService.getBoardVersion();
+
+        // When
+        gameService.startGame(HOME_TEAM, AWAY_TEAM);
+        gameService.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+        gameService.finishGame(HOME_TEAM, AWAY_TEAM);
+        assertThatThrownBy(() -> gameService.finishGame(HOME_TEAM, AWAY_TEAM)).isInstanceOf(GameNotFoundException.class);
+
+        // Then
+        assertThat(initialVersion).isZero();
+        assertThat(gameService.getBoardVersion()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should leave the board version unchanged by stale versioned updates and batches that update nothing")
+    void shouldKeepBoardVersionWhenNothingChanged() {
+        // Given
+        final Game storedGame = Game.createWithScores(HOME_TEAM, AWAY_TEAM, 2, 0);
+        final ScoreUpdate missing = new ScoreUpdate("Spain", "Brazil", 1, 0);
+        final ScoreUpdate negativeScore = new ScoreUpdate(HOME_TEAM, AWAY_TEAM, -1, 0);
+        when(gameRepository.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 3L))
+                .thenReturn(Optional.of(VersionedUpdateResult.stale(storedGame)));
+        when(gameRepository.updateScores(List.of(missing))).thenReturn(List.of(Optional.empty()));
+
+        // When
+        final Game staleResult = gameService.updateScoreIfNewer(HOME_TEAM, AWAY_TEAM, 1, 0, 3L);
+        final List<ScoreUpdateResult> batchResults = gameService.updateScores(List.of(missing, negativeScore));
+
+        // Then
+        assertThat(staleResult).isSameAs(storedGame);
+        assertThat(batchResults).noneMatch(ScoreUpdateResult::isUpdated);
+        assertThat(gameService.getBoardVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report try writes that were applied as OK")
+    void shouldReportAppliedTryWritesAsOk() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        when(gameRepository.saveIfAbsent(game)).thenReturn(Optional.empty());
+        when(gameRepository.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0)).thenReturn(Optional.of(Game.createWithScores(HOME_TEAM, AWAY_TEAM, 1, 0)));
+        when(gameRepository.deleteByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.of(game));
+
+        // When / Then
+        assertThat(gameService.tryStart(HOME_TEAM, AWAY_TEAM)).isEqualTo(GameWriteStatus.OK);
+        assertThat(gameService.tryUpdate(HOME_TEAM, AWAY_TEAM, 1, 0)).isEqualTo(GameWriteStatus.OK);
+        assertThat(gameService.tryFinish(HOME_TEAM, AWAY_TEAM).isOk()).isTrue();
+        assertThat(gameService.getBoardVersion()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should report rejected try writes by status without throwing or touching the board")
+    void shouldReportRejectedTryWritesByStatus() {
+        // Given
+        final Game game = Game.createNew(HOME_TEAM, AWAY_TEAM);
+        final GameServiceImpl strictGameService = new GameServiceImpl(gameRepository, true);
+        when(gameRepository.saveIfAbsent(game)).thenReturn(Optional.of(Game.createWithScores("POLAND", "argentina", 1, 1)));
+        when(gameRepository.saveIfTeamsFree(game)).thenReturn(Optional.of(Game.createNew(HOME_TEAM, "Spain")));
+        when(gameRepository.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0)).thenReturn(Optional.empty());
+        when(gameRepository.deleteByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThat(gameService.tryStart(HOME_TEAM, AWAY_TEAM)).isEqualTo(GameWriteStatus.ALREADY_EXISTS);
+        assertThat(strictGameService.tryStart(HOME_TEAM, AWAY_TEAM)).isEqualTo(GameWriteStatus.TEAM_ALREADY_PLAYING);
+        assertThat(gameService.tryUpdate(HOME_TEAM, AWAY_TEAM, 1, 0)).isEqualTo(GameWriteStatus.NOT_FOUND);
+        assertThat(gameService.tryFinish(HOME_TEAM, AWAY_TEAM).isOk()).isFalse();
+        assertThat(gameService.tryStart(HOME_TEAM, HOME_TEAM)).isEqualTo(GameWriteStatus.INVALID);
+        assertThat(gameService.tryUpdate(HOME_TEAM, " ", 1, 0)).isEqualTo(GameWriteStatus.INVALID);
+        assertThat(gameService.tryUpdate(HOME_TEAM, AWAY_TEAM, -1, 0)).isEqualTo(GameWriteStatus.INVALID);
+        assertThat(gameService.tryFinish(null, AWAY_TEAM)).isEqualTo(GameWriteStatus.INVALID);
+        assertThat(gameService.getBoardVersion()).isZero();
         verifyNoMoreInteractions(gameRepository);
     }
+
+    @Test
+    @DisplayName("Should throw rejections without a stack trace and build their messages when read")
+    void shouldThrowLightweightExceptions() {
+        // Given
+        when(gameRepository.deleteByTeams(HOME_TEAM, AWAY_TEAM)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> gameService.finishGame(HOME_TEAM, AWAY_TEAM))
+                .isInstanceOf(GameNotFoundException.class)
+                .hasMessage("Game between Poland and Argentina not found.")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
 }
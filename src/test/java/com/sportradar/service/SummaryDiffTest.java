@@ -0,0 +1,128 @@
+package com.sportradar.service;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.SummaryChange;
+import com.sportradar.domain.SummaryDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SummaryDiff Tests")
+class SummaryDiffTest {
+
+    private static final Game POLAND_ARGENTINA = Game.createWithScores("Poland", "Argentina", 2, 2);
+    private static final Game SPAIN_BRAZIL = Game.createWithScores("Spain", "Brazil", 1, 1);
+    private static final Game GERMANY_FRANCE = Game.createWithScores("Germany", "France", 1, 0);
+    private static final Game MEXICO_CANADA = Game.createNew("Mexico", "Canada");
+
+    @Test
+    @DisplayName("Should return no deltas for an unchanged summary")
+    void shouldReturnNoDeltasForUnchangedSummary() {
+        // Given
+        final List<Game> summary = List.of(POLAND_ARGENTINA, SPAIN_BRAZIL, GERMANY_FRANCE);
+
+        // When
+        final SummaryChange change = SummaryDiff.diff(summary, List.copyOf(summary));
+
+        // Then
+        assertThat(change.deltas()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report a score update that overtakes other games as a single move")
+    void shouldReportOvertakingUpdateAsSingleMove() {
+        // Given
+        final Game updated = Game.createWithScores("Mexico", "Canada", 3, 0);
+        final List<Game> previous = List.of(POLAND_ARGENTINA, SPAIN_BRAZIL, GERMANY_FRANCE, MEXICO_CANADA);
+        final List<Game> current = List.of(POLAND_ARGENTINA, updated, SPAIN_BRAZIL, GERMANY_FRANCE);
+
+        // When
+        final SummaryChange change = SummaryDiff.diff(previous, current);
+
+        // Then
+        assertThat(change.deltas()).containsExactly(new SummaryDelta.Moved(updated, 3, 1));
+        assertThat(change.applyTo(previous)).isEqualTo(current);
+    }
+
+    @Test
+    @DisplayName("Should report a score update that keeps its position as a move in place")
+    void shouldReportInPlaceUpdateAsMoveInPlace() {
+        // Given
+        final Game updated = Game.createWithScores("Spain", "Brazil", 2, 1);
+        final List<Game> previous = List.of(POLAND_ARGENTINA, SPAIN_BRAZIL, GERMANY_FRANCE);
+        final List<Game> current = List.of(POLAND_ARGENTINA, updated, GERMANY_FRANCE);
+
+        // When
+        final SummaryChange change = SummaryDiff.diff(previous, current);
+
+        // Then
+        assertThat(change.deltas()).containsExactly(new SummaryDelta.Moved(updated, 1, 1));
+        assertThat(change.applyTo(previous)).isEqualTo(current);
+    }
+
+    @Test
+    @DisplayName("Should report started and finished games as inserted and removed")
+    void shouldReportInsertedAndRemovedGames() {
+        // Given
+        final List<Game> previous = List.of(POLAND_ARGENTINA, SPAIN_BRAZIL, GERMANY_FRANCE);
+        final List<Game> current = List.of(POLAND_ARGENTINA, GERMANY_FRANCE, MEXICO_CANADA);
+
+        // When
+        final SummaryChange change = SummaryDiff.diff(previous, current);
+
+        // Then
+        assertThat(change.deltas()).containsExactly(
+                new SummaryDelta.Removed(SPAIN_BRAZIL, 1),
+                new SummaryDelta.Inserted(MEXICO_CANADA, 2));
+        assertThat(change.applyTo(previous)).isEqualTo(current);
+    }
+
+    @Test
+    @DisplayName("Should insert the whole summary when nothing was delivered yet")
+    void shouldInsertWholeSummaryIntoEmptySummary() {
+        // Given
+        final List<Game> current = List.of(POLAND_ARGENTINA, SPAIN_BRAZIL);
+
+        // When
+        final SummaryChange change = SummaryDiff.diff(List.of(), current);
+
+        // Then
+        assertThat(change.deltas()).containsExactly(
+                new SummaryDelta.Inserted(POLAND_ARGENTINA, 0),
+                new SummaryDelta.Inserted(SPAIN_BRAZIL, 1));
+    }
+
+    @Test
+    @DisplayName("Should produce deltas that turn any summary into any other")
+    void shouldTurnRandomSummariesIntoEachOther() {
+        // Given
+        final Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            final List<Game> previous = randomSummary(random);
+            final List<Game> current = randomSummary(random);
+
+            // When
+            final SummaryChange change = SummaryDiff.diff(previous, current);
+
+            // Then
+            assertThat(change.applyTo(previous)).isEqualTo(current);
+        }
+    }
+
+    private static List<Game> randomSummary(Random random) {
+        final List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            if (random.nextBoolean()) {
+                games.add(Game.createWithScores("Home " + i, "Away " + i, random.nextInt(3), random.nextInt(3)));
+            }
+        }
+        games.sort(Comparator.comparingInt(Game::getTotalScore).reversed());
+        return games;
+    }
+}
@@ -0,0 +1,335 @@
+package com.sportradar.service;
+
+import com.sportradar.domain.Game;
+import com.sportradar.domain.SummaryChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SummaryPublisher Tests")
+class SummaryPublisherTest {
+
+    private static final Game POLAND_ARGENTINA = Game.createNew("Poland", "Argentina");
+    private static final Game SPAIN_BRAZIL = Game.createNew("Spain", "Brazil");
+    private List<Game> summary;
+    private long version;
+    private SummaryPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        summary = List.of();
+        publisher = new SummaryPublisher(() -> summary, () -> version);
+    }
+
+    @Test
+    @DisplayName("Should deliver the current summary and then each change")
+    void shouldDeliverSummaryAndChanges() {
+        // Given
+        summary = List.of(POLAND_ARGENTINA);
+        final RecordingSubscriber subscriber = subscribe();
+
+        // When
+        subscriber.subscription.request(Long.MAX_VALUE);
+        summary = List.of(POLAND_ARGENTINA, SPAIN_BRAZIL);
+        publisher.publish();
+
+        // Then
+        assertThat(subscriber.changes).hasSize(2);
+        assertThat(subscriber.board()).containsExactly(POLAND_ARGENTINA, SPAIN_BRAZIL);
+    }
+
+    @Test
+    @DisplayName("Should conflate changes made while the subscriber had no demand")
+    void shouldConflateChangesWithoutDemand() {
+        // Given
+        final RecordingSubscriber subscriber = subscribe();
+
+        // When
+        summary = List.of(POLAND_ARGENTINA);
+        publisher.publish();
+        summary = List.of(SPAIN_BRAZIL, POLAND_ARGENTINA);
+        publisher.publish();
+        summary = List.of(SPAIN_BRAZIL);
+        publisher.publish();
+        subscriber.subscription.request(1);
+
+        // Then
+        assertThat(subscriber.changes).hasSize(1);
+        assertThat(subscriber.board()).containsExactly(SPAIN_BRAZIL);
+    }
+
+    @Test
+    @DisplayName("Should not deliver when the summary did not change")
+    void shouldSkipUnchangedSummary() {
+        // Given
+        final RecordingSubscriber subscriber = subscribe();
+        subscriber.subscription.request(1);
+
+        // When
+        publisher.publish();
+        summary = List.of(POLAND_ARGENTINA);
+        publisher.publish();
+
+        // Then
+        assertThat(subscriber.changes).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should keep unbounded demand when more is requested")
+    void shouldCapDemandOnOverflow() {
+        // Given
+        final RecordingSubscriber subscriber = subscribe();
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // When
+        subscriber.subscription.request(Long.MAX_VALUE);
+        for (int i = 0; i < 3; i++) {
+            summary = List.of(Game.createWithScores("Poland", "Argentina", i, 0));
+            publisher.publish();
+        }
+
+        // Then
+        assertThat(subscriber.changes).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should stop delivering after cancel")
+    void shouldStopDeliveringAfterCancel() {
+        // Given
+        final RecordingSubscriber subscriber = subscribe();
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // When
+        subscriber.subscription.cancel();
+        summary = List.of(POLAND_ARGENTINA);
+        publisher.publish();
+        subscriber.subscription.request(1);
+
+        // Then
+        assertThat(subscriber.changes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should signal an error for non-positive demand")
+    void shouldSignalErrorForNonPositiveDemand() {
+        // Given
+        final RecordingSubscriber subscriber = subscribe();
+
+        // When
+        subscriber.subscription.request(0);
+        summary = List.of(POLAND_ARGENTINA);
+        publisher.publish();
+
+        // Then
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(subscriber.changes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should cancel a subscriber that throws from onNext without failing the writer")
+    void shouldCancelThrowingSubscriber() {
+        // Given
+        final RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(SummaryChange item) {
+                super.onNext(item);
+                throw new IllegalStateException("subscriber failed");
+            }
+        };
+        publisher.on(Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // When
+        summary = List.of(POLAND_ARGENTINA);
+        publisher.publish();
+        summary = List.of(SPAIN_BRAZIL);
+        publisher.publish();
+
+        // Then
+        assertThat(subscriber.changes).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should deliver changes on the given executor")
+    void shouldDeliverOnExecutor() throws InterruptedException {
+        // Given
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch delivered = new CountDownLatch(1);
+        final List<String> threads = new ArrayList<>();
+        final RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(SummaryChange item) {
+                super.onNext(item);
+                threads.add(Thread.currentThread().getName());
+                delivered.countDown();
+            }
+        };
+        summary = List.of(POLAND_ARGENTINA);
+        publisher.on(executor).subscribe(subscriber);
+
+        // When
+        subscriber.subscription.request(1);
+
+        // Then
+        try {
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(threads).doesNotContain(Thread.currentThread().getName());
+        assertThat(subscriber.board()).containsExactly(POLAND_ARGENTINA);
+    }
+
+    @Test
+    @DisplayName("Should read the summary on the publishing thread and not at all without subscribers")
+    void shouldReadSummaryOnPublishingThread() throws InterruptedException {
+        // Given
+        final List<String> readingThreads = new ArrayList<>();
+        final SummaryPublisher trackingPublisher = new SummaryPublisher(() -> {
+            readingThreads.add(Thread.currentThread().getName());
+            return summary;
+        }, () -> version);
+        trackingPublisher.publish();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch delivered = new CountDownLatch(1);
+        final RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(SummaryChange item) {
+                super.onNext(item);
+                delivered.countDown();
+            }
+        };
+        trackingPublisher.on(executor).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        // When
+        summary = List.of(POLAND_ARGENTINA);
+        trackingPublisher.publish();
+
+        // Then
+        try {
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(readingThreads).containsOnly(Thread.currentThread().getName()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the summary of the newest board version when summaries arrive out of order")
+    void shouldKeepNewestVersion() {
+        // Given
+        final RecordingSubscriber subscriber = subscribe();
+
+        // When
+        version = 2;
+        summary = List.of(SPAIN_BRAZIL, POLAND_ARGENTINA);
+        publisher.publish();
+        version = 1;
+        summary = List.of(POLAND_ARGENTINA);
+        publisher.publish();
+        subscriber.subscription.request(1);
+
+        // Then
+        assertThat(subscriber.board()).containsExactly(SPAIN_BRAZIL, POLAND_ARGENTINA);
+    }
+
+    @Test
+    @DisplayName("Should signal an error for non-positive demand only after a running onNext returns")
+    void shouldSignalErrorAfterRunningOnNext() throws Exception {
+        // Given
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch inOnNext = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch failed = new CountDownLatch(1);
+        final RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(SummaryChange item) {
+                super.onNext(item);
+                inOnNext.countDown();
+                awaitQuietly(release);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                super.onError(throwable);
+                failed.countDown();
+            }
+        };
+        summary = List.of(POLAND_ARGENTINA);
+        publisher.on(executor).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertThat(inOnNext.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        subscriber.subscription.request(-1);
+        final Throwable errorWhileInOnNext = subscriber.error;
+        release.countDown();
+
+        // Then
+        try {
+            assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(errorWhileInOnNext).isNull();
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private RecordingSubscriber subscribe() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.on(Runnable::run).subscribe(subscriber);
+        return subscriber;
+    }
+
+    static class RecordingSubscriber implements Flow.Subscriber<SummaryChange> {
+        final List<SummaryChange> changes = new ArrayList<>();
+        Flow.Subscription subscription;
+        volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(SummaryChange item) {
+            changes.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        List<Game> board() {
+            List<Game> board = List.of();
+            for (SummaryChange change : changes) {
+                board = change.applyTo(board);
+            }
+            return board;
+        }
+    }
+}
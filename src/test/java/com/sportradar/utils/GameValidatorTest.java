@@ -11,6 +11,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -46,6 +47,30 @@ class GameValidatorTest {
                 .hasFieldOrPropertyWithValue("fieldName", "teams");
     }
 
+    @ParameterizedTest(name = "Should throw for invalid tournament ID: \"{0}\"")
+    @NullAndEmptySource
+    @ValueSource(strings = {" "})
+    @DisplayName("Should throw ValidationException for invalid tournament ID")
+    void validateTournamentId_ShouldThrowForInvalidId(String invalidTournamentId) {
+        // When & Then
+        assertThatThrownBy(() -> GameValidator.validateTournamentId(invalidTournamentId))
+                .isInstanceOf(GameValidationException.class)
+                .hasMessageContaining("Tournament ID cannot be null or blank")
+                .hasFieldOrPropertyWithValue("fieldName", "tournamentId");
+    }
+
+    @ParameterizedTest(name = "Should throw for invalid team: \"{0}\"")
+    @NullAndEmptySource
+    @ValueSource(strings = {" ", "\t"})
+    @DisplayName("Should throw ValidationException for invalid single team name")
+    void validateTeam_ShouldThrowForInvalidTeam(String invalidTeam) {
+        // When & Then
+        assertThatThrownBy(() -> GameValidator.validateTeam(invalidTeam))
+                .isInstanceOf(GameValidationException.class)
+                .hasMessageContaining("Team name cannot be null or blank")
+                .hasFieldOrPropertyWithValue("fieldName", "team");
+    }
+
     @ParameterizedTest(name = "Should throw for invalid home team: \"{0}\"")
     @NullAndEmptySource
     @ValueSource(strings = {" ", "\t", "\n"})
@@ -95,8 +120,9 @@ class GameValidatorTest {
         // When & Then
         assertThatThrownBy(() -> GameValidator.validateScores(negativeScore, awayScore))
                 .isInstanceOf(GameValidationException.class)
-                .hasMessageContaining("Home score cannot be negative")
-                .hasFieldOrPropertyWithValue("fieldName", "homeScore");
+                .hasMessage("Home score cannot be negative: " + negativeScore)
+                .hasFieldOrPropertyWithValue("fieldName", "homeScore")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
     }
 
     @ParameterizedTest(name = "Should throw for negative away score: {0}")
@@ -113,6 +139,67 @@ class GameValidatorTest {
                 .hasFieldOrPropertyWithValue("fieldName", "awayScore");
     }
 
+    @ParameterizedTest(name = "Should report team names \"{0}\" vs \"{1}\" as valid: {2}")
+    @CsvSource({
+            "Poland, Argentina, true",
+            "Poland, poland, false",
+            ", Argentina, false",
+            "' ', Argentina, false",
+            "Poland, , false",
+            "Poland, ' ', false"
+    })
+    @DisplayName("Should check team names without throwing")
+    void isValidTeamNames_ShouldMatchValidateTeamNames(String homeTeam, String awayTeam, boolean valid) {
+        // Act & Assert
+        assertThat(GameValidator.isValidTeamNames(homeTeam, awayTeam)).isEqualTo(valid);
+    }
+
+    @ParameterizedTest(name = "Should report scores {0}-{1} as valid: {2}")
+    @CsvSource({
+            "0, 0, true",
+            "3, 1, true",
+            "-1, 0, false",
+            "0, -1, false"
+    })
+    @DisplayName("Should check scores without throwing")
+    void isValidScores_ShouldMatchValidateScores(int homeScore, int awayScore, boolean valid) {
+        // Act & Assert
+        assertThat(GameValidator.isValidScores(homeScore, awayScore)).isEqualTo(valid);
+    }
+
+    @ParameterizedTest(name = "Should pass for page: offset {0}, limit {1}")
+    @CsvSource({
+            "0, 0",
+            "0, 10",
+            "20, 10"
+    })
+    @DisplayName("Should pass when offset and limit are zero or positive")
+    void validatePage_ShouldPassForZeroOrPositiveValues(int offset, int limit) {
+        // Act & Assert
+        assertThatCode(() -> GameValidator.validatePage(offset, limit))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException for negative offset")
+    void validatePage_ShouldThrowForNegativeOffset() {
+        // When & Then
+        assertThatThrownBy(() -> GameValidator.validatePage(-1, 10))
+                .isInstanceOf(GameValidationException.class)
+                .hasMessageContaining("Offset cannot be negative")
+                .hasFieldOrPropertyWithValue("fieldName", "offset");
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException for negative limit")
+    void validatePage_ShouldThrowForNegativeLimit() {
+        // When & Then
+        assertThatThrownBy(() -> GameValidator.validatePage(0, -1))
+                .isInstanceOf(GameValidationException.class)
+                .hasMessageContaining("Limit cannot be negative")
+                .hasFieldOrPropertyWithValue("fieldName", "limit");
+    }
+
     @Test
     @DisplayName("Should throw AssertionError when attempting to instantiate via Reflection")
     void constructor_ShouldThrowAssertionError() throws NoSuchMethodException {
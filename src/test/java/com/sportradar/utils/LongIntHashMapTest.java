@@ -0,0 +1,149 @@
+package com.sportradar.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LongIntHashMap Tests")
+class LongIntHashMapTest {
+
+    private LongIntHashMap map;
+
+    @BeforeEach
+    void setUp() {
+        map = new LongIntHashMap();
+    }
+
+    @Test
+    @DisplayName("Should be empty when created")
+    void shouldBeEmptyWhenCreated() {
+        // Then
+        assertThat(map.size()).isZero();
+        assertThat(map.get(42L)).isEqualTo(LongIntHashMap.MISSING);
+    }
+
+    @Test
+    @DisplayName("Should put and get values including zero and negative keys")
+    void shouldPutAndGetValues() {
+        // When
+        map.put(0L, 0);
+        map.put(-1L, 1);
+        map.put(Long.MAX_VALUE, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(map.get(0L)).isZero();
+        assertThat(map.get(-1L)).isEqualTo(1);
+        assertThat(map.get(Long.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(map.get(1L)).isEqualTo(LongIntHashMap.MISSING);
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should replace value and return previous one when key already present")
+    void shouldReplaceValueWhenKeyPresent() {
+        // Given
+        map.put(7L, 1);
+
+        // When
+        final int previous = map.put(7L, 2);
+
+        // Then
+        assertThat(previous).isEqualTo(1);
+        assertThat(map.get(7L)).isEqualTo(2);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return missing value when putting a new key")
+    void shouldReturnMissingWhenPuttingNewKey() {
+        // When & Then
+        assertThat(map.put(7L, 1)).isEqualTo(LongIntHashMap.MISSING);
+    }
+
+    @Test
+    @DisplayName("Should remove value and return it when key present")
+    void shouldRemoveValueWhenKeyPresent() {
+        // Given
+        map.put(7L, 70);
+        map.put(8L, 80);
+
+        // When
+        final int removed = map.remove(7L);
+
+        // Then
+        assertThat(removed).isEqualTo(70);
+        assertThat(map.get(7L)).isEqualTo(LongIntHashMap.MISSING);
+        assertThat(map.get(8L)).isEqualTo(80);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return missing value when removing absent key")
+    void shouldReturnMissingWhenRemovingAbsentKey() {
+        // Given
+        map.put(7L, 70);
+
+        // When & Then
+        assertThat(map.remove(8L)).isEqualTo(LongIntHashMap.MISSING);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject the missing marker as a value")
+    void shouldRejectMissingMarkerAsValue() {
+        // When & Then
+        assertThatThrownBy(() -> map.put(1L, LongIntHashMap.MISSING))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should grow beyond initial capacity and keep all entries")
+    void shouldGrowAndKeepEntries() {
+        // Given
+        final LongIntHashMap smallMap = new LongIntHashMap(1);
+
+        // When
+        for (int key = 0; key < 10_000; key++) {
+            smallMap.put((long) key << 32 | (key + 1), key);
+        }
+
+        // Then
+        assertThat(smallMap.size()).isEqualTo(10_000);
+        for (int key = 0; key < 10_000; key++) {
+            assertThat(smallMap.get((long) key << 32 | (key + 1))).isEqualTo(key);
+        }
+    }
+
+    @Test
+    @DisplayName("Should behave like HashMap under random puts and removes")
+    void shouldBehaveLikeHashMapUnderRandomOperations() {
+        // Given
+        final Map<Long, Integer> expected = new HashMap<>();
+        final Random random = new Random(20_260_101L);
+
+        // When
+        for (int operation = 0; operation < 200_000; operation++) {
+            final long key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.getOrDefault(key, LongIntHashMap.MISSING));
+                expected.remove(key);
+            } else {
+                assertThat(map.put(key, operation)).isEqualTo(expected.getOrDefault(key, LongIntHashMap.MISSING));
+                expected.put(key, operation);
+            }
+        }
+
+        // Then
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, LongIntHashMap.MISSING));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.sportradar.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LongObjectHashMap Tests")
+class LongObjectHashMapTest {
+
+    private LongObjectHashMap<String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new LongObjectHashMap<>();
+    }
+
+    @Test
+    @DisplayName("Should be empty when created")
+    void shouldBeEmptyWhenCreated() {
+        // Then
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.size()).isZero();
+        assertThat(map.get(42L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should put and get values including zero and negative keys")
+    void shouldPutAndGetValues() {
+        // When
+        map.put(0L, "zero");
+        map.put(-1L, "minus one");
+        map.put(Long.MAX_VALUE, "max");
+
+        // Then
+        assertThat(map.get(0L)).isEqualTo("zero");
+        assertThat(map.get(-1L)).isEqualTo("minus one");
+        assertThat(map.get(Long.MAX_VALUE)).isEqualTo("max");
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should replace value and return previous one when key already present")
+    void shouldReplaceValueWhenKeyPresent() {
+        // Given
+        map.put(7L, "first");
+
+        // When
+        final String previous = map.put(7L, "second");
+
+        // Then
+        assertThat(previous).isEqualTo("first");
+        assertThat(map.get(7L)).isEqualTo("second");
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should remove value and return it when key present")
+    void shouldRemoveValueWhenKeyPresent() {
+        // Given
+        map.put(7L, "seven");
+        map.put(8L, "eight");
+
+        // When
+        final String removed = map.remove(7L);
+
+        // Then
+        assertThat(removed).isEqualTo("seven");
+        assertThat(map.get(7L)).isNull();
+        assertThat(map.get(8L)).isEqualTo("eight");
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return null when removing absent key")
+    void shouldReturnNullWhenRemovingAbsentKey() {
+        // Given
+        map.put(7L, "seven");
+
+        // When & Then
+        assertThat(map.remove(8L)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject null values")
+    void shouldRejectNullValues() {
+        // When & Then
+        assertThatThrownBy(() -> map.put(1L, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Should grow beyond initial capacity and keep all entries")
+    void shouldGrowAndKeepEntries() {
+        // Given
+        final LongObjectHashMap<String> smallMap = new LongObjectHashMap<>(1);
+
+        // When
+        for (long key = 0; key < 10_000; key++) {
+            smallMap.put(key << 32 | (key + 1), "value-" + key);
+        }
+
+        // Then
+        assertThat(smallMap.size()).isEqualTo(10_000);
+        for (long key = 0; key < 10_000; key++) {
+            assertThat(smallMap.get(key << 32 | (key + 1))).isEqualTo("value-" + key);
+        }
+    }
+
+    @Test
+    @DisplayName("Should behave like HashMap under random puts and removes")
+    void shouldBehaveLikeHashMapUnderRandomOperations() {
+        // Given
+        final Map<Long, String> expected = new HashMap<>();
+        final Random random = new Random(20_260_101L);
+
+        // When
+        for (int operation = 0; operation < 200_000; operation++) {
+            final long key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                final String value = "v" + operation;
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            }
+        }
+
+        // Then
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+}
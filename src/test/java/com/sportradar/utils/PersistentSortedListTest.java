@@ -0,0 +1,129 @@
+package com.sportradar.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PersistentSortedList Tests")
+class PersistentSortedListTest {
+
+    private static final PersistentSortedList<Integer> EMPTY = PersistentSortedList.empty(Comparator.naturalOrder());
+
+    @Test
+    @DisplayName("Should be empty when created")
+    void shouldBeEmptyWhenCreated() {
+        // Then
+        assertThat(EMPTY).isEmpty();
+        assertThat(EMPTY.iterator().hasNext()).isFalse();
+        assertThatThrownBy(() -> EMPTY.iterator().next()).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep elements sorted and reachable by index")
+    void shouldKeepElementsSorted() {
+        // When
+        final PersistentSortedList<Integer> list = EMPTY.with(5).with(1).with(3);
+
+        // Then
+        assertThat(list).containsExactly(1, 3, 5);
+        assertThat(list.get(0)).isEqualTo(1);
+        assertThat(list.get(2)).isEqualTo(5);
+        assertThatThrownBy(() -> list.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Should replace an element that compares equal")
+    void shouldReplaceEqualElement() {
+        // Given
+        final PersistentSortedList<String> list = PersistentSortedList.<String>empty(String.CASE_INSENSITIVE_ORDER)
+                .with("poland").with("argentina");
+
+        // When
+        final PersistentSortedList<String> replaced = list.with("POLAND");
+
+        // Then
+        assertThat(replaced).containsExactly("argentina", "POLAND");
+        assertThat(list).containsExactly("argentina", "poland");
+    }
+
+    @Test
+    @DisplayName("Should return the same list when removing an absent element")
+    void shouldReturnSameListWhenRemovingAbsentElement() {
+        // Given
+        final PersistentSortedList<Integer> list = EMPTY.with(2).with(4).with(6);
+
+        // When & Then
+        assertThat(list.without(1)).isSameAs(list);
+        assertThat(list.without(5)).isSameAs(list);
+        assertThat(list.without(7)).isSameAs(list);
+        assertThat(EMPTY.without(1)).isSameAs(EMPTY);
+    }
+
+    @Test
+    @DisplayName("Should leave earlier versions unchanged")
+    void shouldLeaveEarlierVersionsUnchanged() {
+        // Given
+        final PersistentSortedList<Integer> first = EMPTY.with(1).with(2);
+
+        // When
+        final PersistentSortedList<Integer> second = first.with(3).without(1);
+
+        // Then
+        assertThat(first).containsExactly(1, 2);
+        assertThat(second).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("Should reject modification through the list interface")
+    void shouldRejectModification() {
+        // Given
+        final PersistentSortedList<Integer> list = EMPTY.with(1);
+
+        // When & Then
+        assertThatThrownBy(() -> list.add(2)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(list::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should match a TreeSet under random inserts and removals")
+    void shouldMatchTreeSetUnderRandomOperations() {
+        // Given
+        final Random random = new Random(42);
+        final TreeSet<Integer> expected = new TreeSet<>();
+        PersistentSortedList<Integer> list = EMPTY;
+
+        // When
+        for (int operation = 0; operation < 20_000; operation++) {
+            final int value = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(value);
+                list = list.without(value);
+            } else {
+                expected.add(value);
+                list = list.with(value);
+            }
+        }
+
+        // Then
+        assertThat(list).containsExactlyElementsOf(expected);
+        final List<Integer> byIndex = new ArrayList<>();
+        for (int index = 0; index < list.size(); index++) {
+            byIndex.add(list.get(index));
+        }
+        assertThat(byIndex).containsExactlyElementsOf(expected);
+        final Iterator<Integer> iterator = list.iterator();
+        expected.forEach(value -> assertThat(iterator.next()).isEqualTo(value));
+        assertThat(iterator.hasNext()).isFalse();
+    }
+}